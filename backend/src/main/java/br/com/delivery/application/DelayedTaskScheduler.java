@@ -0,0 +1,8 @@
+package br.com.delivery.application;
+
+import java.time.Duration;
+
+@FunctionalInterface
+public interface DelayedTaskScheduler {
+  void schedule(Runnable task, Duration delay);
+}
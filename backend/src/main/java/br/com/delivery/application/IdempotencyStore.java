@@ -0,0 +1,129 @@
+package br.com.delivery.application;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import br.com.delivery.application.exceptions.IdempotencyKeyReuseException;
+
+public final class IdempotencyStore {
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+  private final int maxEntries;
+  private final long ttlNanos;
+  private final LongSupplier clock;
+
+  public IdempotencyStore(int maxEntries, Duration ttl) {
+    this(maxEntries, ttl, System::nanoTime);
+  }
+
+  IdempotencyStore(int maxEntries, Duration ttl, LongSupplier clock) {
+    if (maxEntries <= 0) {
+      throw new IllegalArgumentException("A capacidade do cache de idempotência deve ser positiva.");
+    }
+    if (ttl.isNegative() || ttl.isZero()) {
+      throw new IllegalArgumentException("Tempo de expiração inválido: " + ttl);
+    }
+
+    this.maxEntries = maxEntries;
+    this.ttlNanos = ttl.toNanos();
+    this.clock = clock;
+  }
+
+  public <T> T execute(String key, Supplier<T> operation) {
+    return execute(key, null, operation);
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T> T execute(String key, Object request, Supplier<T> operation) {
+    Objects.requireNonNull(key);
+    long now = clock.getAsLong();
+    evict(now);
+
+    Entry created = new Entry(key, fingerprint(request), now + ttlNanos);
+    Entry current = entries.compute(key, (k, existing) ->
+        existing != null && existing.expiresAt - now > 0 ? existing : created);
+    if (current != created) {
+      if (!MessageDigest.isEqual(current.fingerprint, created.fingerprint)) {
+        throw new IdempotencyKeyReuseException("A chave de idempotência já foi usada com outra requisição.");
+      }
+      return (T) await(current.result);
+    }
+
+    insertionOrder.add(created);
+    try {
+      T value = operation.get();
+      created.result.complete(value);
+      return value;
+    } catch (RuntimeException | Error e) {
+      entries.remove(key, created);
+      created.result.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  private void evict(long now) {
+    for (Entry oldest = insertionOrder.peek(); oldest != null; oldest = insertionOrder.peek()) {
+      boolean expired = oldest.expiresAt - now <= 0;
+      boolean stale = entries.get(oldest.key) != oldest;
+      if (!expired && !stale && entries.size() < maxEntries) {
+        return;
+      }
+      if (insertionOrder.remove(oldest)) {
+        entries.remove(oldest.key, oldest);
+      }
+    }
+  }
+
+  private static byte[] fingerprint(Object request) {
+    if (request == null) {
+      return new byte[0];
+    }
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(request.toString().getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static Object await(CompletableFuture<Object> result) {
+    try {
+      return result.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private static final class Entry {
+    private final String key;
+    private final byte[] fingerprint;
+    private final long expiresAt;
+    private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+    private Entry(String key, byte[] fingerprint, long expiresAt) {
+      this.key = key;
+      this.fingerprint = fingerprint;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
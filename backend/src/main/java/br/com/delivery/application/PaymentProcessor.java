@@ -0,0 +1,313 @@
+package br.com.delivery.application;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import br.com.delivery.application.exceptions.OrderNotFoundException;
+import br.com.delivery.application.exceptions.PaymentQueueFullException;
+import br.com.delivery.application.usecases.order.OptimisticRetry;
+import br.com.delivery.domain.exception.InvalidPaymentException;
+import br.com.delivery.domain.order.Order;
+import br.com.delivery.domain.payment.Payment;
+import br.com.delivery.domain.payment.PaymentId;
+import br.com.delivery.domain.payment.PaymentProcessingResult;
+import br.com.delivery.domain.payment.PaymentStatus;
+import br.com.delivery.domain.repositories.IOrderRepository;
+import br.com.delivery.domain.repositories.IPaymentRepository;
+
+public final class PaymentProcessor implements AutoCloseable {
+  private static final Logger LOGGER = LoggerFactory.getLogger(PaymentProcessor.class);
+
+  private final IOrderRepository orderRepository;
+  private final IPaymentRepository paymentRepository;
+  private final IdempotencyStore idempotencyStore;
+  private final ThreadPoolExecutor workers;
+  private final ExecutorService settlement;
+  private final ScheduledThreadPoolExecutor timeouts;
+  private final long callTimeoutNanos;
+  private final DelayedTaskScheduler pollScheduler;
+  private final PaymentRetryPolicy retryPolicy;
+  private final AtomicInteger scheduledPolls = new AtomicInteger();
+  private final AtomicInteger scheduledSettlements = new AtomicInteger();
+  private volatile boolean closed;
+
+  public PaymentProcessor(IOrderRepository orderRepository, IPaymentRepository paymentRepository, int maxConcurrency,
+      int queueCapacity, Duration callTimeout) {
+    this(orderRepository, paymentRepository, maxConcurrency, queueCapacity, callTimeout, null, null, null);
+  }
+
+  public PaymentProcessor(IOrderRepository orderRepository, IPaymentRepository paymentRepository, int maxConcurrency,
+      int queueCapacity, Duration callTimeout, DelayedTaskScheduler pollScheduler, PaymentRetryPolicy retryPolicy,
+      IdempotencyStore idempotencyStore) {
+    if (maxConcurrency <= 0 || queueCapacity <= 0) {
+      throw new IllegalArgumentException("Concorrência e capacidade da fila devem ser positivas.");
+    }
+    if (callTimeout.isNegative() || callTimeout.isZero()) {
+      throw new IllegalArgumentException("Tempo limite inválido: " + callTimeout);
+    }
+
+    this.orderRepository = Objects.requireNonNull(orderRepository);
+    this.paymentRepository = Objects.requireNonNull(paymentRepository);
+    this.callTimeoutNanos = callTimeout.toNanos();
+    this.workers = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 0, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity), daemonThreads("payment-worker-"), new ThreadPoolExecutor.AbortPolicy());
+    this.settlement = Executors.newSingleThreadExecutor(daemonThreads("payment-settlement-"));
+    this.timeouts = new ScheduledThreadPoolExecutor(1, daemonThreads("payment-timeout-"));
+    this.timeouts.setRemoveOnCancelPolicy(true);
+    if (pollScheduler != null) {
+      Objects.requireNonNull(retryPolicy, "A política de nova consulta é obrigatória com o agendador.");
+    }
+    this.pollScheduler = pollScheduler;
+    this.retryPolicy = retryPolicy;
+    this.idempotencyStore = idempotencyStore;
+  }
+
+  public CompletableFuture<Payment> submit(Payment payment, String idempotencyKey) {
+    return accept(payment, idempotencyKey).result();
+  }
+
+  public Submission accept(Payment payment, String idempotencyKey) {
+    if (idempotencyKey == null || idempotencyStore == null) {
+      return new Submission(payment.getId(), submit(payment));
+    }
+    String scopedKey = "payment:" + payment.getOrderId().value() + ":" + idempotencyKey;
+    List<Object> request = List.of(payment.getAmount(), payment.getPaymentMethod().getClass().getName());
+    return idempotencyStore.execute(scopedKey, request, () -> new Submission(payment.getId(), submit(payment)));
+  }
+
+  public CompletableFuture<Payment> submit(Payment payment) {
+    if (payment.getStatus() != PaymentStatus.PENDING) {
+      throw new InvalidPaymentException("O pagamento não pode ser processado no estado " + payment.getStatus());
+    }
+    orderRepository.findById(payment.getOrderId())
+        .orElseThrow(() -> new OrderNotFoundException("Pedido não encontrado com o ID: " + payment.getOrderId()))
+        .ensurePayable();
+
+    paymentRepository.save(payment);
+    Payment attempt = copyOf(payment);
+    CompletableFuture<PaymentProcessingResult> authorization = new CompletableFuture<>();
+    try {
+      workers.execute(() -> callGateway(attempt::requestAuthorization, attempt.getId(), authorization));
+    } catch (RejectedExecutionException e) {
+      attempt.cancel();
+      paymentRepository.save(attempt);
+      throw new PaymentQueueFullException("A fila de pagamentos está cheia. Tente novamente mais tarde.");
+    }
+    return authorization.thenApplyAsync(result -> settle(attempt, result, 0), settlement);
+  }
+
+  public int queuedPayments() {
+    return workers.getQueue().size();
+  }
+
+  public int scheduledPolls() {
+    return scheduledPolls.get();
+  }
+
+  public int scheduledSettlements() {
+    return scheduledSettlements.get();
+  }
+
+  private void schedulePoll(Payment payment, int attempt, boolean reauthorize) {
+    if (pollScheduler == null || closed || attempt > retryPolicy.maxAttempts()
+        || payment.getStatus() != PaymentStatus.PENDING) {
+      return;
+    }
+
+    PaymentId paymentId = payment.getId();
+    scheduledPolls.incrementAndGet();
+    pollScheduler.schedule(() -> poll(paymentId, attempt, reauthorize), retryPolicy.delayFor(attempt));
+  }
+
+  private void poll(PaymentId paymentId, int attempt, boolean reauthorize) {
+    scheduledPolls.decrementAndGet();
+    Payment payment = paymentRepository.findById(paymentId).orElse(null);
+    if (payment == null || payment.getStatus() != PaymentStatus.PENDING) {
+      return;
+    }
+
+    Supplier<PaymentProcessingResult> request = reauthorize
+        ? payment::requestAuthorization
+        : payment::queryAuthorization;
+    CompletableFuture<PaymentProcessingResult> status = new CompletableFuture<>();
+    try {
+      workers.execute(() -> callGateway(request, paymentId, status));
+    } catch (RejectedExecutionException e) {
+      schedulePoll(payment, attempt + 1, reauthorize);
+      return;
+    }
+
+    status.thenApplyAsync(result -> settle(payment, result, attempt), settlement)
+        .exceptionally(e -> {
+          LOGGER.warn("Falha ao registrar o resultado do pagamento {}.", paymentId.value(), e);
+          return payment;
+        });
+  }
+
+  private void callGateway(Supplier<PaymentProcessingResult> request, PaymentId paymentId,
+      CompletableFuture<PaymentProcessingResult> outcome) {
+    GatewayCall call = new GatewayCall(Thread.currentThread());
+    ScheduledFuture<?> timeout = timeouts.schedule(() -> {
+      if (outcome.complete(PaymentProcessingResult.UNKNOWN)) {
+        call.interrupt();
+      }
+    }, callTimeoutNanos, TimeUnit.NANOSECONDS);
+
+    PaymentProcessingResult result;
+    try {
+      result = request.get();
+    } catch (RuntimeException e) {
+      result = PaymentProcessingResult.UNKNOWN;
+    } finally {
+      call.finish();
+      timeout.cancel(false);
+    }
+
+    PaymentProcessingResult lateResult = result;
+    if (!outcome.complete(result) && isFinal(lateResult)) {
+      settlement.execute(() -> reconcile(paymentId, lateResult));
+    }
+  }
+
+  private void reconcile(PaymentId paymentId, PaymentProcessingResult lateResult) {
+    paymentRepository.findById(paymentId)
+        .filter(payment -> payment.getStatus() == PaymentStatus.PENDING)
+        .ifPresent(payment -> settle(payment, lateResult, 0));
+  }
+
+  private Payment settle(Payment payment, PaymentProcessingResult result, int attempt) {
+    payment.complete(result);
+    paymentRepository.save(payment);
+    settleOrder(payment, 0);
+    schedulePoll(payment, attempt + 1, result == PaymentProcessingResult.UNAVAILABLE);
+    return payment;
+  }
+
+  private void settleOrder(Payment payment, int attempt) {
+    try {
+      applyToOrder(payment);
+    } catch (RuntimeException e) {
+      scheduleSettlement(payment, attempt + 1, e);
+    }
+  }
+
+  private void applyToOrder(Payment payment) {
+    OptimisticRetry.execute(() -> {
+      Order order = orderRepository.findById(payment.getOrderId())
+          .orElseThrow(() -> new OrderNotFoundException("Pedido não encontrado com o ID: " + payment.getOrderId()));
+
+      boolean registered = order.getPayments().contains(payment.getId());
+      if (registered && !payment.isApproved()) {
+        return order;
+      }
+      if (!registered) {
+        order.registerPayment(payment.getId());
+      }
+      if (payment.isApproved()) {
+        order.markAsPaid();
+      }
+      orderRepository.save(order, order.getVersion());
+      return order;
+    });
+  }
+
+  private void scheduleSettlement(Payment payment, int attempt, RuntimeException cause) {
+    if (pollScheduler == null || closed || attempt > retryPolicy.maxAttempts()) {
+      LOGGER.error("Pagamento {} ({}) não foi aplicado ao pedido {}; conciliação manual necessária.",
+          payment.getId().value(), payment.getStatus(), payment.getOrderId().value(), cause);
+      return;
+    }
+
+    LOGGER.warn("Falha ao aplicar o pagamento {} ao pedido {}; nova tentativa {} agendada.",
+        payment.getId().value(), payment.getOrderId().value(), attempt, cause);
+    PaymentId paymentId = payment.getId();
+    scheduledSettlements.incrementAndGet();
+    pollScheduler.schedule(() -> retrySettlement(paymentId, attempt), retryPolicy.delayFor(attempt));
+  }
+
+  private void retrySettlement(PaymentId paymentId, int attempt) {
+    scheduledSettlements.decrementAndGet();
+    Payment payment = paymentRepository.findById(paymentId).orElse(null);
+    if (payment == null) {
+      return;
+    }
+
+    try {
+      settlement.execute(() -> settleOrder(payment, attempt));
+    } catch (RejectedExecutionException e) {
+      LOGGER.error("Pagamento {} não foi aplicado ao pedido {}; conciliação manual necessária.",
+          paymentId.value(), payment.getOrderId().value());
+    }
+  }
+
+  private static boolean isFinal(PaymentProcessingResult result) {
+    return result == PaymentProcessingResult.APPROVED || result == PaymentProcessingResult.REJECTED;
+  }
+
+  private static Payment copyOf(Payment payment) {
+    return Payment.restore(payment.getId(), payment.getOrderId(), payment.getPaymentMethod(), payment.getAmount(),
+        payment.getStatus());
+  }
+
+  private static ThreadFactory daemonThreads(String prefix) {
+    AtomicInteger counter = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    workers.shutdown();
+    try {
+      workers.awaitTermination(30, TimeUnit.SECONDS);
+      timeouts.shutdownNow();
+      settlement.shutdown();
+      settlement.awaitTermination(30, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  public record Submission(PaymentId paymentId, CompletableFuture<Payment> result) {
+  }
+
+  private static final class GatewayCall {
+    private final Thread worker;
+    private boolean finished;
+
+    private GatewayCall(Thread worker) {
+      this.worker = worker;
+    }
+
+    private synchronized void interrupt() {
+      if (!finished) {
+        worker.interrupt();
+      }
+    }
+
+    private synchronized void finish() {
+      finished = true;
+      Thread.interrupted();
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package br.com.delivery.application;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+public record PaymentRetryPolicy(Duration initialDelay, Duration maxDelay, int maxAttempts) {
+  public PaymentRetryPolicy {
+    if (initialDelay.isNegative() || initialDelay.isZero() || maxDelay.compareTo(initialDelay) < 0) {
+      throw new IllegalArgumentException("Intervalos de nova consulta inválidos.");
+    }
+    if (maxAttempts <= 0) {
+      throw new IllegalArgumentException("O número de consultas deve ser positivo.");
+    }
+  }
+
+  public Duration delayFor(int attempt) {
+    long ceiling = maxDelay.toNanos();
+    long delay = initialDelay.toNanos();
+    for (int i = 1; i < attempt && delay < ceiling; i++) {
+      delay = Math.min(ceiling, delay * 2);
+    }
+    long half = delay / 2;
+    return Duration.ofNanos(half + ThreadLocalRandom.current().nextLong(delay - half + 1));
+  }
+}
@@ -0,0 +1,20 @@
+package br.com.delivery.application.dto.order;
+
+import java.util.List;
+import java.util.Objects;
+
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.exception.InvalidOrderException;
+import br.com.delivery.domain.restaurant.RestaurantId;
+
+public record AddItemsToOrderInput(AccountId accountId, RestaurantId restaurantId, List<OrderItemQuantityInput> items) {
+  public AddItemsToOrderInput {
+    accountId = Objects.requireNonNull(accountId);
+    restaurantId = Objects.requireNonNull(restaurantId);
+    items = List.copyOf(Objects.requireNonNull(items));
+
+    if (items.isEmpty()) {
+      throw new InvalidOrderException("Informe pelo menos um item.");
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package br.com.delivery.application.dto.order;
+
+import java.util.List;
+import java.util.Objects;
+
+import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.domain.shared.Money;
+
+public record AddItemsToOrderOutput(OrderId orderId, Money newTotal, List<OrderItemOutput> items) {
+  public AddItemsToOrderOutput {
+    orderId = Objects.requireNonNull(orderId, "ID do pedido não pode ser nulo.");
+    newTotal = Objects.requireNonNull(newTotal, "Total do pedido não pode ser nulo.");
+    items = Objects.requireNonNull(items, "Lista de itens não pode ser nula.");
+  }
+}
@@ -3,9 +3,21 @@ package br.com.delivery.application.dto.order;
 import java.util.Objects;
 
 import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.order.OrderCursor;
+
+public record FindClientOrdersInput(AccountId accountId, OrderCursor cursor, int limit) {
+  public static final int DEFAULT_LIMIT = 20;
+  public static final int MAX_LIMIT = 100;
 
-public record FindClientOrdersInput(AccountId accountId) {
   public FindClientOrdersInput {
     accountId = Objects.requireNonNull(accountId);
+
+    if (limit <= 0 || limit > MAX_LIMIT) {
+      throw new IllegalArgumentException("O limite deve estar entre 1 e " + MAX_LIMIT + ".");
+    }
+  }
+
+  public FindClientOrdersInput(AccountId accountId) {
+    this(accountId, null, DEFAULT_LIMIT);
   }
 }
@@ -4,9 +4,14 @@ import java.util.List;
 import java.util.Objects;
 
 import br.com.delivery.domain.order.Order;
+import br.com.delivery.domain.order.OrderCursor;
 
-public record FindClientOrdersOutput(List<Order> orders) {
+public record FindClientOrdersOutput(List<Order> orders, OrderCursor nextCursor) {
   public FindClientOrdersOutput {
     orders = Objects.requireNonNull(orders);
   }
+
+  public boolean hasNext() {
+    return nextCursor != null;
+  }
 }
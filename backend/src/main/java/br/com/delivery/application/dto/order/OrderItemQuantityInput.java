@@ -0,0 +1,16 @@
+package br.com.delivery.application.dto.order;
+
+import java.util.Objects;
+
+import br.com.delivery.domain.exception.InvalidOrderItemQuantityException;
+import br.com.delivery.domain.restaurant.MenuItemId;
+
+public record OrderItemQuantityInput(MenuItemId menuItemId, int quantity) {
+  public OrderItemQuantityInput {
+    menuItemId = Objects.requireNonNull(menuItemId);
+
+    if (quantity <= 0) {
+      throw new InvalidOrderItemQuantityException("A quantidade deve ser positiva.");
+    }
+  }
+}
@@ -0,0 +1,12 @@
+package br.com.delivery.application.dto.payment;
+
+import java.util.Objects;
+
+import br.com.delivery.domain.order.OrderId;
+
+public record PayOrderInput(OrderId orderId, String paymentMethod, String idempotencyKey) {
+  public PayOrderInput {
+    orderId = Objects.requireNonNull(orderId, "O ID do pedido não pode ser nulo.");
+    paymentMethod = Objects.requireNonNull(paymentMethod, "O meio de pagamento não pode ser nulo.");
+  }
+}
@@ -0,0 +1,15 @@
+package br.com.delivery.application.dto.payment;
+
+import java.util.Objects;
+
+import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.domain.payment.PaymentId;
+import br.com.delivery.domain.payment.PaymentStatus;
+
+public record PayOrderOutput(OrderId orderId, PaymentId paymentId, PaymentStatus status) {
+  public PayOrderOutput {
+    orderId = Objects.requireNonNull(orderId, "O ID do pedido não pode ser nulo.");
+    paymentId = Objects.requireNonNull(paymentId, "O ID do pagamento não pode ser nulo.");
+    status = Objects.requireNonNull(status, "O status do pagamento não pode ser nulo.");
+  }
+}
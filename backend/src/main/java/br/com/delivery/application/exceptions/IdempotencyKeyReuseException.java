@@ -0,0 +1,7 @@
+package br.com.delivery.application.exceptions;
+
+public class IdempotencyKeyReuseException extends RuntimeException {
+  public IdempotencyKeyReuseException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,7 @@
+package br.com.delivery.application.exceptions;
+
+public class PaymentQueueFullException extends RuntimeException {
+  public PaymentQueueFullException(String message) {
+    super(message);
+  }
+}
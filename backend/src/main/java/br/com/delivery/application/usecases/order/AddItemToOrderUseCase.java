@@ -10,11 +10,13 @@ import br.com.delivery.application.exceptions.RestaurantNotFoundException;
 import br.com.delivery.domain.account.Account;
 import br.com.delivery.domain.account.AccountId;
 import br.com.delivery.domain.order.Order;
+import br.com.delivery.domain.order.OrderItem;
 import br.com.delivery.domain.repositories.IAccountRepository;
 import br.com.delivery.domain.repositories.IOrderRepository;
 import br.com.delivery.domain.repositories.IRestaurantRepository;
-import br.com.delivery.domain.restaurant.MenuItem;
 import br.com.delivery.domain.restaurant.MenuItemId;
+import br.com.delivery.domain.restaurant.MenuItemSnapshot;
+import br.com.delivery.domain.restaurant.MenuSnapshot;
 import br.com.delivery.domain.restaurant.Restaurant;
 import br.com.delivery.domain.restaurant.RestaurantId;
 
@@ -43,16 +45,22 @@ public final class AddItemToOrderUseCase {
     Restaurant restaurant = restaurantRepository.findById(restaurantId)
         .orElseThrow(() -> new RestaurantNotFoundException("Restaurante não encontrado."));
 
-    Order order = orderRepository.findDraftByClientAndRestaurant(accountId, restaurantId)
-        .orElse(Order.create(restaurantId, accountId, restaurant.getCurrency()));
-
-    MenuItem item = restaurant.findMenuItem(menuItemId)
+    MenuSnapshot menu = restaurant.currentMenu();
+    MenuItemSnapshot item = menu.findItem(menuItemId)
         .orElseThrow(() -> new MenuItemNotFoundException("Item não encontrado."));
     item.assertActive();
 
-    order.addItem(menuItemId, item.getName(), item.getDescription(), item.getCategory(), item.currentPrice(), quantity);
+    Order order = OptimisticRetry.execute(() -> {
+      Order draft = orderRepository.findDraftByClientAndRestaurant(accountId, restaurantId)
+          .orElseGet(() -> Order.create(restaurantId, accountId, restaurant.getCurrency()));
+
+      draft.addItem(new OrderItem(menuItemId, item.name(), item.description(), item.category(), item.price(),
+          quantity, menu.version()));
+
+      orderRepository.save(draft, draft.getVersion());
+      return draft;
+    });
 
-    orderRepository.save(order);
     return new AddItemToOrderOutput(order.getId());
   }
 }
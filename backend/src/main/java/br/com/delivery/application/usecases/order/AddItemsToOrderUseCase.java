@@ -0,0 +1,77 @@
+package br.com.delivery.application.usecases.order;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import br.com.delivery.application.dto.order.AddItemsToOrderInput;
+import br.com.delivery.application.dto.order.AddItemsToOrderOutput;
+import br.com.delivery.application.dto.order.OrderItemOutput;
+import br.com.delivery.application.dto.order.OrderItemQuantityInput;
+import br.com.delivery.application.exceptions.AccountNotFoundException;
+import br.com.delivery.application.exceptions.MenuItemNotFoundException;
+import br.com.delivery.application.exceptions.RestaurantNotFoundException;
+import br.com.delivery.domain.account.Account;
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.order.Order;
+import br.com.delivery.domain.order.OrderItem;
+import br.com.delivery.domain.repositories.IAccountRepository;
+import br.com.delivery.domain.repositories.IOrderRepository;
+import br.com.delivery.domain.repositories.IRestaurantRepository;
+import br.com.delivery.domain.restaurant.MenuItemSnapshot;
+import br.com.delivery.domain.restaurant.MenuSnapshot;
+import br.com.delivery.domain.restaurant.Restaurant;
+import br.com.delivery.domain.restaurant.RestaurantId;
+
+public final class AddItemsToOrderUseCase {
+  private final IAccountRepository accountRepository;
+  private final IRestaurantRepository restaurantRepository;
+  private final IOrderRepository orderRepository;
+
+  public AddItemsToOrderUseCase(IAccountRepository accountRepository, IRestaurantRepository restaurantRepository,
+      IOrderRepository orderRepository) {
+    this.accountRepository = Objects.requireNonNull(accountRepository);
+    this.restaurantRepository = Objects.requireNonNull(restaurantRepository);
+    this.orderRepository = Objects.requireNonNull(orderRepository);
+  }
+
+  public AddItemsToOrderOutput execute(AddItemsToOrderInput input) {
+    input = Objects.requireNonNull(input);
+
+    AccountId accountId = input.accountId();
+    RestaurantId restaurantId = input.restaurantId();
+
+    Account account = accountRepository.findById(accountId)
+        .orElseThrow(() -> new AccountNotFoundException("Cliente não encontrado."));
+    account.assertCanPlaceOrder();
+
+    Restaurant restaurant = restaurantRepository.findById(restaurantId)
+        .orElseThrow(() -> new RestaurantNotFoundException("Restaurante não encontrado."));
+
+    MenuSnapshot menu = restaurant.currentMenu();
+    List<OrderItem> newItems = new ArrayList<>(input.items().size());
+    for (OrderItemQuantityInput requested : input.items()) {
+      MenuItemSnapshot item = menu.findItem(requested.menuItemId())
+          .orElseThrow(() -> new MenuItemNotFoundException("Item não encontrado."));
+      item.assertActive();
+
+      newItems.add(new OrderItem(item.id(), item.name(), item.description(), item.category(), item.price(),
+          requested.quantity(), menu.version()));
+    }
+
+    Order order = OptimisticRetry.execute(() -> {
+      Order draft = orderRepository.findDraftByClientAndRestaurant(accountId, restaurantId)
+          .orElseGet(() -> Order.create(restaurantId, accountId, restaurant.getCurrency()));
+
+      draft.addItems(newItems);
+      orderRepository.save(draft, draft.getVersion());
+      return draft;
+    });
+
+    List<OrderItemOutput> items = order.itemsView().stream()
+        .map(item -> new OrderItemOutput(item.getMenuItemId(), item.getQuantity(), item.getUnitPrice()))
+        .toList();
+
+    return new AddItemsToOrderOutput(order.getId(), order.total(), items);
+  }
+}
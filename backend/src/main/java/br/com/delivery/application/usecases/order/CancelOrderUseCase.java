@@ -20,11 +20,14 @@ public class CancelOrderUseCase {
  public CancelOrderOutput execute(CancelOrderInput input) {
   OrderId orderId = input.orderId();
 
-  Order order = orderRepository.findById(orderId)
-      .orElseThrow(() -> new OrderNotFoundException("Pedido não encontrado com o ID: " + orderId));
-
-  order.markAsCancelled();
-  orderRepository.save(order);
+  Order order = OptimisticRetry.execute(() -> {
+   Order current = orderRepository.findById(orderId)
+       .orElseThrow(() -> new OrderNotFoundException("Pedido não encontrado com o ID: " + orderId));
+
+   current.markAsCancelled();
+   orderRepository.save(current, current.getVersion());
+   return current;
+  });
 
   return new CancelOrderOutput(order.getId(), order.getStatus() == OrderStatus.CANCELLED);
  }
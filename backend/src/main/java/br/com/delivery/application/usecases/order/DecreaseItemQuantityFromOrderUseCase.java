@@ -26,13 +26,16 @@ public class DecreaseItemQuantityFromOrderUseCase {
     MenuItemId menuItemId = input.menuItemId();
     int quantity = input.quantity();
 
-    Order order = orderRepository.findById(orderId)
-        .orElseThrow(() -> new OrderNotFoundException("Pedido não encontrado."));
+    Order order = OptimisticRetry.execute(() -> {
+      Order current = orderRepository.findById(orderId)
+          .orElseThrow(() -> new OrderNotFoundException("Pedido não encontrado."));
 
-    order.decreaseItem(menuItemId, quantity);
-    orderRepository.save(order);
+      current.decreaseItem(menuItemId, quantity);
+      orderRepository.save(current, current.getVersion());
+      return current;
+    });
 
-    List<OrderItemOutput> items = order.getItems().stream()
+    List<OrderItemOutput> items = order.itemsView().stream()
         .map(item -> new OrderItemOutput(item.getMenuItemId(), item.getQuantity(), item.getUnitPrice()))
         .toList();
 
@@ -1,10 +1,9 @@
 package br.com.delivery.application.usecases.order;
 
-import java.util.List;
 import java.util.Objects;
 
 import br.com.delivery.domain.account.AccountId;
-import br.com.delivery.domain.order.Order;
+import br.com.delivery.domain.order.OrderPage;
 import br.com.delivery.domain.repositories.IClientRepository;
 import br.com.delivery.domain.repositories.IOrderRepository;
 import br.com.delivery.application.dto.order.FindClientOrdersInput;
@@ -29,8 +28,8 @@ public class FindClientOrdersUseCase {
       throw new ClientNotFoundException("Cliente não encontrado.");
     }
 
-    List<Order> orders = orderRepository.findAllByClientId(accountId);
+    OrderPage page = orderRepository.findPageByClientId(accountId, input.cursor(), input.limit());
 
-    return new FindClientOrdersOutput(orders);
+    return new FindClientOrdersOutput(page.orders(), page.nextCursor());
   }
 }
@@ -0,0 +1,24 @@
+package br.com.delivery.application.usecases.order;
+
+import java.util.function.Supplier;
+
+import br.com.delivery.domain.exception.ConcurrentOrderUpdateException;
+
+public final class OptimisticRetry {
+  public static final int MAX_ATTEMPTS = 5;
+
+  private OptimisticRetry() {
+  }
+
+  public static <T> T execute(Supplier<T> operation) {
+    for (int attempt = 1;; attempt++) {
+      try {
+        return operation.get();
+      } catch (ConcurrentOrderUpdateException e) {
+        if (attempt >= MAX_ATTEMPTS) {
+          throw e;
+        }
+      }
+    }
+  }
+}
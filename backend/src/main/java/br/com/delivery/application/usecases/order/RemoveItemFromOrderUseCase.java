@@ -25,13 +25,16 @@ public class RemoveItemFromOrderUseCase {
         OrderId orderId = input.orderId();
         MenuItemId menuItemId = input.menuItemId();
 
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new OrderNotFoundException("Pedido não encontrado."));
+        Order order = OptimisticRetry.execute(() -> {
+            Order current = orderRepository.findById(orderId)
+                    .orElseThrow(() -> new OrderNotFoundException("Pedido não encontrado."));
 
-        order.removeItem(menuItemId);
-        orderRepository.save(order);
+            current.removeItem(menuItemId);
+            orderRepository.save(current, current.getVersion());
+            return current;
+        });
 
-        List<OrderItemOutput> items = order.getItems().stream()
+        List<OrderItemOutput> items = order.itemsView().stream()
                 .map(item -> new OrderItemOutput(item.getMenuItemId(), item.getQuantity(), item.getUnitPrice()))
                 .toList();
 
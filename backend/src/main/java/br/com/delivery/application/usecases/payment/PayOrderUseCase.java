@@ -0,0 +1,50 @@
+package br.com.delivery.application.usecases.payment;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import br.com.delivery.application.PaymentProcessor;
+import br.com.delivery.application.dto.payment.PayOrderInput;
+import br.com.delivery.application.dto.payment.PayOrderOutput;
+import br.com.delivery.application.exceptions.OrderNotFoundException;
+import br.com.delivery.domain.exception.InvalidPaymentException;
+import br.com.delivery.domain.order.Order;
+import br.com.delivery.domain.payment.IPaymentMethod;
+import br.com.delivery.domain.payment.Payment;
+import br.com.delivery.domain.payment.PaymentStatus;
+import br.com.delivery.domain.repositories.IOrderRepository;
+
+public class PayOrderUseCase {
+  private final IOrderRepository orderRepository;
+  private final PaymentProcessor paymentProcessor;
+  private final Map<String, IPaymentMethod> paymentMethods;
+
+  public PayOrderUseCase(IOrderRepository orderRepository, PaymentProcessor paymentProcessor,
+      Map<String, IPaymentMethod> paymentMethods) {
+    this.orderRepository = Objects.requireNonNull(orderRepository, "O repositório de pedidos não pode ser nulo.");
+    this.paymentProcessor = Objects.requireNonNull(paymentProcessor, "O processador de pagamentos não pode ser nulo.");
+    this.paymentMethods = Map.copyOf(paymentMethods);
+  }
+
+  public PayOrderOutput execute(PayOrderInput input) {
+    IPaymentMethod paymentMethod = paymentMethods.get(input.paymentMethod());
+    if (paymentMethod == null) {
+      throw new InvalidPaymentException("Meio de pagamento não suportado: " + input.paymentMethod());
+    }
+
+    Order order = orderRepository.findById(input.orderId())
+        .orElseThrow(() -> new OrderNotFoundException("Pedido não encontrado com o ID: " + input.orderId()));
+
+    Payment payment = Payment.create(order.getId(), paymentMethod, order.grandTotal());
+    PaymentProcessor.Submission submission = paymentProcessor.accept(payment, input.idempotencyKey());
+    return new PayOrderOutput(order.getId(), submission.paymentId(), statusOf(submission.result()));
+  }
+
+  private static PaymentStatus statusOf(CompletableFuture<Payment> result) {
+    if (!result.isDone() || result.isCompletedExceptionally()) {
+      return PaymentStatus.PENDING;
+    }
+    return result.join().getStatus();
+  }
+}
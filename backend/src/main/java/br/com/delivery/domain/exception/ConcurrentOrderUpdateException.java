@@ -0,0 +1,7 @@
+package br.com.delivery.domain.exception;
+
+public class ConcurrentOrderUpdateException extends RuntimeException {
+  public ConcurrentOrderUpdateException(String message) {
+    super(message);
+  }
+}
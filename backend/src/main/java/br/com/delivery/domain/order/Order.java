@@ -2,9 +2,12 @@ package br.com.delivery.domain.order;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Collection;
 import java.util.Collections;
 
 import br.com.delivery.domain.exception.CurrencyMismatchException;
@@ -25,8 +28,9 @@ public class Order {
   private final RestaurantId restaurantId;
   private final AccountId accountId;
   private final Currency currency;
-  private final List<OrderItem> items;
+  private final Map<MenuItemId, OrderItem> items;
   private final List<PaymentId> payments;
+  private final List<OrderEvent> pendingEvents;
   private final LocalDateTime createdAt;
   private LocalDateTime confirmedAt;
   private LocalDateTime cancelledAt;
@@ -34,7 +38,10 @@ public class Order {
   private LocalDateTime paidAt;
   private Address deliveryAddress;
   private Money deliveryFee;
+  private Money subtotal;
+  private Money grandTotal;
   private OrderStatus status;
+  private long version;
 
   private Order(OrderId id, RestaurantId restaurantId, AccountId accountId, Currency currency,
       LocalDateTime createdAt) {
@@ -43,59 +50,98 @@ public class Order {
     this.accountId = Objects.requireNonNull(accountId);
     this.currency = Objects.requireNonNull(currency);
     this.createdAt = Objects.requireNonNull(createdAt);
-    this.items = new ArrayList<>();
+    this.items = new LinkedHashMap<>();
     this.payments = new ArrayList<>();
+    this.pendingEvents = new ArrayList<>();
     this.status = OrderStatus.DRAFT;
     this.deliveryFee = Money.zero(currency);
+    this.subtotal = Money.zero(currency);
+    this.grandTotal = Money.zero(currency);
   }
 
   public static Order create(RestaurantId restaurantId, AccountId accountId, Currency currency) {
-    return new Order(OrderId.generate(), restaurantId, accountId, currency, LocalDateTime.now());
+    Order order = new Order(OrderId.generate(), restaurantId, accountId, currency, LocalDateTime.now());
+    order.pendingEvents.add(new OrderCreated(order.id, restaurantId, accountId, currency, order.createdAt));
+    return order;
+  }
+
+  public static Order replay(Order snapshot, List<OrderEvent> history, long version) {
+    Order order;
+    int next = 0;
+    if (snapshot != null) {
+      order = restore(snapshot.id, snapshot.restaurantId, snapshot.accountId, snapshot.currency, snapshot.createdAt,
+          snapshot.status, snapshot.itemsView(), snapshot.payments, snapshot.deliveryAddress, snapshot.deliveryFee,
+          snapshot.paidAt, snapshot.confirmedAt, snapshot.cancelledAt, snapshot.deliveredAt, version);
+    } else if (!history.isEmpty() && history.get(0) instanceof OrderCreated created) {
+      order = new Order(created.orderId(), created.restaurantId(), created.accountId(), created.currency(),
+          created.occurredAt());
+      next = 1;
+    } else {
+      throw new InvalidOrderException("O histórico do pedido deve começar pela criação.");
+    }
+
+    for (; next < history.size(); next++) {
+      order.apply(history.get(next));
+    }
+    order.markAsSaved(version);
+    return order;
   }
 
   public static Order restore(OrderId id, RestaurantId restaurantId, AccountId accountId, Currency currency,
-      LocalDateTime createdAt, OrderStatus status, List<OrderItem> items, List<PaymentId> payments, Address address,
-      Money deliveryFee, LocalDateTime paidAt, LocalDateTime confirmedAt, LocalDateTime cancelledAt,
+      LocalDateTime createdAt, OrderStatus status, Collection<OrderItem> items, List<PaymentId> payments,
+      Address address, Money deliveryFee, LocalDateTime paidAt, LocalDateTime confirmedAt, LocalDateTime cancelledAt,
       LocalDateTime deliveredAt) {
+    return restore(id, restaurantId, accountId, currency, createdAt, status, items, payments, address, deliveryFee,
+        paidAt, confirmedAt, cancelledAt, deliveredAt, 0);
+  }
+
+  public static Order restore(OrderId id, RestaurantId restaurantId, AccountId accountId, Currency currency,
+      LocalDateTime createdAt, OrderStatus status, Collection<OrderItem> items, List<PaymentId> payments,
+      Address address, Money deliveryFee, LocalDateTime paidAt, LocalDateTime confirmedAt, LocalDateTime cancelledAt,
+      LocalDateTime deliveredAt, long version) {
     Order order = new Order(id, restaurantId, accountId, currency, createdAt);
     order.status = status;
-    order.items.addAll(items);
+    for (OrderItem item : items) {
+      order.putItem(item);
+    }
     order.payments.addAll(payments);
     order.deliveryAddress = address;
-    order.deliveryFee = deliveryFee;
+    order.deliveryFee = Objects.requireNonNull(deliveryFee);
+    order.refreshGrandTotal();
     order.paidAt = paidAt;
     order.confirmedAt = confirmedAt;
     order.cancelledAt = cancelledAt;
     order.deliveredAt = deliveredAt;
+    order.markAsSaved(version);
     return order;
   }
 
   public void addItem(MenuItemId menuItemId, String menuItemName, String description, MenuItemCategory category,
       Money unitPrice, int quantity) {
+    addItem(new OrderItem(menuItemId, menuItemName, description, category, unitPrice, quantity));
+  }
+
+  public void addItem(OrderItem newItem) {
+    addItems(List.of(newItem));
+  }
+
+  public void addItems(List<OrderItem> newItems) {
+    Objects.requireNonNull(newItems);
 
     if (status != OrderStatus.DRAFT) {
       throw new InvalidOrderException("Não pode adicionar itens no status " + status);
     }
 
-    if (unitPrice.currency() != currency) {
-      throw new CurrencyMismatchException("Não pode adicionar produtos com moedas diferentes.");
+    for (OrderItem item : newItems) {
+      if (item.getUnitPrice().currency() != currency) {
+        throw new CurrencyMismatchException("Não pode adicionar produtos com moedas diferentes.");
+      }
     }
 
-    OrderItem existingItem = items.stream()
-        .filter(item -> item.getMenuItemId().equals(menuItemId))
-        .findFirst()
-        .orElse(null);
-
-    if (existingItem == null) {
-      OrderItem item = new OrderItem(menuItemId, menuItemName, description, category, unitPrice, quantity);
-      items.add(item);
-      return;
+    LocalDateTime now = LocalDateTime.now();
+    for (OrderItem item : newItems) {
+      recordEvent(new OrderItemAdded(id, item, now));
     }
-
-    items.removeIf(item -> item.getMenuItemId().equals(menuItemId));
-    int newQuantity = existingItem.getQuantity() + quantity;
-    OrderItem updatedItem = new OrderItem(menuItemId, menuItemName, description, category, unitPrice, newQuantity);
-    items.add(updatedItem);
   }
 
   public void removeItem(MenuItemId menuItemId) {
@@ -103,11 +149,11 @@ public class Order {
       throw new InvalidOrderException("Não pode remover itens no status: " + status);
     }
 
-    boolean removed = items.removeIf(item -> item.getMenuItemId().equals(menuItemId));
-
-    if (!removed) {
+    if (!items.containsKey(menuItemId)) {
       throw new InvalidOrderException("Item inexistente.");
     }
+
+    recordEvent(new OrderItemRemoved(id, menuItemId, LocalDateTime.now()));
   }
 
   public void decreaseItem(MenuItemId menuItemId, int quantity) {
@@ -119,10 +165,11 @@ public class Order {
       throw new InvalidOrderItemQuantityException("A quantidade deve ser positiva.");
     }
 
-    OrderItem existingItem = items.stream()
-        .filter(item -> item.getMenuItemId().equals(menuItemId))
-        .findFirst()
-        .orElseThrow(() -> new InvalidOrderException("Item inexistente."));
+    OrderItem existingItem = items.get(menuItemId);
+
+    if (existingItem == null) {
+      throw new InvalidOrderException("Item inexistente.");
+    }
 
     int newQuantity = existingItem.getQuantity() - quantity;
 
@@ -130,19 +177,7 @@ public class Order {
       throw new InvalidOrderItemException("A quantidade final não pode ser negativa.");
     }
 
-    items.remove(existingItem);
-
-    if (newQuantity > 0) {
-      OrderItem updatedItem = new OrderItem(
-          menuItemId,
-          existingItem.getMenuItemName(),
-          existingItem.getMenuItemDescription(),
-          existingItem.getMenuItemCategory(),
-          existingItem.getUnitPrice(),
-          newQuantity
-      );
-      items.add(updatedItem);
-    }
+    recordEvent(new OrderItemQuantityDecreased(id, menuItemId, quantity, LocalDateTime.now()));
   }
 
   public void changeDeliveryAddress(Address newAddress, Money newFee) {
@@ -154,8 +189,8 @@ public class Order {
       throw new CurrencyMismatchException("A moeda da taxa de entrega deve ser a mesma do pedido.");
     }
 
-    this.deliveryAddress = Objects.requireNonNull(newAddress);
-    this.deliveryFee = Objects.requireNonNull(newFee);
+    Objects.requireNonNull(newAddress);
+    recordEvent(new OrderDeliveryAddressChanged(id, newAddress, newFee, LocalDateTime.now()));
   }
 
   public void registerPayment(PaymentId paymentId) {
@@ -163,18 +198,23 @@ public class Order {
       throw new InvalidOrderException("Não é possível registrar pagamento no status " + status);
     }
     Objects.requireNonNull(paymentId);
-    payments.add(paymentId);
+    recordEvent(new OrderPaymentRegistered(id, paymentId, LocalDateTime.now()));
   }
 
   public Money total() {
-    Money total = Money.zero(currency);
-    for (OrderItem item : this.items) {
-      total = total.add(item.total());
-    }
-    return total;
+    return subtotal;
+  }
+
+  public Money grandTotal() {
+    return grandTotal;
   }
 
   public void markAsPaid() {
+    ensurePayable();
+    recordEvent(new OrderPaid(id, accountId, grandTotal, LocalDateTime.now()));
+  }
+
+  public void ensurePayable() {
     if (status != OrderStatus.DRAFT) {
       throw new InvalidOrderException("O pedido não pode ser pago no estado " + status);
     }
@@ -187,32 +227,43 @@ public class Order {
     if (total().isZero()) {
       throw new InvalidOrderException("Pedido Não pode ter total zero.");
     }
-    status = OrderStatus.PAID;
-    paidAt = LocalDateTime.now();
   }
 
   public void markAsDelivered() {
     if (status != OrderStatus.CONFIRMED) {
       throw new InvalidOrderException("Pedido não pode ser entregue no estado " + status);
     }
-    status = OrderStatus.DELIVERED;
-    deliveredAt = LocalDateTime.now();
+    recordEvent(new OrderDelivered(id, accountId, LocalDateTime.now()));
   }
 
   public void markAsConfirmed() {
     if (status != OrderStatus.PAID) {
       throw new InvalidOrderException("Apenas pedidos pagos podem ser confirmados.");
     }
-    status = OrderStatus.CONFIRMED;
-    confirmedAt = LocalDateTime.now();
+    recordEvent(new OrderConfirmed(id, restaurantId, LocalDateTime.now()));
   }
 
   public void markAsCancelled() {
     if (status == OrderStatus.DELIVERED) {
       throw new InvalidOrderException("Pedidos entregues não podem ser cancelados.");
     }
-    status = OrderStatus.CANCELLED;
-    cancelledAt = LocalDateTime.now();
+    recordEvent(new OrderCancelled(id, status, LocalDateTime.now()));
+  }
+
+  public List<OrderEvent> pullEvents() {
+    if (pendingEvents.isEmpty()) {
+      return List.of();
+    }
+    List<OrderEvent> events = List.copyOf(pendingEvents);
+    pendingEvents.clear();
+    return events;
+  }
+
+  public void markAsSaved(long version) {
+    if (version < 0) {
+      throw new InvalidOrderException("A versão do pedido não pode ser negativa.");
+    }
+    this.version = version;
   }
 
   public OrderId getId() {
@@ -248,7 +299,11 @@ public class Order {
   }
 
   public List<OrderItem> getItems() {
-    return Collections.unmodifiableList(items);
+    return List.copyOf(items.values());
+  }
+
+  public Collection<OrderItem> itemsView() {
+    return Collections.unmodifiableCollection(items.values());
   }
 
   public LocalDateTime getCreatedAt() {
@@ -270,4 +325,73 @@ public class Order {
   public Optional<LocalDateTime> getPaidAt() {
     return Optional.ofNullable(paidAt);
   }
+
+  public long getVersion() {
+    return version;
+  }
+
+  private void recordEvent(OrderEvent event) {
+    apply(event);
+    pendingEvents.add(event);
+  }
+
+  private void apply(OrderEvent event) {
+    if (event instanceof OrderItemAdded added) {
+      OrderItem item = added.item();
+      OrderItem existingItem = items.get(item.getMenuItemId());
+      putItem(existingItem == null ? item : item.withQuantity(existingItem.getQuantity() + item.getQuantity()));
+    } else if (event instanceof OrderItemRemoved removed) {
+      removeLine(removed.menuItemId());
+    } else if (event instanceof OrderItemQuantityDecreased decreased) {
+      OrderItem existingItem = items.get(decreased.menuItemId());
+      int newQuantity = existingItem.getQuantity() - decreased.quantity();
+      if (newQuantity == 0) {
+        removeLine(decreased.menuItemId());
+      } else {
+        putItem(existingItem.withQuantity(newQuantity));
+      }
+    } else if (event instanceof OrderDeliveryAddressChanged changed) {
+      deliveryAddress = changed.address();
+      deliveryFee = changed.deliveryFee();
+      refreshGrandTotal();
+    } else if (event instanceof OrderPaymentRegistered registered) {
+      payments.add(registered.paymentId());
+    } else if (event instanceof OrderPaid) {
+      status = OrderStatus.PAID;
+      paidAt = event.occurredAt();
+    } else if (event instanceof OrderConfirmed) {
+      status = OrderStatus.CONFIRMED;
+      confirmedAt = event.occurredAt();
+    } else if (event instanceof OrderDelivered) {
+      status = OrderStatus.DELIVERED;
+      deliveredAt = event.occurredAt();
+    } else if (event instanceof OrderCancelled) {
+      status = OrderStatus.CANCELLED;
+      cancelledAt = event.occurredAt();
+    } else {
+      throw new InvalidOrderException("Evento inesperado no histórico do pedido: " + event);
+    }
+  }
+
+  private void putItem(OrderItem item) {
+    OrderItem previous = items.put(item.getMenuItemId(), item);
+    if (previous != null) {
+      subtotal = subtotal.subtract(previous.total());
+    }
+    subtotal = subtotal.add(item.total());
+    refreshGrandTotal();
+  }
+
+  private OrderItem removeLine(MenuItemId menuItemId) {
+    OrderItem removed = items.remove(menuItemId);
+    if (removed != null) {
+      subtotal = subtotal.subtract(removed.total());
+      refreshGrandTotal();
+    }
+    return removed;
+  }
+
+  private void refreshGrandTotal() {
+    grandTotal = subtotal.add(deliveryFee);
+  }
 }
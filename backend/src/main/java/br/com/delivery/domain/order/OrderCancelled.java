@@ -0,0 +1,7 @@
+package br.com.delivery.domain.order;
+
+import java.time.LocalDateTime;
+
+public record OrderCancelled(OrderId orderId, OrderStatus previousStatus, LocalDateTime occurredAt)
+    implements OrderEvent {
+}
@@ -0,0 +1,9 @@
+package br.com.delivery.domain.order;
+
+import java.time.LocalDateTime;
+
+import br.com.delivery.domain.restaurant.RestaurantId;
+
+public record OrderConfirmed(OrderId orderId, RestaurantId restaurantId, LocalDateTime occurredAt)
+    implements OrderEvent {
+}
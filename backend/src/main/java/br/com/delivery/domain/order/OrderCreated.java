@@ -0,0 +1,11 @@
+package br.com.delivery.domain.order;
+
+import java.time.LocalDateTime;
+
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.restaurant.RestaurantId;
+import br.com.delivery.domain.shared.Currency;
+
+public record OrderCreated(OrderId orderId, RestaurantId restaurantId, AccountId accountId, Currency currency,
+    LocalDateTime occurredAt) implements OrderEvent {
+}
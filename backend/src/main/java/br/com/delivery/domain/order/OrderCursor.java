@@ -0,0 +1,22 @@
+package br.com.delivery.domain.order;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Objects;
+
+public record OrderCursor(LocalDateTime createdAt, OrderId orderId) {
+  public static final Comparator<OrderCursor> OLDEST_FIRST = Comparator
+      .comparing(OrderCursor::createdAt)
+      .thenComparing(cursor -> cursor.orderId().value());
+
+  public static final Comparator<OrderCursor> NEWEST_FIRST = OLDEST_FIRST.reversed();
+
+  public OrderCursor {
+    Objects.requireNonNull(createdAt);
+    Objects.requireNonNull(orderId);
+  }
+
+  public static OrderCursor of(Order order) {
+    return new OrderCursor(order.getCreatedAt(), order.getId());
+  }
+}
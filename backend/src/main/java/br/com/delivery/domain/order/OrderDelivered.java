@@ -0,0 +1,9 @@
+package br.com.delivery.domain.order;
+
+import java.time.LocalDateTime;
+
+import br.com.delivery.domain.account.AccountId;
+
+public record OrderDelivered(OrderId orderId, AccountId accountId, LocalDateTime occurredAt)
+    implements OrderEvent {
+}
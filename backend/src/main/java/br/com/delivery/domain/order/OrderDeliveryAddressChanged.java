@@ -0,0 +1,10 @@
+package br.com.delivery.domain.order;
+
+import java.time.LocalDateTime;
+
+import br.com.delivery.domain.shared.Address;
+import br.com.delivery.domain.shared.Money;
+
+public record OrderDeliveryAddressChanged(OrderId orderId, Address address, Money deliveryFee,
+    LocalDateTime occurredAt) implements OrderEvent {
+}
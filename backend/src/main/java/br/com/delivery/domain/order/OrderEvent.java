@@ -0,0 +1,11 @@
+package br.com.delivery.domain.order;
+
+import java.time.LocalDateTime;
+
+public sealed interface OrderEvent
+    permits OrderCreated, OrderItemAdded, OrderItemRemoved, OrderItemQuantityDecreased, OrderDeliveryAddressChanged,
+    OrderPaymentRegistered, OrderPaid, OrderConfirmed, OrderDelivered, OrderCancelled {
+  OrderId orderId();
+
+  LocalDateTime occurredAt();
+}
@@ -0,0 +1,11 @@
+package br.com.delivery.domain.order;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface OrderEventPublisher {
+  OrderEventPublisher NONE = events -> {
+  };
+
+  void publish(List<OrderEvent> events);
+}
@@ -15,9 +15,16 @@ public class OrderItem {
   private final MenuItemCategory menuItemCategory;
   private final Money unitPrice;
   private final int quantity;
+  private final long menuVersion;
+  private final Money total;
 
   public OrderItem(MenuItemId menuItemId, String menuItemName, String menuItemDescription, MenuItemCategory category,
       Money unitPrice, int quantity) {
+    this(menuItemId, menuItemName, menuItemDescription, category, unitPrice, quantity, 0);
+  }
+
+  public OrderItem(MenuItemId menuItemId, String menuItemName, String menuItemDescription, MenuItemCategory category,
+      Money unitPrice, int quantity, long menuVersion) {
     Objects.requireNonNull(menuItemId);
     Objects.requireNonNull(menuItemName);
     Objects.requireNonNull(menuItemDescription);
@@ -36,16 +43,27 @@ public class OrderItem {
       throw new InvalidOrderItemQuantityException("Quantidade inválida.");
     }
 
+    if (menuVersion < 0) {
+      throw new InvalidOrderItemException("Versão do menu inválida.");
+    }
+
     this.menuItemId = menuItemId;
     this.menuItemName = menuItemName;
     this.menuItemDescription = menuItemDescription;
     this.menuItemCategory = category;
     this.unitPrice = unitPrice;
     this.quantity = quantity;
+    this.menuVersion = menuVersion;
+    this.total = unitPrice.multiply(quantity);
+  }
+
+  OrderItem withQuantity(int newQuantity) {
+    return new OrderItem(menuItemId, menuItemName, menuItemDescription, menuItemCategory, unitPrice, newQuantity,
+        menuVersion);
   }
 
   public Money total() {
-    return unitPrice.multiply(quantity);
+    return total;
   }
 
   public MenuItemId getMenuItemId() {
@@ -71,4 +89,8 @@ public class OrderItem {
   public int getQuantity() {
     return quantity;
   }
+
+  public long getMenuVersion() {
+    return menuVersion;
+  }
 }
@@ -0,0 +1,20 @@
+package br.com.delivery.domain.order;
+
+import java.time.LocalDateTime;
+
+import br.com.delivery.domain.restaurant.MenuItemId;
+import br.com.delivery.domain.shared.Money;
+
+public record OrderItemAdded(OrderId orderId, OrderItem item, LocalDateTime occurredAt) implements OrderEvent {
+  public MenuItemId menuItemId() {
+    return item.getMenuItemId();
+  }
+
+  public int quantity() {
+    return item.getQuantity();
+  }
+
+  public Money unitPrice() {
+    return item.getUnitPrice();
+  }
+}
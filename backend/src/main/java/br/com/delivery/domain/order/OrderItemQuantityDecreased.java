@@ -0,0 +1,9 @@
+package br.com.delivery.domain.order;
+
+import java.time.LocalDateTime;
+
+import br.com.delivery.domain.restaurant.MenuItemId;
+
+public record OrderItemQuantityDecreased(OrderId orderId, MenuItemId menuItemId, int quantity,
+    LocalDateTime occurredAt) implements OrderEvent {
+}
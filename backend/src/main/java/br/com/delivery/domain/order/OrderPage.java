@@ -0,0 +1,18 @@
+package br.com.delivery.domain.order;
+
+import java.util.List;
+import java.util.Objects;
+
+public record OrderPage(List<Order> orders, OrderCursor nextCursor) {
+  public OrderPage {
+    orders = List.copyOf(Objects.requireNonNull(orders));
+  }
+
+  public static OrderPage empty() {
+    return new OrderPage(List.of(), null);
+  }
+
+  public boolean hasNext() {
+    return nextCursor != null;
+  }
+}
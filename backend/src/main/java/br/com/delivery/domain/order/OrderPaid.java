@@ -0,0 +1,10 @@
+package br.com.delivery.domain.order;
+
+import java.time.LocalDateTime;
+
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.shared.Money;
+
+public record OrderPaid(OrderId orderId, AccountId accountId, Money grandTotal, LocalDateTime occurredAt)
+    implements OrderEvent {
+}
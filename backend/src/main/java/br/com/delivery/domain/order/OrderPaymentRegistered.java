@@ -0,0 +1,9 @@
+package br.com.delivery.domain.order;
+
+import java.time.LocalDateTime;
+
+import br.com.delivery.domain.payment.PaymentId;
+
+public record OrderPaymentRegistered(OrderId orderId, PaymentId paymentId, LocalDateTime occurredAt)
+    implements OrderEvent {
+}
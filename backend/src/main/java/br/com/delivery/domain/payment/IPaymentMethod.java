@@ -2,4 +2,8 @@ package br.com.delivery.domain.payment;
 
 public interface IPaymentMethod {
   PaymentProcessingResult process(Payment payment);
+
+  default PaymentProcessingResult queryStatus(Payment payment) {
+    return PaymentProcessingResult.UNKNOWN;
+  }
 }
\ No newline at end of file
@@ -25,17 +25,40 @@ public final class Payment {
     return new Payment(PaymentId.generate(), orderId, paymentMethod, amount);
   }
 
+  public static Payment restore(PaymentId id, OrderId orderId, IPaymentMethod paymentMethod, Money amount,
+      PaymentStatus status) {
+    Payment payment = new Payment(id, orderId, paymentMethod, amount);
+    payment.status = Objects.requireNonNull(status);
+    return payment;
+  }
+
   public void process() {
+    complete(requestAuthorization());
+  }
+
+  public PaymentProcessingResult requestAuthorization() {
     if (status != PaymentStatus.PENDING) {
       throw new InvalidPaymentException("O pagamento não pode ser processado no estado " + status);
     }
+    return paymentMethod.process(this);
+  }
+
+  public PaymentProcessingResult queryAuthorization() {
+    if (status != PaymentStatus.PENDING) {
+      throw new InvalidPaymentException("O pagamento não pode ser consultado no estado " + status);
+    }
+    return paymentMethod.queryStatus(this);
+  }
 
-    PaymentProcessingResult result = paymentMethod.process(this);
+  public void complete(PaymentProcessingResult result) {
+    if (status != PaymentStatus.PENDING) {
+      throw new InvalidPaymentException("O pagamento não pode ser processado no estado " + status);
+    }
 
-    switch (result) {
+    switch (Objects.requireNonNull(result)) {
       case APPROVED -> changeStatus(PaymentStatus.APPROVED);
       case REJECTED -> changeStatus(PaymentStatus.DECLINED);
-      case PENDING -> changeStatus(PaymentStatus.PENDING);
+      case PENDING, UNKNOWN, UNAVAILABLE -> changeStatus(PaymentStatus.PENDING);
     }
   }
 
@@ -65,6 +88,10 @@ public final class Payment {
     return orderId;
   }
 
+  public IPaymentMethod getPaymentMethod() {
+    return paymentMethod;
+  }
+
   public Money getAmount() {
     return amount;
   }
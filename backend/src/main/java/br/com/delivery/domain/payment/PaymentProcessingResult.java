@@ -3,5 +3,7 @@ package br.com.delivery.domain.payment;
 public enum PaymentProcessingResult {
   APPROVED,
   REJECTED,
-  PENDING
+  PENDING,
+  UNKNOWN,
+  UNAVAILABLE
 }
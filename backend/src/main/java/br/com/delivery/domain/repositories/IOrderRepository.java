@@ -3,7 +3,10 @@ package br.com.delivery.domain.repositories;
 import java.util.List;
 import java.util.Optional;
 
+import br.com.delivery.domain.order.OrderCursor;
 import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.domain.order.OrderPage;
+import br.com.delivery.domain.order.OrderStatus;
 import br.com.delivery.domain.restaurant.RestaurantId;
 import br.com.delivery.domain.account.AccountId;
 import br.com.delivery.domain.order.Order;
@@ -15,5 +18,13 @@ public interface IOrderRepository {
 
   List<Order> findAllByClientId(AccountId accountId);
 
+  OrderPage findPageByClientId(AccountId accountId, OrderCursor cursor, int limit);
+
+  List<Order> findAllByRestaurantAndStatus(RestaurantId restaurantId, OrderStatus status);
+
+  int countByRestaurantAndStatus(RestaurantId restaurantId, OrderStatus status);
+
   void save(Order order);
+
+  void save(Order order, long expectedVersion);
 }
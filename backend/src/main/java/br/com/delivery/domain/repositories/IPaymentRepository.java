@@ -0,0 +1,21 @@
+package br.com.delivery.domain.repositories;
+
+import java.util.List;
+import java.util.Optional;
+
+import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.domain.payment.Payment;
+import br.com.delivery.domain.payment.PaymentId;
+import br.com.delivery.domain.payment.PaymentStatus;
+
+public interface IPaymentRepository {
+  Optional<Payment> findById(PaymentId id);
+
+  List<Payment> findAllByOrderId(OrderId orderId);
+
+  List<Payment> findAllByStatus(PaymentStatus status);
+
+  int countByStatus(PaymentStatus status);
+
+  void save(Payment payment);
+}
@@ -1,5 +1,6 @@
 package br.com.delivery.domain.repositories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +13,8 @@ public interface IRestaurantRepository {
 
   List<Restaurant> findAllByOwnerId(AccountId ownerId);
 
+  List<Restaurant> findAllByIds(Collection<RestaurantId> ids);
+
   boolean existsById(RestaurantId id);
 
   void save(Restaurant restaurant);
@@ -52,7 +52,7 @@ public final class MenuItem {
     this.description = newDescription;
   }
 
-  public void changeCategory(MenuItemCategory newCategory) {
+  void changeCategory(MenuItemCategory newCategory) {
     this.category = Objects.requireNonNull(newCategory);
   }
 
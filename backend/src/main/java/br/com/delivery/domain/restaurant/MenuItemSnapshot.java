@@ -0,0 +1,28 @@
+package br.com.delivery.domain.restaurant;
+
+import java.util.Objects;
+
+import br.com.delivery.domain.exception.InactiveItemException;
+import br.com.delivery.domain.shared.Money;
+
+public record MenuItemSnapshot(MenuItemId id, String name, String description, MenuItemCategory category,
+    Money price, boolean active) {
+  public MenuItemSnapshot {
+    Objects.requireNonNull(id);
+    Objects.requireNonNull(name);
+    Objects.requireNonNull(description);
+    Objects.requireNonNull(category);
+    Objects.requireNonNull(price);
+  }
+
+  public static MenuItemSnapshot of(MenuItem item) {
+    return new MenuItemSnapshot(item.getId(), item.getName(), item.getDescription(), item.getCategory(),
+        item.currentPrice(), item.isActive());
+  }
+
+  public void assertActive() {
+    if (!this.active) {
+      throw new InactiveItemException("Item inativo.");
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package br.com.delivery.domain.restaurant;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+public final class MenuSnapshot {
+  private static final MenuSnapshot EMPTY = new MenuSnapshot(0, Map.of(), Map.of());
+
+  private final long version;
+  private final Map<MenuItemId, MenuItemSnapshot> items;
+  private final Map<MenuItemCategory, List<MenuItemSnapshot>> itemsByCategory;
+
+  private MenuSnapshot(long version, Map<MenuItemId, MenuItemSnapshot> items,
+      Map<MenuItemCategory, List<MenuItemSnapshot>> itemsByCategory) {
+    this.version = version;
+    this.items = items;
+    this.itemsByCategory = itemsByCategory;
+  }
+
+  public static MenuSnapshot empty() {
+    return EMPTY;
+  }
+
+  public static MenuSnapshot of(long version, Collection<MenuItem> menuItems) {
+    if (version <= 0) {
+      throw new IllegalArgumentException("A versão do menu deve ser positiva.");
+    }
+
+    Map<MenuItemId, MenuItemSnapshot> items = new LinkedHashMap<>();
+    Map<MenuItemCategory, List<MenuItemSnapshot>> itemsByCategory = new EnumMap<>(MenuItemCategory.class);
+
+    for (MenuItem menuItem : menuItems) {
+      MenuItemSnapshot item = MenuItemSnapshot.of(menuItem);
+      items.put(item.id(), item);
+      itemsByCategory.computeIfAbsent(item.category(), category -> new ArrayList<>()).add(item);
+    }
+
+    itemsByCategory.replaceAll((category, categoryItems) -> List.copyOf(categoryItems));
+    return new MenuSnapshot(version, Collections.unmodifiableMap(items), Collections.unmodifiableMap(itemsByCategory));
+  }
+
+  public long version() {
+    return version;
+  }
+
+  public Optional<MenuItemSnapshot> findItem(MenuItemId menuItemId) {
+    Objects.requireNonNull(menuItemId);
+    return Optional.ofNullable(items.get(menuItemId));
+  }
+
+  public List<MenuItemSnapshot> items() {
+    return List.copyOf(items.values());
+  }
+
+  public List<MenuItemSnapshot> itemsByCategory(MenuItemCategory category) {
+    Objects.requireNonNull(category);
+    return itemsByCategory.getOrDefault(category, List.of());
+  }
+
+  public boolean isEmpty() {
+    return items.isEmpty();
+  }
+}
@@ -3,9 +3,10 @@ package br.com.delivery.domain.restaurant;
 import java.time.LocalTime;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import br.com.delivery.domain.account.AccountId;
 import br.com.delivery.domain.exception.InvalidRestaurantException;
@@ -16,19 +17,23 @@ import br.com.delivery.domain.shared.Currency;
 public final class Restaurant {
   private final RestaurantId id;
   private final AccountId ownerId;
-  private final List<MenuItem> menuItems;
+  private final Map<MenuItemId, MenuItem> menuItems;
+  private final Map<MenuItemCategory, Map<MenuItemId, MenuItem>> menuItemsByCategory;
   private String name;
   private RestaurantStatus status;
   private OpeningHours openingHours;
   private Currency currency;
   private Address address;
+  private volatile MenuSnapshot publishedMenu;
 
   private Restaurant(RestaurantId id, AccountId ownerId, String name, OpeningHours openingHours, Address address) {
     this.id = Objects.requireNonNull(id);
     this.ownerId = Objects.requireNonNull(ownerId);
     this.openingHours = Objects.requireNonNull(openingHours);
     this.status = RestaurantStatus.CLOSED;
-    this.menuItems = new ArrayList<>();
+    this.menuItems = new LinkedHashMap<>();
+    this.menuItemsByCategory = new EnumMap<>(MenuItemCategory.class);
+    this.publishedMenu = MenuSnapshot.empty();
 
     changeAddress(address);
     changeName(name);
@@ -39,10 +44,19 @@ public final class Restaurant {
   }
 
   public static Restaurant restore(RestaurantId id, AccountId ownerId, String name, OpeningHours openingHours, Address address, Currency currency, RestaurantStatus status, List<MenuItem> menuItems) {
+    return restore(id, ownerId, name, openingHours, address, currency, status, menuItems, 1);
+  }
+
+  public static Restaurant restore(RestaurantId id, AccountId ownerId, String name, OpeningHours openingHours, Address address, Currency currency, RestaurantStatus status, List<MenuItem> menuItems, long menuVersion) {
     Restaurant restaurant = new Restaurant(id, ownerId, name, openingHours, address);
     restaurant.currency = currency;
     restaurant.status = status;
-    restaurant.menuItems.addAll(menuItems);
+    for (MenuItem item : menuItems) {
+      restaurant.indexMenuItem(item);
+    }
+    if (menuVersion > 0) {
+      restaurant.publishedMenu = MenuSnapshot.of(menuVersion, restaurant.menuItems.values());
+    }
     return restaurant;
   }
 
@@ -60,7 +74,7 @@ public final class Restaurant {
     }
 
     MenuItem item = new MenuItem(MenuItemId.generate(), id, itemName, itemDescription, category, unitPrice);
-    this.menuItems.add(item);
+    indexMenuItem(item);
   }
 
   public void removeMenuItem(MenuItemId productId) {
@@ -68,14 +82,36 @@ public final class Restaurant {
       throw new InvalidRestaurantException("Não pode remover itens com o restaurante ainda aberto.");
     }
 
-    menuItems.removeIf(item -> item.getId().equals(productId));
+    MenuItem removed = menuItems.remove(productId);
+    if (removed != null) {
+      menuItemsByCategory.get(removed.getCategory()).remove(productId);
+    }
+  }
+
+  public void changeMenuItemCategory(MenuItemId menuItemId, MenuItemCategory newCategory) {
+    if (status != RestaurantStatus.CLOSED) {
+      throw new InvalidRestaurantException("Não pode alterar itens com o restaurante ainda aberto.");
+    }
+
+    Objects.requireNonNull(newCategory);
+
+    MenuItem item = findMenuItem(menuItemId)
+        .orElseThrow(() -> new InvalidRestaurantException("Item inexistente no menu."));
+
+    menuItemsByCategory.get(item.getCategory()).remove(menuItemId);
+    item.changeCategory(newCategory);
+    indexMenuItem(item);
   }
 
   public Optional<MenuItem> findMenuItem(MenuItemId menuItemId) {
     Objects.requireNonNull(menuItemId);
-    return this.menuItems.stream()
-        .filter(item -> item.getId().equals(menuItemId))
-        .findFirst();
+    return Optional.ofNullable(this.menuItems.get(menuItemId));
+  }
+
+  public List<MenuItem> findMenuItemsByCategory(MenuItemCategory category) {
+    Objects.requireNonNull(category);
+    Map<MenuItemId, MenuItem> items = menuItemsByCategory.get(category);
+    return items == null ? List.of() : List.copyOf(items.values());
   }
 
   public void openRestaurant(LocalTime now) {
@@ -91,9 +127,20 @@ public final class Restaurant {
       throw new InvalidRestaurantException("O restaurante não pode abrir fora do horário de funcionamento.");
     }
 
+    publishMenu();
     this.status = RestaurantStatus.OPEN;
   }
 
+  public MenuSnapshot publishMenu() {
+    MenuSnapshot snapshot = MenuSnapshot.of(publishedMenu.version() + 1, menuItems.values());
+    this.publishedMenu = snapshot;
+    return snapshot;
+  }
+
+  public MenuSnapshot currentMenu() {
+    return publishedMenu;
+  }
+
   public void closeRestaurant() {
     this.status = RestaurantStatus.CLOSED;
   }
@@ -145,7 +192,7 @@ public final class Restaurant {
   }
 
   public List<MenuItem> getMenu() {
-    return Collections.unmodifiableList(menuItems);
+    return List.copyOf(menuItems.values());
   }
 
   public Address getAddress() {
@@ -168,6 +215,14 @@ public final class Restaurant {
     return openingHours;
   }
 
+  private void indexMenuItem(MenuItem item) {
+    MenuItem previous = menuItems.put(item.getId(), item);
+    if (previous != null) {
+      menuItemsByCategory.get(previous.getCategory()).remove(previous.getId());
+    }
+    menuItemsByCategory.computeIfAbsent(item.getCategory(), category -> new LinkedHashMap<>()).put(item.getId(), item);
+  }
+
   @Override
   public boolean equals(Object obj) {
     if (obj == null) {
@@ -1,7 +1,17 @@
 package br.com.delivery.domain.shared;
 
 public enum Currency {
-  BRL,
-  CAD,
-  USD,
+  BRL(2),
+  CAD(2),
+  USD(2);
+
+  private final int fractionDigits;
+
+  Currency(int fractionDigits) {
+    this.fractionDigits = fractionDigits;
+  }
+
+  public int fractionDigits() {
+    return fractionDigits;
+  }
 }
@@ -2,19 +2,30 @@ package br.com.delivery.domain.shared;
 
 import java.util.Objects;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 import br.com.delivery.domain.exception.InvalidMoneyException;
 import br.com.delivery.domain.exception.CurrencyMismatchException;
 import br.com.delivery.domain.exception.InsufficientFundsException;
 
-public record Money(BigDecimal amount, Currency currency) {
-  public Money {
-    Objects.requireNonNull(amount);
-    Objects.requireNonNull(currency);
+public final class Money {
+  private static final Money[] ZEROS = createZeros();
 
-    if (amount.compareTo(BigDecimal.ZERO) < 0) {
+  private final long minorUnits;
+  private final Currency currency;
+
+  public Money(BigDecimal amount, Currency currency) {
+    this(toMinorUnits(Objects.requireNonNull(amount), Objects.requireNonNull(currency)), currency);
+  }
+
+  private Money(long minorUnits, Currency currency) {
+    this.currency = Objects.requireNonNull(currency);
+
+    if (minorUnits < 0) {
       throw new InvalidMoneyException("A quantidade não pode ser negativa.");
     }
+
+    this.minorUnits = minorUnits;
   }
 
   public static Money of(double amount, Currency currency) {
@@ -25,22 +36,37 @@ public record Money(BigDecimal amount, Currency currency) {
     return new Money(amount, currency);
   }
 
+  public static Money ofMinorUnits(long minorUnits, Currency currency) {
+    if (minorUnits == 0) {
+      return zero(currency);
+    }
+    return new Money(minorUnits, currency);
+  }
+
   public static Money zero(Currency currency) {
-    return new Money(BigDecimal.ZERO, currency);
+    return ZEROS[currency.ordinal()];
   }
 
   public Money add(Money value) {
     ensureSameCurrency(value);
-    return new Money(this.amount.add(value.amount), this.currency);
+    if (value.minorUnits == 0) {
+      return this;
+    }
+
+    try {
+      return new Money(Math.addExact(this.minorUnits, value.minorUnits), this.currency);
+    } catch (ArithmeticException e) {
+      throw overflow();
+    }
   }
 
   public Money subtract(Money value) {
     ensureSameCurrency(value);
-    if (this.amount.compareTo(value.amount) < 0) {
+    if (this.minorUnits < value.minorUnits) {
       throw new InsufficientFundsException("Saldo insuficiente.");
     }
 
-    return new Money(this.amount.subtract(value.amount), this.currency);
+    return ofMinorUnits(this.minorUnits - value.minorUnits, this.currency);
   }
 
   public Money multiply(int factor) {
@@ -48,23 +74,66 @@ public record Money(BigDecimal amount, Currency currency) {
       throw new InvalidMoneyException("O fator não pode ser negativo.");
     }
 
-    return new Money(this.amount.multiply(BigDecimal.valueOf(factor)), this.currency);
+    if (factor == 1) {
+      return this;
+    }
+
+    try {
+      return ofMinorUnits(Math.multiplyExact(this.minorUnits, (long) factor), this.currency);
+    } catch (ArithmeticException e) {
+      throw overflow();
+    }
+  }
+
+  public BigDecimal amount() {
+    return BigDecimal.valueOf(minorUnits, currency.fractionDigits());
+  }
+
+  public long minorUnits() {
+    return minorUnits;
+  }
+
+  public Currency currency() {
+    return currency;
   }
 
   public boolean isPositive() {
-    return amount.compareTo(BigDecimal.ZERO) > 0;
+    return minorUnits > 0;
   }
 
   public boolean isZero() {
-    return amount.compareTo(BigDecimal.ZERO) == 0;
+    return minorUnits == 0;
   }
 
   private void ensureSameCurrency(Money value) {
-    if (!this.currency.equals(value.currency)) {
+    if (this.currency != value.currency) {
       throw new CurrencyMismatchException("Moedas diferentes.");
     }
   }
 
+  private static long toMinorUnits(BigDecimal amount, Currency currency) {
+    try {
+      return amount.setScale(currency.fractionDigits(), RoundingMode.UNNECESSARY)
+          .unscaledValue()
+          .longValueExact();
+    } catch (ArithmeticException e) {
+      throw new InvalidMoneyException("Valor inválido para a moeda " + currency + ": " + amount);
+    }
+  }
+
+  private static InvalidMoneyException overflow() {
+    return new InvalidMoneyException("Valor excede o limite suportado.");
+  }
+
+  private static Money[] createZeros() {
+    Currency[] currencies = Currency.values();
+    Money[] zeros = new Money[currencies.length];
+    for (Currency currency : currencies) {
+      zeros[currency.ordinal()] = new Money(0L, currency);
+    }
+    return zeros;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -75,11 +144,16 @@ public record Money(BigDecimal amount, Currency currency) {
       return false;
     }
 
-    return amount.compareTo(money.amount) == 0 && currency == money.currency;
+    return minorUnits == money.minorUnits && currency == money.currency;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(amount.stripTrailingZeros(), currency);
+    return 31 * Long.hashCode(minorUnits) + currency.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "Money[amount=" + amount() + ", currency=" + currency + "]";
   }
 }
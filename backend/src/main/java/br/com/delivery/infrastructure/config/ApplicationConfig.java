@@ -1,48 +1,268 @@
 package br.com.delivery.infrastructure.config;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import br.com.delivery.application.IdempotencyStore;
+import br.com.delivery.application.PaymentProcessor;
+import br.com.delivery.application.PaymentRetryPolicy;
 import br.com.delivery.application.usecases.order.AddItemToOrderUseCase;
+import br.com.delivery.application.usecases.order.AddItemsToOrderUseCase;
 import br.com.delivery.application.usecases.order.CancelOrderUseCase;
 import br.com.delivery.application.usecases.order.DecreaseItemQuantityFromOrderUseCase;
 import br.com.delivery.application.usecases.order.RemoveItemFromOrderUseCase;
+import br.com.delivery.application.usecases.payment.PayOrderUseCase;
+import br.com.delivery.domain.payment.IPaymentMethod;
 import br.com.delivery.domain.repositories.IAccountRepository;
 import br.com.delivery.domain.repositories.IClientRepository;
 import br.com.delivery.domain.repositories.IOrderRepository;
+import br.com.delivery.domain.repositories.IPaymentRepository;
 import br.com.delivery.domain.repositories.IRestaurantOwnerRepository;
 import br.com.delivery.domain.repositories.IRestaurantRepository;
+import br.com.delivery.infrastructure.events.AsyncOrderEventBus;
+import br.com.delivery.infrastructure.events.OrderEventListener;
+import br.com.delivery.infrastructure.execution.OrderCommandExecutor;
+import br.com.delivery.infrastructure.persistence.eventstore.EventSourcedOrderRepository;
+import br.com.delivery.infrastructure.execution.OrderCommandPipeline;
+import br.com.delivery.infrastructure.execution.OrderMailboxExecutor;
+import br.com.delivery.infrastructure.persistence.jdbc.JdbcOrderRepository;
+import br.com.delivery.infrastructure.persistence.jdbc.JdbcRestaurantRepository;
+import br.com.delivery.infrastructure.persistence.jdbc.JdbcSchema;
 import br.com.delivery.infrastructure.persistence.memory.InMemoryAccountRepository;
 import br.com.delivery.infrastructure.persistence.memory.InMemoryRestaurantRepository;
 import br.com.delivery.infrastructure.persistence.memory.InMemoryOrderRepository;
+import br.com.delivery.infrastructure.persistence.memory.InMemoryPaymentRepository;
 import br.com.delivery.infrastructure.persistence.memory.InMemoryClientRepository;
 import br.com.delivery.infrastructure.persistence.memory.InMemoryRestaurantOwnerRepository;
+import br.com.delivery.infrastructure.persistence.memory.ShardedOrderRepository;
+import br.com.delivery.infrastructure.persistence.wal.JournaledAccountRepository;
+import br.com.delivery.infrastructure.persistence.wal.JournaledClientRepository;
+import br.com.delivery.infrastructure.persistence.wal.JournaledOrderRepository;
+import br.com.delivery.infrastructure.persistence.wal.JournaledRestaurantOwnerRepository;
+import br.com.delivery.infrastructure.persistence.wal.JournaledRestaurantRepository;
+import br.com.delivery.infrastructure.persistence.wal.WalCheckpointScheduler;
+import br.com.delivery.infrastructure.persistence.wal.WalRecoverable;
+import br.com.delivery.infrastructure.persistence.wal.WalSnapshotSource;
+import br.com.delivery.infrastructure.persistence.wal.WriteAheadLog;
+import br.com.delivery.infrastructure.scheduling.HashedTimingWheel;
 
 @Configuration
 public class ApplicationConfig {
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.persistence.wal.enabled", havingValue = "true")
+    public WriteAheadLog writeAheadLog(
+        @Value("${app.persistence.wal.directory:data/wal}") String directory,
+        @Value("${app.persistence.wal.segment-size:" + WriteAheadLog.DEFAULT_SEGMENT_SIZE + "}") int segmentSize
+    ) {
+        return WriteAheadLog.open(Path.of(directory), segmentSize);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.persistence.wal.enabled", havingValue = "true")
+    public WalCheckpointScheduler walCheckpointScheduler(
+        WriteAheadLog writeAheadLog,
+        IAccountRepository accountRepository,
+        IClientRepository clientRepository,
+        IRestaurantOwnerRepository restaurantOwnerRepository,
+        IRestaurantRepository restaurantRepository,
+        IOrderRepository orderRepository,
+        @Value("${app.persistence.wal.snapshot-interval:PT5M}") Duration interval
+    ) {
+        List<Object> repositories = List.of(accountRepository, clientRepository, restaurantOwnerRepository,
+            restaurantRepository, orderRepository);
+        writeAheadLog.recover(repositories.stream()
+            .filter(WalRecoverable.class::isInstance)
+            .map(WalRecoverable.class::cast)
+            .toList());
+        List<WalSnapshotSource> sources = repositories.stream()
+            .filter(WalSnapshotSource.class::isInstance)
+            .map(WalSnapshotSource.class::cast)
+            .toList();
+        return new WalCheckpointScheduler(writeAheadLog, sources, interval);
+    }
+
+    @Bean(destroyMethod = "close")
+    public OrderCommandExecutor orderCommandExecutor(
+        ObjectProvider<WriteAheadLog> writeAheadLog,
+        @Value("${app.orders.executor:mailbox}") String executor,
+        @Value("${app.orders.mailbox.threads:0}") int threads,
+        @Value("${app.orders.pipeline.capacity:1024}") int capacity,
+        @Value("${app.orders.pipeline.timeout:PT5S}") Duration timeout
+    ) {
+        if ("pipeline".equals(executor)) {
+            return new OrderCommandPipeline(capacity, timeout, writeAheadLog.getIfAvailable());
+        }
+        int mailboxThreads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new OrderMailboxExecutor(mailboxThreads);
+    }
+
+    @Bean(destroyMethod = "close")
+    public AsyncOrderEventBus orderEventBus(
+        ObjectProvider<OrderEventListener> listeners,
+        ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${app.orders.events.capacity:65536}") int capacity,
+        @Value("${app.orders.events.batch-size:256}") int batchSize
+    ) {
+        AsyncOrderEventBus bus = new AsyncOrderEventBus(capacity, batchSize);
+        listeners.orderedStream().forEach(bus::subscribe);
+        meterRegistry.ifAvailable(registry -> FunctionCounter
+            .builder("orders.events.dropped", bus, AsyncOrderEventBus::droppedEvents)
+            .description("Eventos de pedido descartados com a fila cheia")
+            .register(registry));
+        return bus;
+    }
+
+    @Bean
+    public IAccountRepository accountRepository(ObjectProvider<WriteAheadLog> writeAheadLog) {
+        InMemoryAccountRepository repository = new InMemoryAccountRepository();
+        WriteAheadLog log = writeAheadLog.getIfAvailable();
+        return log == null ? repository : new JournaledAccountRepository(repository, log);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.persistence.store", havingValue = "jdbc")
+    public HikariDataSource dataSource(
+        @Value("${spring.datasource.url:jdbc:h2:mem:delivery;DB_CLOSE_DELAY=-1}") String url,
+        @Value("${spring.datasource.username:sa}") String username,
+        @Value("${spring.datasource.password:}") String password
+    ) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.persistence.store", havingValue = "jdbc")
+    public JdbcSchema jdbcSchema(DataSource dataSource) {
+        return JdbcSchema.initialize(dataSource);
+    }
+
     @Bean
-    public IAccountRepository accountRepository() {
-        return new InMemoryAccountRepository();
+    public IRestaurantRepository restaurantRepository(
+        ObjectProvider<WriteAheadLog> writeAheadLog,
+        ObjectProvider<JdbcSchema> jdbcSchema
+    ) {
+        JdbcSchema schema = jdbcSchema.getIfAvailable();
+        if (schema != null) {
+            return new JdbcRestaurantRepository(schema.dataSource());
+        }
+        InMemoryRestaurantRepository repository = new InMemoryRestaurantRepository();
+        WriteAheadLog log = writeAheadLog.getIfAvailable();
+        return log == null ? repository : new JournaledRestaurantRepository(repository, log);
     }
 
     @Bean
-    public IRestaurantRepository restaurantRepository() {
-        return new InMemoryRestaurantRepository();
+    public IOrderRepository orderRepository(
+        ObjectProvider<WriteAheadLog> writeAheadLog,
+        ObjectProvider<JdbcSchema> jdbcSchema,
+        AsyncOrderEventBus orderEventBus,
+        @Value("${app.persistence.order-shards:1}") int orderShards,
+        @Value("${app.persistence.order-events.enabled:false}") boolean eventSourced,
+        @Value("${app.persistence.order-events.snapshot-interval:"
+            + EventSourcedOrderRepository.DEFAULT_SNAPSHOT_INTERVAL + "}") int snapshotInterval
+    ) {
+        JdbcSchema schema = jdbcSchema.getIfAvailable();
+        WriteAheadLog log = writeAheadLog.getIfAvailable();
+        List<String> stores = new ArrayList<>();
+        if (schema != null) {
+            stores.add("app.persistence.store=jdbc");
+        }
+        if (log != null) {
+            stores.add("app.persistence.wal.enabled=true");
+        }
+        if (eventSourced) {
+            stores.add("app.persistence.order-events.enabled=true");
+        }
+        if (orderShards > 1) {
+            stores.add("app.persistence.order-shards=" + orderShards);
+        }
+        if (stores.size() > 1) {
+            throw new IllegalStateException(
+                "Configurações de persistência de pedidos conflitantes: " + String.join(", ", stores)
+                    + ". Habilite apenas uma.");
+        }
+
+        if (schema != null) {
+            return new JdbcOrderRepository(schema.dataSource(), orderEventBus);
+        }
+        if (log != null) {
+            return new JournaledOrderRepository(new InMemoryOrderRepository(), log, orderEventBus);
+        }
+        if (eventSourced) {
+            return new EventSourcedOrderRepository(snapshotInterval, orderEventBus);
+        }
+        return orderShards > 1
+            ? new ShardedOrderRepository(orderShards, orderEventBus)
+            : new InMemoryOrderRepository(orderEventBus);
     }
 
     @Bean
-    public IOrderRepository orderRepository() {
-        return new InMemoryOrderRepository();
+    public IdempotencyStore idempotencyStore(
+        @Value("${app.idempotency.max-entries:100000}") int maxEntries,
+        @Value("${app.idempotency.ttl:PT24H}") Duration ttl
+    ) {
+        return new IdempotencyStore(maxEntries, ttl);
     }
 
     @Bean
-    public IRestaurantOwnerRepository restaurantOwnerRepository() {
-        return new InMemoryRestaurantOwnerRepository();
+    public IPaymentRepository paymentRepository() {
+        return new InMemoryPaymentRepository();
+    }
+
+    @Bean(destroyMethod = "close")
+    public HashedTimingWheel paymentPollWheel(
+        @Value("${app.payments.poll.tick:PT0.1S}") Duration tick,
+        @Value("${app.payments.poll.wheel-size:512}") int wheelSize
+    ) {
+        return new HashedTimingWheel(tick, wheelSize);
+    }
+
+    @Bean(destroyMethod = "close")
+    public PaymentProcessor paymentProcessor(
+        IOrderRepository orderRepository,
+        IPaymentRepository paymentRepository,
+        HashedTimingWheel paymentPollWheel,
+        IdempotencyStore idempotencyStore,
+        @Value("${app.payments.max-concurrency:16}") int maxConcurrency,
+        @Value("${app.payments.queue-capacity:1024}") int queueCapacity,
+        @Value("${app.payments.call-timeout:PT5S}") Duration callTimeout,
+        @Value("${app.payments.poll.initial-delay:PT1S}") Duration initialDelay,
+        @Value("${app.payments.poll.max-delay:PT5M}") Duration maxDelay,
+        @Value("${app.payments.poll.max-attempts:20}") int maxAttempts
+    ) {
+        return new PaymentProcessor(orderRepository, paymentRepository, maxConcurrency, queueCapacity, callTimeout,
+            paymentPollWheel, new PaymentRetryPolicy(initialDelay, maxDelay, maxAttempts), idempotencyStore);
     }
 
     @Bean
-    public IClientRepository clientRepository() {
-        return new InMemoryClientRepository();
+    public IRestaurantOwnerRepository restaurantOwnerRepository(ObjectProvider<WriteAheadLog> writeAheadLog) {
+        InMemoryRestaurantOwnerRepository repository = new InMemoryRestaurantOwnerRepository();
+        WriteAheadLog log = writeAheadLog.getIfAvailable();
+        return log == null ? repository : new JournaledRestaurantOwnerRepository(repository, log);
+    }
+
+    @Bean
+    public IClientRepository clientRepository(ObjectProvider<WriteAheadLog> writeAheadLog) {
+        InMemoryClientRepository repository = new InMemoryClientRepository();
+        WriteAheadLog log = writeAheadLog.getIfAvailable();
+        return log == null ? repository : new JournaledClientRepository(repository, log);
     }
 
     @Bean
@@ -54,11 +274,29 @@ public class ApplicationConfig {
         return new AddItemToOrderUseCase(accountRepository, restaurantRepository, orderRepository);
     }
 
+    @Bean
+    public AddItemsToOrderUseCase addItemsToOrderUseCase(
+        IAccountRepository accountRepository,
+        IRestaurantRepository restaurantRepository,
+        IOrderRepository orderRepository
+    ) {
+        return new AddItemsToOrderUseCase(accountRepository, restaurantRepository, orderRepository);
+    }
+
     @Bean
     public CancelOrderUseCase cancelOrderUseCase(IOrderRepository orderRepository) {
         return new CancelOrderUseCase(orderRepository);
     }
 
+    @Bean
+    public PayOrderUseCase payOrderUseCase(
+        IOrderRepository orderRepository,
+        PaymentProcessor paymentProcessor,
+        ListableBeanFactory beanFactory
+    ) {
+        return new PayOrderUseCase(orderRepository, paymentProcessor, beanFactory.getBeansOfType(IPaymentMethod.class));
+    }
+
     @Bean
     public RemoveItemFromOrderUseCase removeItemFromOrderUseCase(IOrderRepository orderRepository) {
         return new RemoveItemFromOrderUseCase(orderRepository);
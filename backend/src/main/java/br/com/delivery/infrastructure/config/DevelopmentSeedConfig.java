@@ -57,6 +57,11 @@ public class DevelopmentSeedConfig {
         return;
       }
 
+      if (accountRepository.findById(CLIENT_ACCOUNT_ID).isPresent()) {
+        LOGGER.info("Seed inicial já presente, carga ignorada.");
+        return;
+      }
+
       Account clientAccount = Account.restore(
           CLIENT_ACCOUNT_ID,
           "Cliente Demo",
@@ -0,0 +1,109 @@
+package br.com.delivery.infrastructure.events;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import br.com.delivery.domain.order.OrderEvent;
+import br.com.delivery.domain.order.OrderEventPublisher;
+
+public final class AsyncOrderEventBus implements OrderEventPublisher, AutoCloseable {
+  private static final Logger LOGGER = LoggerFactory.getLogger(AsyncOrderEventBus.class);
+  private static final long POLL_MILLIS = 100;
+
+  private final BlockingQueue<OrderEvent> queue;
+  private final int maxBatch;
+  private final List<OrderEventListener> listeners = new CopyOnWriteArrayList<>();
+  private final LongAdder dropped = new LongAdder();
+  private final Thread dispatcher;
+  private volatile boolean closed;
+
+  public AsyncOrderEventBus(int capacity, int maxBatch) {
+    if (capacity <= 0 || maxBatch <= 0) {
+      throw new IllegalArgumentException("Capacidade e tamanho de lote devem ser positivos.");
+    }
+
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.maxBatch = maxBatch;
+    this.dispatcher = new Thread(this::dispatchLoop, "order-events");
+    this.dispatcher.setDaemon(true);
+    this.dispatcher.start();
+  }
+
+  public void subscribe(OrderEventListener listener) {
+    listeners.add(Objects.requireNonNull(listener));
+  }
+
+  @Override
+  public void publish(List<OrderEvent> events) {
+    if (closed) {
+      throw new IllegalStateException("O barramento de eventos foi encerrado.");
+    }
+
+    int rejected = 0;
+    for (OrderEvent event : events) {
+      if (!queue.offer(event)) {
+        rejected++;
+      }
+    }
+    if (rejected > 0) {
+      dropped.add(rejected);
+      LOGGER.warn("Fila de eventos de pedido cheia; {} eventos descartados ({} no total).", rejected,
+          dropped.sum());
+    }
+  }
+
+  public long droppedEvents() {
+    return dropped.sum();
+  }
+
+  private void dispatchLoop() {
+    List<OrderEvent> batch = new ArrayList<>(maxBatch);
+    List<OrderEvent> view = Collections.unmodifiableList(batch);
+
+    while (true) {
+      OrderEvent first;
+      try {
+        first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        return;
+      }
+      if (first == null) {
+        if (closed) {
+          return;
+        }
+        continue;
+      }
+
+      batch.add(first);
+      queue.drainTo(batch, maxBatch - 1);
+      for (OrderEventListener listener : listeners) {
+        try {
+          listener.onEvents(view);
+        } catch (RuntimeException e) {
+          LOGGER.warn("Falha ao entregar {} eventos de pedido.", batch.size(), e);
+        }
+      }
+      batch.clear();
+    }
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    try {
+      dispatcher.join(TimeUnit.SECONDS.toMillis(30));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,10 @@
+package br.com.delivery.infrastructure.events;
+
+import java.util.List;
+
+import br.com.delivery.domain.order.OrderEvent;
+
+@FunctionalInterface
+public interface OrderEventListener {
+  void onEvents(List<OrderEvent> events);
+}
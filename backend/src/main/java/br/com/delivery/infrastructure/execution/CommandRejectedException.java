@@ -0,0 +1,7 @@
+package br.com.delivery.infrastructure.execution;
+
+public class CommandRejectedException extends RuntimeException {
+  public CommandRejectedException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,18 @@
+package br.com.delivery.infrastructure.execution;
+
+import java.util.List;
+
+public record MailboxMetrics(int activeMailboxes, long submittedCommands, long completedCommands,
+    int maxObservedDepth, List<HotMailbox> hottest) implements OrderExecutorMetrics {
+
+  public MailboxMetrics {
+    hottest = List.copyOf(hottest);
+  }
+
+  public long pendingCommands() {
+    return submittedCommands - completedCommands;
+  }
+
+  public record HotMailbox(String key, int depth) {
+  }
+}
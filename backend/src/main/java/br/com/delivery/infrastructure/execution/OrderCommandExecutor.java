@@ -0,0 +1,17 @@
+package br.com.delivery.infrastructure.execution;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.domain.restaurant.RestaurantId;
+
+public interface OrderCommandExecutor {
+  <T> T execute(OrderId orderId, Supplier<T> command);
+
+  <T> T execute(AccountId accountId, RestaurantId restaurantId, Supplier<T> command,
+      Function<? super T, OrderId> orderIdOf);
+
+  OrderExecutorMetrics metrics(int hottest);
+}
@@ -0,0 +1,273 @@
+package br.com.delivery.infrastructure.execution;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.domain.restaurant.RestaurantId;
+import br.com.delivery.infrastructure.persistence.wal.WriteAheadLog;
+
+public final class OrderCommandPipeline implements OrderCommandExecutor, AutoCloseable {
+  private static final int SPIN_TRIES = 64;
+  private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+  private final Slot[] slots;
+  private final int mask;
+  private final int indexShift;
+  private final AtomicIntegerArray publishedRounds;
+  private final AtomicLong claimed = new AtomicLong(-1);
+  private final AtomicLong validated = new AtomicLong(-1);
+  private final AtomicLong executed = new AtomicLong(-1);
+  private final AtomicLong journaled = new AtomicLong(-1);
+  private final AtomicLong completed = new AtomicLong(-1);
+  private final WriteAheadLog log;
+  private final long timeoutNanos;
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder responded = new LongAdder();
+  private final List<Thread> stages = new ArrayList<>();
+  private volatile long journalBatches;
+  private volatile int maxJournalBatch;
+  private volatile boolean accepting = true;
+  private volatile boolean running = true;
+
+  public OrderCommandPipeline(int capacity, Duration timeout, WriteAheadLog log) {
+    if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("A capacidade do anel deve ser uma potência de dois: " + capacity);
+    }
+    if (timeout.isNegative() || timeout.isZero()) {
+      throw new IllegalArgumentException("Tempo limite inválido: " + timeout);
+    }
+
+    this.slots = new Slot[capacity];
+    for (int i = 0; i < capacity; i++) {
+      slots[i] = new Slot();
+    }
+    this.mask = capacity - 1;
+    this.indexShift = Integer.numberOfTrailingZeros(capacity);
+    this.publishedRounds = new AtomicIntegerArray(capacity);
+    for (int i = 0; i < capacity; i++) {
+      publishedRounds.set(i, -1);
+    }
+    this.timeoutNanos = timeout.toNanos();
+    this.log = log;
+
+    startStage("order-pipeline-validation", validated, this::highestPublished, this::validate);
+    startStage("order-pipeline-business", executed, next -> validated.get(), this::runBusiness);
+    startStage("order-pipeline-journal", journaled, next -> executed.get(), this::journal);
+    startStage("order-pipeline-response", completed, next -> journaled.get(), this::respond);
+  }
+
+  @Override
+  public <T> T execute(OrderId orderId, Supplier<T> command) {
+    return await(publish(command));
+  }
+
+  @Override
+  public <T> T execute(AccountId accountId, RestaurantId restaurantId, Supplier<T> command,
+      Function<? super T, OrderId> orderIdOf) {
+    return await(publish(command));
+  }
+
+  @Override
+  public PipelineMetrics metrics(int hottest) {
+    return new PipelineMetrics(slots.length, claimed.get() + 1, responded.sum(), journalBatches,
+        maxJournalBatch, rejected.sum());
+  }
+
+  @SuppressWarnings("unchecked")
+  <T> CompletableFuture<T> publish(Supplier<T> command) {
+    Objects.requireNonNull(command);
+    if (!accepting) {
+      throw new CommandRejectedException("O pipeline de pedidos foi encerrado.");
+    }
+
+    long sequence = claimed.incrementAndGet();
+    long wrapPoint = sequence - slots.length;
+    for (int tries = 0; wrapPoint > completed.get(); tries++) {
+      idle(tries);
+    }
+
+    Slot slot = slots[(int) sequence & mask];
+    CompletableFuture<Object> future = new CompletableFuture<>();
+    slot.command = (Supplier<Object>) command;
+    slot.future = future;
+    slot.publishedAt = System.nanoTime();
+    publishedRounds.set((int) sequence & mask, (int) (sequence >>> indexShift));
+    return (CompletableFuture<T>) future;
+  }
+
+  private long highestPublished(long next) {
+    long upTo = claimed.get();
+    for (long sequence = next; sequence <= upTo; sequence++) {
+      if (publishedRounds.get((int) sequence & mask) != (int) (sequence >>> indexShift)) {
+        return sequence - 1;
+      }
+    }
+    return upTo;
+  }
+
+  private void validate(long from, long to) {
+    long now = System.nanoTime();
+    for (long sequence = from; sequence <= to; sequence++) {
+      Slot slot = slots[(int) sequence & mask];
+      if (now - slot.publishedAt > timeoutNanos) {
+        rejected.increment();
+        slot.failure = new CommandRejectedException("O comando expirou antes de ser processado.");
+      }
+    }
+  }
+
+  private void runBusiness(long from, long to) {
+    for (long sequence = from; sequence <= to; sequence++) {
+      Slot slot = slots[(int) sequence & mask];
+      if (slot.failure != null) {
+        continue;
+      }
+      try {
+        slot.result = log == null ? slot.command.get() : log.deferringSync(slot.command);
+      } catch (Throwable e) {
+        slot.failure = e;
+      }
+    }
+  }
+
+  private void journal(long from, long to) {
+    int batch = (int) (to - from + 1);
+    journalBatches++;
+    if (batch > maxJournalBatch) {
+      maxJournalBatch = batch;
+    }
+    if (log == null) {
+      return;
+    }
+
+    try {
+      log.sync();
+    } catch (RuntimeException e) {
+      for (long sequence = from; sequence <= to; sequence++) {
+        Slot slot = slots[(int) sequence & mask];
+        if (slot.failure == null) {
+          slot.failure = e;
+        }
+      }
+    }
+  }
+
+  private void respond(long from, long to) {
+    for (long sequence = from; sequence <= to; sequence++) {
+      Slot slot = slots[(int) sequence & mask];
+      CompletableFuture<Object> future = slot.future;
+      Object result = slot.result;
+      Throwable failure = slot.failure;
+      slot.clear();
+      responded.increment();
+      if (failure == null) {
+        future.complete(result);
+      } else {
+        future.completeExceptionally(failure);
+      }
+    }
+  }
+
+  private void startStage(String name, AtomicLong sequence, Barrier barrier, BatchHandler handler) {
+    Thread thread = new Thread(() -> {
+      long next = sequence.get() + 1;
+      int tries = 0;
+      while (running) {
+        long available = barrier.highestAvailable(next);
+        if (available < next) {
+          idle(tries);
+          tries = Math.min(tries + 1, SPIN_TRIES * 2);
+          continue;
+        }
+        tries = 0;
+        handler.handle(next, available);
+        sequence.set(available);
+        next = available + 1;
+      }
+    }, name);
+    thread.setDaemon(true);
+    thread.start();
+    stages.add(thread);
+  }
+
+  private static void idle(int tries) {
+    if (tries < SPIN_TRIES) {
+      Thread.onSpinWait();
+    } else if (tries < SPIN_TRIES * 2) {
+      Thread.yield();
+    } else {
+      LockSupport.parkNanos(IDLE_PARK_NANOS);
+    }
+  }
+
+  private static <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public void close() {
+    accepting = false;
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+    for (int tries = 0; completed.get() < claimed.get() && System.nanoTime() < deadline; tries++) {
+      idle(tries);
+    }
+
+    running = false;
+    for (Thread stage : stages) {
+      try {
+        stage.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  @FunctionalInterface
+  private interface Barrier {
+    long highestAvailable(long next);
+  }
+
+  @FunctionalInterface
+  private interface BatchHandler {
+    void handle(long from, long to);
+  }
+
+  private static final class Slot {
+    private Supplier<Object> command;
+    private CompletableFuture<Object> future;
+    private long publishedAt;
+    private Object result;
+    private Throwable failure;
+
+    private void clear() {
+      command = null;
+      future = null;
+      result = null;
+      failure = null;
+    }
+  }
+}
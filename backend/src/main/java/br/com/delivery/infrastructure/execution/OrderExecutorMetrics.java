@@ -0,0 +1,7 @@
+package br.com.delivery.infrastructure.execution;
+
+public sealed interface OrderExecutorMetrics permits MailboxMetrics, PipelineMetrics {
+  long submittedCommands();
+
+  long completedCommands();
+}
@@ -0,0 +1,207 @@
+package br.com.delivery.infrastructure.execution;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.domain.restaurant.RestaurantId;
+
+public final class OrderMailboxExecutor implements OrderCommandExecutor, AutoCloseable {
+  private static final int DRAIN_BATCH = 32;
+  private static final int ROUTE_CAPACITY = 65_536;
+
+  private final Map<Object, Mailbox> mailboxes = new ConcurrentHashMap<>();
+  private final Map<OrderId, DraftKey> routes = Collections.synchronizedMap(
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<OrderId, DraftKey> eldest) {
+          return size() > ROUTE_CAPACITY;
+        }
+      });
+  private final ExecutorService workers;
+  private final LongAdder submitted = new LongAdder();
+  private final LongAdder completed = new LongAdder();
+  private final AtomicInteger maxObservedDepth = new AtomicInteger();
+  private volatile boolean closed;
+
+  public OrderMailboxExecutor(int threads) {
+    if (threads <= 0) {
+      throw new IllegalArgumentException("O número de threads deve ser positivo.");
+    }
+
+    AtomicInteger counter = new AtomicInteger();
+    this.workers = Executors.newFixedThreadPool(threads, runnable -> {
+      Thread thread = new Thread(runnable, "order-mailbox-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @Override
+  public <T> T execute(OrderId orderId, Supplier<T> command) {
+    return await(submit(routeOf(orderId), command));
+  }
+
+  @Override
+  public <T> T execute(AccountId accountId, RestaurantId restaurantId, Supplier<T> command,
+      Function<? super T, OrderId> orderIdOf) {
+    Objects.requireNonNull(orderIdOf);
+    DraftKey key = new DraftKey(accountId, restaurantId);
+    return await(submit(key, () -> {
+      T result = command.get();
+      routes.put(orderIdOf.apply(result), key);
+      return result;
+    }));
+  }
+
+  @Override
+  public MailboxMetrics metrics(int hottest) {
+    List<MailboxMetrics.HotMailbox> depths = new ArrayList<>();
+    for (Mailbox mailbox : mailboxes.values()) {
+      int depth = mailbox.depth;
+      if (depth > 0) {
+        depths.add(new MailboxMetrics.HotMailbox(mailbox.label, depth));
+      }
+    }
+    depths.sort(Comparator.comparingInt(MailboxMetrics.HotMailbox::depth).reversed());
+
+    return new MailboxMetrics(mailboxes.size(), submitted.sum(), completed.sum(), maxObservedDepth.get(),
+        depths.subList(0, Math.min(Math.max(hottest, 0), depths.size())));
+  }
+
+  private Object routeOf(OrderId orderId) {
+    DraftKey key = routes.get(orderId);
+    return key == null ? orderId : key;
+  }
+
+  <T> CompletableFuture<T> submit(Object key, Supplier<T> command) {
+    Objects.requireNonNull(key);
+    Objects.requireNonNull(command);
+    if (closed) {
+      throw new IllegalStateException("O executor de pedidos foi encerrado.");
+    }
+
+    CompletableFuture<T> result = new CompletableFuture<>();
+    Runnable task = () -> {
+      T value;
+      try {
+        value = command.get();
+      } catch (Throwable e) {
+        completed.increment();
+        result.completeExceptionally(e);
+        return;
+      }
+      completed.increment();
+      result.complete(value);
+    };
+
+    boolean[] created = new boolean[1];
+    mailboxes.compute(key, (k, mailbox) -> {
+      if (mailbox == null) {
+        mailbox = new Mailbox(k);
+        created[0] = true;
+      }
+      mailbox.queue.add(task);
+      mailbox.depth = mailbox.queue.size();
+      maxObservedDepth.accumulateAndGet(mailbox.depth, Math::max);
+      return mailbox;
+    });
+    submitted.increment();
+
+    if (created[0] && !schedule(key)) {
+      drain(key);
+    }
+    return result;
+  }
+
+  private boolean schedule(Object key) {
+    try {
+      workers.execute(() -> drain(key));
+      return true;
+    } catch (RejectedExecutionException e) {
+      return false;
+    }
+  }
+
+  private void drain(Object key) {
+    int processed = 0;
+    Runnable next;
+    while ((next = poll(key)) != null) {
+      next.run();
+      if (++processed % DRAIN_BATCH == 0 && schedule(key)) {
+        return;
+      }
+    }
+  }
+
+  private Runnable poll(Object key) {
+    Runnable[] next = new Runnable[1];
+    mailboxes.computeIfPresent(key, (k, mailbox) -> {
+      next[0] = mailbox.queue.poll();
+      mailbox.depth = mailbox.queue.size();
+      return next[0] == null ? null : mailbox;
+    });
+    return next[0];
+  }
+
+  private static <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    workers.shutdown();
+    try {
+      workers.awaitTermination(30, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static final class Mailbox {
+    private final String label;
+    private final Queue<Runnable> queue = new ArrayDeque<>();
+    private volatile int depth;
+
+    private Mailbox(Object key) {
+      this.label = key instanceof OrderId orderId ? orderId.value().toString() : key.toString();
+    }
+  }
+
+  private record DraftKey(AccountId accountId, RestaurantId restaurantId) {
+    @Override
+    public String toString() {
+      return "rascunho:" + accountId.value() + "/" + restaurantId.value();
+    }
+  }
+}
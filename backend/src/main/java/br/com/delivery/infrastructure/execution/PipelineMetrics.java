@@ -0,0 +1,9 @@
+package br.com.delivery.infrastructure.execution;
+
+public record PipelineMetrics(int capacity, long submittedCommands, long completedCommands, long journalBatches,
+    int maxJournalBatch, long rejectedCommands) implements OrderExecutorMetrics {
+
+  public long pendingCommands() {
+    return submittedCommands - completedCommands;
+  }
+}
@@ -0,0 +1,7 @@
+package br.com.delivery.infrastructure.payment;
+
+public enum CircuitState {
+  CLOSED,
+  OPEN,
+  HALF_OPEN
+}
@@ -0,0 +1,5 @@
+package br.com.delivery.infrastructure.payment;
+
+public record PaymentResilienceMetrics(CircuitState state, long openTransitions, long halfOpenTransitions,
+    long closedTransitions, long rejectedByCircuit, long rejectedByBulkhead, long failedCalls) {
+}
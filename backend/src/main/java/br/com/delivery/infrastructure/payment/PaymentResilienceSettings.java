@@ -0,0 +1,19 @@
+package br.com.delivery.infrastructure.payment;
+
+import java.time.Duration;
+
+public record PaymentResilienceSettings(int maxConcurrentCalls, int windowSize, double failureRateThreshold,
+    Duration slowCallDuration, Duration openDuration, int halfOpenCalls) {
+  public PaymentResilienceSettings {
+    if (maxConcurrentCalls <= 0 || windowSize <= 0 || halfOpenCalls <= 0) {
+      throw new IllegalArgumentException("Limites de concorrência, janela e chamadas de teste devem ser positivos.");
+    }
+    if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+      throw new IllegalArgumentException("A taxa de falhas deve estar entre 0 e 1: " + failureRateThreshold);
+    }
+    if (slowCallDuration.isNegative() || slowCallDuration.isZero() || openDuration.isNegative()
+        || openDuration.isZero()) {
+      throw new IllegalArgumentException("Durações do circuito devem ser positivas.");
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package br.com.delivery.infrastructure.payment;
+
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import br.com.delivery.domain.payment.IPaymentMethod;
+import br.com.delivery.domain.payment.Payment;
+import br.com.delivery.domain.payment.PaymentProcessingResult;
+
+public final class ResilientPaymentMethod implements IPaymentMethod {
+  private final IPaymentMethod delegate;
+  private final PaymentResilienceSettings settings;
+  private final Semaphore bulkhead;
+  private final LongSupplier clock;
+  private final boolean[] window;
+  private final LongAdder rejectedByCircuit = new LongAdder();
+  private final LongAdder rejectedByBulkhead = new LongAdder();
+  private final LongAdder failedCalls = new LongAdder();
+  private CircuitState state = CircuitState.CLOSED;
+  private int recorded;
+  private int next;
+  private int failuresInWindow;
+  private long openedAt;
+  private int halfOpenPermits;
+  private int halfOpenSuccesses;
+  private long openTransitions;
+  private long halfOpenTransitions;
+  private long closedTransitions;
+
+  public ResilientPaymentMethod(IPaymentMethod delegate, PaymentResilienceSettings settings) {
+    this(delegate, settings, System::nanoTime);
+  }
+
+  ResilientPaymentMethod(IPaymentMethod delegate, PaymentResilienceSettings settings, LongSupplier clock) {
+    this.delegate = Objects.requireNonNull(delegate);
+    this.settings = Objects.requireNonNull(settings);
+    this.clock = Objects.requireNonNull(clock);
+    this.bulkhead = new Semaphore(settings.maxConcurrentCalls());
+    this.window = new boolean[settings.windowSize()];
+  }
+
+  @Override
+  public PaymentProcessingResult process(Payment payment) {
+    return guarded(() -> delegate.process(payment), PaymentProcessingResult.UNAVAILABLE);
+  }
+
+  @Override
+  public PaymentProcessingResult queryStatus(Payment payment) {
+    return guarded(() -> delegate.queryStatus(payment), PaymentProcessingResult.UNKNOWN);
+  }
+
+  public synchronized PaymentResilienceMetrics metrics() {
+    return new PaymentResilienceMetrics(state, openTransitions, halfOpenTransitions, closedTransitions,
+        rejectedByCircuit.sum(), rejectedByBulkhead.sum(), failedCalls.sum());
+  }
+
+  private PaymentProcessingResult guarded(Supplier<PaymentProcessingResult> call, PaymentProcessingResult rejected) {
+    if (!bulkhead.tryAcquire()) {
+      rejectedByBulkhead.increment();
+      return rejected;
+    }
+
+    try {
+      if (!tryAcquirePermission()) {
+        rejectedByCircuit.increment();
+        return rejected;
+      }
+
+      long started = clock.getAsLong();
+      PaymentProcessingResult result;
+      try {
+        result = call.get();
+      } catch (RuntimeException e) {
+        failedCalls.increment();
+        onResult(false);
+        return PaymentProcessingResult.UNKNOWN;
+      }
+
+      onResult(clock.getAsLong() - started < settings.slowCallDuration().toNanos());
+      return result;
+    } finally {
+      bulkhead.release();
+    }
+  }
+
+  private synchronized boolean tryAcquirePermission() {
+    if (state == CircuitState.OPEN && clock.getAsLong() - openedAt >= settings.openDuration().toNanos()) {
+      state = CircuitState.HALF_OPEN;
+      halfOpenPermits = settings.halfOpenCalls();
+      halfOpenSuccesses = 0;
+      halfOpenTransitions++;
+    }
+
+    return switch (state) {
+      case CLOSED -> true;
+      case OPEN -> false;
+      case HALF_OPEN -> halfOpenPermits-- > 0;
+    };
+  }
+
+  private synchronized void onResult(boolean success) {
+    if (state == CircuitState.HALF_OPEN) {
+      if (!success) {
+        open();
+      } else if (++halfOpenSuccesses >= settings.halfOpenCalls()) {
+        close();
+      }
+      return;
+    }
+    if (state == CircuitState.OPEN) {
+      return;
+    }
+
+    if (recorded == window.length && window[next]) {
+      failuresInWindow--;
+    }
+    window[next] = !success;
+    if (!success) {
+      failuresInWindow++;
+    }
+    next = (next + 1) % window.length;
+    recorded = Math.min(recorded + 1, window.length);
+
+    if (recorded == window.length && failuresInWindow >= settings.failureRateThreshold() * window.length) {
+      open();
+    }
+  }
+
+  private void open() {
+    state = CircuitState.OPEN;
+    openedAt = clock.getAsLong();
+    openTransitions++;
+  }
+
+  private void close() {
+    state = CircuitState.CLOSED;
+    recorded = 0;
+    next = 0;
+    failuresInWindow = 0;
+    closedTransitions++;
+  }
+}
@@ -0,0 +1,190 @@
+package br.com.delivery.infrastructure.persistence.eventstore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.exception.ConcurrentOrderUpdateException;
+import br.com.delivery.domain.order.Order;
+import br.com.delivery.domain.order.OrderCreated;
+import br.com.delivery.domain.order.OrderCursor;
+import br.com.delivery.domain.order.OrderEvent;
+import br.com.delivery.domain.order.OrderEventPublisher;
+import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.domain.order.OrderPage;
+import br.com.delivery.domain.order.OrderStatus;
+import br.com.delivery.domain.repositories.IOrderRepository;
+import br.com.delivery.domain.restaurant.RestaurantId;
+import br.com.delivery.infrastructure.persistence.memory.InMemoryOrderRepository;
+
+public final class EventSourcedOrderRepository implements IOrderRepository {
+  public static final int DEFAULT_SNAPSHOT_INTERVAL = 64;
+  private static final long UNCONDITIONAL = -1;
+
+  private final Map<UUID, EventStream> streams = new ConcurrentHashMap<>();
+  private final Map<DraftKey, UUID> draftIndex = new ConcurrentHashMap<>();
+  private final InMemoryOrderRepository projections = new InMemoryOrderRepository();
+  private final int snapshotInterval;
+  private final OrderEventPublisher publisher;
+
+  public EventSourcedOrderRepository() {
+    this(DEFAULT_SNAPSHOT_INTERVAL, OrderEventPublisher.NONE);
+  }
+
+  public EventSourcedOrderRepository(int snapshotInterval, OrderEventPublisher publisher) {
+    if (snapshotInterval <= 0) {
+      throw new IllegalArgumentException("O intervalo de snapshots deve ser positivo.");
+    }
+    this.snapshotInterval = snapshotInterval;
+    this.publisher = Objects.requireNonNull(publisher);
+  }
+
+  @Override
+  public Optional<Order> findById(OrderId id) {
+    return Optional.ofNullable(streams.get(id.value())).map(EventStream::rebuild);
+  }
+
+  @Override
+  public Optional<Order> findDraftByClientAndRestaurant(AccountId accountId, RestaurantId restaurantId) {
+    UUID orderId = draftIndex.get(new DraftKey(accountId.value(), restaurantId.value()));
+    if (orderId == null) {
+      return Optional.empty();
+    }
+    return findById(new OrderId(orderId)).filter(order -> order.getStatus() == OrderStatus.DRAFT);
+  }
+
+  @Override
+  public List<Order> findAllByClientId(AccountId accountId) {
+    return projections.findAllByClientId(accountId);
+  }
+
+  @Override
+  public OrderPage findPageByClientId(AccountId accountId, OrderCursor cursor, int limit) {
+    return projections.findPageByClientId(accountId, cursor, limit);
+  }
+
+  @Override
+  public List<Order> findAllByRestaurantAndStatus(RestaurantId restaurantId, OrderStatus status) {
+    return projections.findAllByRestaurantAndStatus(restaurantId, status);
+  }
+
+  @Override
+  public int countByRestaurantAndStatus(RestaurantId restaurantId, OrderStatus status) {
+    return projections.countByRestaurantAndStatus(restaurantId, status);
+  }
+
+  public int replayLength(OrderId id) {
+    EventStream stream = streams.get(id.value());
+    return stream == null ? 0 : stream.tail.size();
+  }
+
+  @Override
+  public void save(Order order) {
+    append(order, UNCONDITIONAL);
+  }
+
+  @Override
+  public void save(Order order, long expectedVersion) {
+    if (expectedVersion < 0) {
+      throw new IllegalArgumentException("A versão esperada não pode ser negativa.");
+    }
+    append(order, expectedVersion);
+  }
+
+  private void append(Order order, long expectedVersion) {
+    List<OrderEvent> events = order.pullEvents();
+    long[] newVersion = new long[1];
+    UUID orderId = order.getId().value();
+
+    draftIndex.compute(DraftKey.of(order), (key, currentDraftId) -> {
+      if (expectedVersion != UNCONDITIONAL) {
+        checkSingleDraft(order, currentDraftId);
+      }
+      streams.compute(orderId, (id, current) -> {
+        if (expectedVersion == UNCONDITIONAL) {
+          newVersion[0] = (current == null ? order.getVersion() : current.version) + 1;
+          return EventStream.from(Order.replay(order, List.of(), newVersion[0]));
+        }
+        long currentVersion = current == null ? 0 : current.version;
+        if (currentVersion != expectedVersion) {
+          throw new ConcurrentOrderUpdateException("O pedido " + orderId + " foi alterado por outra operação.");
+        }
+        newVersion[0] = expectedVersion + 1;
+        if (current == null) {
+          return EventStream.start(order, events, newVersion[0]);
+        }
+        return current.append(events, newVersion[0], snapshotInterval);
+      });
+      return nextDraft(order, currentDraftId);
+    });
+
+    order.markAsSaved(newVersion[0]);
+    projections.restore(order);
+    if (!events.isEmpty()) {
+      publisher.publish(events);
+    }
+  }
+
+  private void checkSingleDraft(Order order, UUID currentDraftId) {
+    if (order.getStatus() == OrderStatus.DRAFT && currentDraftId != null
+        && !currentDraftId.equals(order.getId().value())) {
+      throw new ConcurrentOrderUpdateException("Já existe um carrinho aberto para este restaurante.");
+    }
+  }
+
+  private static UUID nextDraft(Order order, UUID currentDraftId) {
+    UUID orderId = order.getId().value();
+    if (order.getStatus() == OrderStatus.DRAFT) {
+      return orderId;
+    }
+    return orderId.equals(currentDraftId) ? null : currentDraftId;
+  }
+
+  private record DraftKey(UUID accountId, UUID restaurantId) {
+    private static DraftKey of(Order order) {
+      return new DraftKey(order.getAccountId().value(), order.getRestaurantId().value());
+    }
+  }
+
+  private static final class EventStream {
+    private final Order snapshot;
+    private final List<OrderEvent> tail;
+    private final long version;
+
+    private EventStream(Order snapshot, List<OrderEvent> tail, long version) {
+      this.snapshot = snapshot;
+      this.tail = tail;
+      this.version = version;
+    }
+
+    private static EventStream from(Order snapshot) {
+      return new EventStream(snapshot, List.of(), snapshot.getVersion());
+    }
+
+    private static EventStream start(Order order, List<OrderEvent> events, long version) {
+      if (!events.isEmpty() && events.get(0) instanceof OrderCreated) {
+        return new EventStream(null, List.copyOf(events), version);
+      }
+      return from(Order.replay(order, List.of(), version));
+    }
+
+    private EventStream append(List<OrderEvent> events, long newVersion, int snapshotInterval) {
+      List<OrderEvent> extended = new ArrayList<>(tail.size() + events.size());
+      extended.addAll(tail);
+      extended.addAll(events);
+      if (extended.size() >= snapshotInterval) {
+        return from(Order.replay(snapshot, extended, newVersion));
+      }
+      return new EventStream(snapshot, List.copyOf(extended), newVersion);
+    }
+
+    private Order rebuild() {
+      return Order.replay(snapshot, tail, version);
+    }
+  }
+}
@@ -0,0 +1,427 @@
+package br.com.delivery.infrastructure.persistence.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.exception.ConcurrentOrderUpdateException;
+import br.com.delivery.domain.order.Order;
+import br.com.delivery.domain.order.OrderCursor;
+import br.com.delivery.domain.order.OrderEvent;
+import br.com.delivery.domain.order.OrderEventPublisher;
+import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.domain.order.OrderItem;
+import br.com.delivery.domain.order.OrderPage;
+import br.com.delivery.domain.order.OrderStatus;
+import br.com.delivery.domain.payment.PaymentId;
+import br.com.delivery.domain.repositories.IOrderRepository;
+import br.com.delivery.domain.restaurant.MenuItemCategory;
+import br.com.delivery.domain.restaurant.MenuItemId;
+import br.com.delivery.domain.restaurant.RestaurantId;
+import br.com.delivery.domain.shared.Address;
+import br.com.delivery.domain.shared.Currency;
+import br.com.delivery.domain.shared.Money;
+import br.com.delivery.domain.shared.ZipCode;
+
+public final class JdbcOrderRepository implements IOrderRepository {
+  private static final String ORDER_COLUMNS = "id, restaurant_id, account_id, currency, created_at, status, street, "
+      + "street_number, complement, city, country, zip_code, delivery_fee, delivery_fee_currency, paid_at, "
+      + "confirmed_at, cancelled_at, delivered_at, version";
+
+  private static final List<String> WRITTEN_ORDER_COLUMNS = List.of(
+      "id UUID", "restaurant_id UUID", "account_id UUID", "currency VARCHAR(3)", "created_at TIMESTAMP(9)",
+      "status VARCHAR(16)", "street VARCHAR(255)", "street_number VARCHAR(32)", "complement VARCHAR(255)",
+      "city VARCHAR(255)", "country VARCHAR(255)", "zip_code VARCHAR(16)", "delivery_fee BIGINT",
+      "delivery_fee_currency VARCHAR(3)", "paid_at TIMESTAMP(9)", "confirmed_at TIMESTAMP(9)",
+      "cancelled_at TIMESTAMP(9)", "delivered_at TIMESTAMP(9)", "version BIGINT", "draft_account_id UUID",
+      "draft_restaurant_id UUID");
+
+  private static final String UPSERT_ORDER = SqlStatements.merge("orders", List.of("id"), WRITTEN_ORDER_COLUMNS);
+
+  private static final String INSERT_ORDER = SqlStatements.insert("orders", WRITTEN_ORDER_COLUMNS);
+
+  private static final String UPDATE_ORDER = SqlStatements.update("orders", WRITTEN_ORDER_COLUMNS,
+      "id = ? AND version = ?");
+
+  private static final String UPSERT_ITEM = SqlStatements.merge("order_items", List.of("order_id", "menu_item_id"),
+      List.of("order_id UUID", "menu_item_id UUID", "sort_order INT", "name VARCHAR(255)",
+          "description VARCHAR(1024)", "category VARCHAR(32)", "unit_price BIGINT", "currency VARCHAR(3)",
+          "quantity INT", "menu_version BIGINT"));
+
+  private static final String UPSERT_PAYMENT = SqlStatements.merge("order_payments",
+      List.of("order_id", "payment_id"), List.of("order_id UUID", "payment_id UUID", "sort_order INT"));
+
+  private final DataSource dataSource;
+  private final OrderEventPublisher publisher;
+
+  public JdbcOrderRepository(DataSource dataSource) {
+    this(dataSource, OrderEventPublisher.NONE);
+  }
+
+  public JdbcOrderRepository(DataSource dataSource, OrderEventPublisher publisher) {
+    this.dataSource = Objects.requireNonNull(dataSource);
+    this.publisher = Objects.requireNonNull(publisher);
+  }
+
+  @Override
+  public Optional<Order> findById(OrderId id) {
+    List<Order> orders = query("SELECT " + ORDER_COLUMNS + " FROM orders WHERE id = ?", id.value());
+    return orders.stream().findFirst();
+  }
+
+  @Override
+  public Optional<Order> findDraftByClientAndRestaurant(AccountId accountId, RestaurantId restaurantId) {
+    List<Order> orders = query("SELECT " + ORDER_COLUMNS
+        + " FROM orders WHERE account_id = ? AND restaurant_id = ? AND status = ? FETCH FIRST 1 ROWS ONLY",
+        accountId.value(), restaurantId.value(), OrderStatus.DRAFT.name());
+    return orders.stream().findFirst();
+  }
+
+  @Override
+  public List<Order> findAllByClientId(AccountId accountId) {
+    return query("SELECT " + ORDER_COLUMNS + " FROM orders WHERE account_id = ? ORDER BY created_at DESC, id DESC",
+        accountId.value());
+  }
+
+  @Override
+  public OrderPage findPageByClientId(AccountId accountId, OrderCursor cursor, int limit) {
+    if (limit <= 0) {
+      throw new IllegalArgumentException("O limite da página deve ser positivo.");
+    }
+
+    List<Order> orders = cursor == null
+        ? query("SELECT " + ORDER_COLUMNS + " FROM orders WHERE account_id = ?"
+            + " ORDER BY created_at DESC, id DESC FETCH FIRST ? ROWS ONLY", accountId.value(), limit + 1)
+        : query("SELECT " + ORDER_COLUMNS + " FROM orders WHERE account_id = ?"
+            + " AND (created_at < ? OR (created_at = ? AND id < ?))"
+            + " ORDER BY created_at DESC, id DESC FETCH FIRST ? ROWS ONLY",
+            accountId.value(), cursor.createdAt(), cursor.createdAt(), cursor.orderId().value(), limit + 1);
+
+    if (orders.size() <= limit) {
+      return new OrderPage(orders, null);
+    }
+    List<Order> page = orders.subList(0, limit);
+    return new OrderPage(page, OrderCursor.of(page.get(limit - 1)));
+  }
+
+  @Override
+  public List<Order> findAllByRestaurantAndStatus(RestaurantId restaurantId, OrderStatus status) {
+    return query("SELECT " + ORDER_COLUMNS + " FROM orders WHERE restaurant_id = ? AND status = ?"
+        + " ORDER BY created_at, id", restaurantId.value(), status.name());
+  }
+
+  @Override
+  public int countByRestaurantAndStatus(RestaurantId restaurantId, OrderStatus status) {
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement(
+            "SELECT COUNT(*) FROM orders WHERE restaurant_id = ? AND status = ?")) {
+      SqlStatements.bind(statement, restaurantId.value(), status.name());
+      try (ResultSet rows = statement.executeQuery()) {
+        rows.next();
+        return rows.getInt(1);
+      }
+    } catch (SQLException e) {
+      throw new JdbcPersistenceException("Falha ao contar pedidos.", e);
+    }
+  }
+
+  @Override
+  public void save(Order order) {
+    write(order, connection -> {
+      long newVersion = storedVersion(connection, order.getId().value()).orElse(order.getVersion()) + 1;
+      execute(connection, UPSERT_ORDER, orderValues(order, newVersion));
+      return newVersion;
+    });
+  }
+
+  @Override
+  public void save(Order order, long expectedVersion) {
+    if (expectedVersion < 0) {
+      throw new IllegalArgumentException("A versão esperada não pode ser negativa.");
+    }
+
+    long newVersion = expectedVersion + 1;
+    write(order, connection -> {
+      Object[] values = orderValues(order, newVersion);
+      int updated = expectedVersion == 0
+          ? execute(connection, INSERT_ORDER, values)
+          : execute(connection, UPDATE_ORDER, append(values, order.getId().value(), expectedVersion));
+      if (updated == 0) {
+        throw conflict(order);
+      }
+      return newVersion;
+    });
+  }
+
+  private void write(Order order, OrderRowWriter rowWriter) {
+    UUID orderId = order.getId().value();
+    List<OrderItem> items = order.getItems();
+    List<PaymentId> payments = order.getPayments();
+
+    long newVersion;
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      try {
+        newVersion = rowWriter.write(connection);
+        deleteRemovedItems(connection, orderId, items);
+        upsertItems(connection, orderId, items);
+        upsertPayments(connection, orderId, payments);
+        connection.commit();
+      } catch (SQLException | RuntimeException e) {
+        SqlStatements.rollback(connection, e);
+        throw e;
+      }
+    } catch (SQLException e) {
+      if (SqlStatements.isUniqueViolation(e)) {
+        throw conflict(order);
+      }
+      throw new JdbcPersistenceException("Falha ao salvar o pedido " + orderId + ".", e);
+    }
+
+    order.markAsSaved(newVersion);
+
+    List<OrderEvent> events = order.pullEvents();
+    if (!events.isEmpty()) {
+      publisher.publish(events);
+    }
+  }
+
+  private static OptionalLong storedVersion(Connection connection, UUID orderId) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(
+        "SELECT version FROM orders WHERE id = ? FOR UPDATE")) {
+      SqlStatements.bind(statement, orderId);
+      try (ResultSet rows = statement.executeQuery()) {
+        return rows.next() ? OptionalLong.of(rows.getLong(1)) : OptionalLong.empty();
+      }
+    }
+  }
+
+  private static int execute(Connection connection, String sql, Object[] values) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      SqlStatements.bind(statement, values);
+      return statement.executeUpdate();
+    }
+  }
+
+  private static Object[] orderValues(Order order, long version) {
+    Address address = order.getDeliveryAddress();
+    boolean draft = order.getStatus() == OrderStatus.DRAFT;
+    return new Object[] {
+        order.getId().value(),
+        order.getRestaurantId().value(),
+        order.getAccountId().value(),
+        order.getCurrency().name(),
+        order.getCreatedAt(),
+        order.getStatus().name(),
+        address == null ? null : address.street(),
+        address == null ? null : address.number(),
+        address == null ? null : address.complement(),
+        address == null ? null : address.city(),
+        address == null ? null : address.country(),
+        address == null ? null : address.zipCode().value(),
+        order.getDeliveryFee().minorUnits(),
+        order.getDeliveryFee().currency().name(),
+        order.getPaidAt().orElse(null),
+        order.getConfirmedAt().orElse(null),
+        order.getCancelledAt().orElse(null),
+        order.getDeliveredAt().orElse(null),
+        version,
+        draft ? order.getAccountId().value() : null,
+        draft ? order.getRestaurantId().value() : null
+    };
+  }
+
+  private static Object[] append(Object[] values, Object... extra) {
+    Object[] result = Arrays.copyOf(values, values.length + extra.length);
+    System.arraycopy(extra, 0, result, values.length, extra.length);
+    return result;
+  }
+
+  private static ConcurrentOrderUpdateException conflict(Order order) {
+    return new ConcurrentOrderUpdateException("O pedido " + order.getId().value() + " foi alterado por outra operação.");
+  }
+
+  private void deleteRemovedItems(Connection connection, UUID orderId, List<OrderItem> items) throws SQLException {
+    String sql = items.isEmpty()
+        ? "DELETE FROM order_items WHERE order_id = ?"
+        : "DELETE FROM order_items WHERE order_id = ? AND menu_item_id NOT IN ("
+            + SqlStatements.placeholders(items.size()) + ")";
+
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setObject(1, orderId);
+      for (int i = 0; i < items.size(); i++) {
+        statement.setObject(i + 2, items.get(i).getMenuItemId().value());
+      }
+      statement.executeUpdate();
+    }
+  }
+
+  private void upsertItems(Connection connection, UUID orderId, List<OrderItem> items) throws SQLException {
+    if (items.isEmpty()) {
+      return;
+    }
+
+    try (PreparedStatement statement = connection.prepareStatement(UPSERT_ITEM)) {
+      for (int i = 0; i < items.size(); i++) {
+        OrderItem item = items.get(i);
+        SqlStatements.bind(statement,
+            orderId,
+            item.getMenuItemId().value(),
+            i,
+            item.getMenuItemName(),
+            item.getMenuItemDescription(),
+            item.getMenuItemCategory().name(),
+            item.getUnitPrice().minorUnits(),
+            item.getUnitPrice().currency().name(),
+            item.getQuantity(),
+            item.getMenuVersion());
+        statement.addBatch();
+      }
+      statement.executeBatch();
+    }
+  }
+
+  private void upsertPayments(Connection connection, UUID orderId, List<PaymentId> payments) throws SQLException {
+    if (payments.isEmpty()) {
+      return;
+    }
+
+    try (PreparedStatement statement = connection.prepareStatement(UPSERT_PAYMENT)) {
+      for (int i = 0; i < payments.size(); i++) {
+        SqlStatements.bind(statement, orderId, payments.get(i).value(), i);
+        statement.addBatch();
+      }
+      statement.executeBatch();
+    }
+  }
+
+  private List<Order> query(String sql, Object... parameters) {
+    try (Connection connection = dataSource.getConnection()) {
+      Map<UUID, OrderRow> rows = new LinkedHashMap<>();
+      try (PreparedStatement statement = connection.prepareStatement(sql)) {
+        SqlStatements.bind(statement, parameters);
+        try (ResultSet result = statement.executeQuery()) {
+          while (result.next()) {
+            OrderRow row = OrderRow.read(result);
+            rows.put(row.id(), row);
+          }
+        }
+      }
+
+      if (rows.isEmpty()) {
+        return List.of();
+      }
+
+      Map<UUID, List<OrderItem>> items = loadItems(connection, rows.keySet().toArray());
+      Map<UUID, List<PaymentId>> payments = loadPayments(connection, rows.keySet().toArray());
+
+      List<Order> orders = new ArrayList<>(rows.size());
+      for (OrderRow row : rows.values()) {
+        orders.add(row.toOrder(items.getOrDefault(row.id(), List.of()), payments.getOrDefault(row.id(), List.of())));
+      }
+      return orders;
+    } catch (SQLException e) {
+      throw new JdbcPersistenceException("Falha ao consultar pedidos.", e);
+    }
+  }
+
+  private Map<UUID, List<OrderItem>> loadItems(Connection connection, Object[] orderIds) throws SQLException {
+    Map<UUID, List<OrderItem>> items = new HashMap<>();
+    String sql = "SELECT order_id, menu_item_id, name, description, category, unit_price, currency, quantity,"
+        + " menu_version FROM order_items WHERE order_id IN (" + SqlStatements.placeholders(orderIds.length) + ")"
+        + " ORDER BY order_id, sort_order";
+
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      SqlStatements.bind(statement, orderIds);
+      try (ResultSet result = statement.executeQuery()) {
+        while (result.next()) {
+          OrderItem item = new OrderItem(
+              new MenuItemId(result.getObject("menu_item_id", UUID.class)),
+              result.getString("name"),
+              result.getString("description"),
+              MenuItemCategory.valueOf(result.getString("category")),
+              Money.ofMinorUnits(result.getLong("unit_price"), Currency.valueOf(result.getString("currency"))),
+              result.getInt("quantity"),
+              result.getLong("menu_version"));
+          items.computeIfAbsent(result.getObject("order_id", UUID.class), key -> new ArrayList<>()).add(item);
+        }
+      }
+    }
+    return items;
+  }
+
+  private Map<UUID, List<PaymentId>> loadPayments(Connection connection, Object[] orderIds) throws SQLException {
+    Map<UUID, List<PaymentId>> payments = new HashMap<>();
+    String sql = "SELECT order_id, payment_id FROM order_payments WHERE order_id IN ("
+        + SqlStatements.placeholders(orderIds.length) + ") ORDER BY order_id, sort_order";
+
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      SqlStatements.bind(statement, orderIds);
+      try (ResultSet result = statement.executeQuery()) {
+        while (result.next()) {
+          payments.computeIfAbsent(result.getObject("order_id", UUID.class), key -> new ArrayList<>())
+              .add(new PaymentId(result.getObject("payment_id", UUID.class)));
+        }
+      }
+    }
+    return payments;
+  }
+
+  @FunctionalInterface
+  private interface OrderRowWriter {
+    long write(Connection connection) throws SQLException;
+  }
+
+  private record OrderRow(UUID id, UUID restaurantId, UUID accountId, Currency currency, LocalDateTime createdAt,
+      OrderStatus status, Address address, Money deliveryFee, LocalDateTime paidAt, LocalDateTime confirmedAt,
+      LocalDateTime cancelledAt, LocalDateTime deliveredAt, long version) {
+
+    static OrderRow read(ResultSet result) throws SQLException {
+      String street = result.getString("street");
+      Address address = street == null ? null : new Address(
+          street,
+          result.getString("street_number"),
+          result.getString("complement"),
+          result.getString("city"),
+          result.getString("country"),
+          new ZipCode(result.getString("zip_code")));
+
+      return new OrderRow(
+          result.getObject("id", UUID.class),
+          result.getObject("restaurant_id", UUID.class),
+          result.getObject("account_id", UUID.class),
+          Currency.valueOf(result.getString("currency")),
+          result.getObject("created_at", LocalDateTime.class),
+          OrderStatus.valueOf(result.getString("status")),
+          address,
+          Money.ofMinorUnits(result.getLong("delivery_fee"),
+              Currency.valueOf(result.getString("delivery_fee_currency"))),
+          result.getObject("paid_at", LocalDateTime.class),
+          result.getObject("confirmed_at", LocalDateTime.class),
+          result.getObject("cancelled_at", LocalDateTime.class),
+          result.getObject("delivered_at", LocalDateTime.class),
+          result.getLong("version"));
+    }
+
+    Order toOrder(List<OrderItem> items, List<PaymentId> payments) {
+      return Order.restore(new OrderId(id), new RestaurantId(restaurantId), new AccountId(accountId), currency,
+          createdAt, status, items, payments, address, deliveryFee, paidAt, confirmedAt, cancelledAt, deliveredAt,
+          version);
+    }
+  }
+}
@@ -0,0 +1,7 @@
+package br.com.delivery.infrastructure.persistence.jdbc;
+
+public class JdbcPersistenceException extends RuntimeException {
+  public JdbcPersistenceException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
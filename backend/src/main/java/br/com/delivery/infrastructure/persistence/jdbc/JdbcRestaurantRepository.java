@@ -0,0 +1,270 @@
+package br.com.delivery.infrastructure.persistence.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.repositories.IRestaurantRepository;
+import br.com.delivery.domain.restaurant.MenuItem;
+import br.com.delivery.domain.restaurant.MenuItemCategory;
+import br.com.delivery.domain.restaurant.MenuItemId;
+import br.com.delivery.domain.restaurant.OpeningHours;
+import br.com.delivery.domain.restaurant.Restaurant;
+import br.com.delivery.domain.restaurant.RestaurantId;
+import br.com.delivery.domain.restaurant.RestaurantStatus;
+import br.com.delivery.domain.shared.Address;
+import br.com.delivery.domain.shared.Currency;
+import br.com.delivery.domain.shared.Money;
+import br.com.delivery.domain.shared.ZipCode;
+
+public final class JdbcRestaurantRepository implements IRestaurantRepository {
+  private static final String RESTAURANT_COLUMNS = "id, owner_id, name, open_time, close_time, street, "
+      + "street_number, complement, city, country, zip_code, currency, status, menu_version";
+
+  private static final String UPSERT_RESTAURANT = SqlStatements.merge("restaurants", List.of("id"), List.of(
+      "id UUID", "owner_id UUID", "name VARCHAR(255)", "open_time TIME(9)", "close_time TIME(9)",
+      "street VARCHAR(255)", "street_number VARCHAR(32)", "complement VARCHAR(255)", "city VARCHAR(255)",
+      "country VARCHAR(255)", "zip_code VARCHAR(16)", "currency VARCHAR(3)", "status VARCHAR(16)",
+      "menu_version BIGINT"));
+
+  private static final String UPSERT_MENU_ITEM = SqlStatements.merge("menu_items", List.of("restaurant_id", "id"),
+      List.of("restaurant_id UUID", "id UUID", "sort_order INT", "name VARCHAR(255)", "description VARCHAR(1024)",
+          "category VARCHAR(32)", "price BIGINT", "currency VARCHAR(3)", "active BOOLEAN"));
+
+  private final DataSource dataSource;
+
+  public JdbcRestaurantRepository(DataSource dataSource) {
+    this.dataSource = Objects.requireNonNull(dataSource);
+  }
+
+  @Override
+  public Optional<Restaurant> findById(RestaurantId id) {
+    return query("SELECT " + RESTAURANT_COLUMNS + " FROM restaurants WHERE id = ?", id.value()).stream().findFirst();
+  }
+
+  @Override
+  public List<Restaurant> findAllByOwnerId(AccountId ownerId) {
+    return query("SELECT " + RESTAURANT_COLUMNS + " FROM restaurants WHERE owner_id = ?", ownerId.value());
+  }
+
+  @Override
+  public List<Restaurant> findAllByIds(Collection<RestaurantId> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+
+    Object[] values = ids.stream().map(RestaurantId::value).toArray();
+    Map<RestaurantId, Restaurant> found = new HashMap<>();
+    for (Restaurant restaurant : query("SELECT " + RESTAURANT_COLUMNS + " FROM restaurants WHERE id IN ("
+        + SqlStatements.placeholders(values.length) + ")", values)) {
+      found.put(restaurant.getId(), restaurant);
+    }
+
+    List<Restaurant> restaurants = new ArrayList<>(found.size());
+    for (RestaurantId id : ids) {
+      Restaurant restaurant = found.get(id);
+      if (restaurant != null) {
+        restaurants.add(restaurant);
+      }
+    }
+    return restaurants;
+  }
+
+  @Override
+  public boolean existsById(RestaurantId id) {
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement("SELECT 1 FROM restaurants WHERE id = ?")) {
+      statement.setObject(1, id.value());
+      try (ResultSet result = statement.executeQuery()) {
+        return result.next();
+      }
+    } catch (SQLException e) {
+      throw new JdbcPersistenceException("Falha ao consultar restaurante.", e);
+    }
+  }
+
+  @Override
+  public void save(Restaurant restaurant) {
+    UUID restaurantId = restaurant.getId().value();
+    List<MenuItem> menu = restaurant.getMenu();
+
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      try {
+        upsertRestaurant(connection, restaurant);
+        deleteRemovedMenuItems(connection, restaurantId, menu);
+        upsertMenuItems(connection, restaurantId, menu);
+        connection.commit();
+      } catch (SQLException e) {
+        SqlStatements.rollback(connection, e);
+        throw e;
+      }
+    } catch (SQLException e) {
+      throw new JdbcPersistenceException("Falha ao salvar o restaurante " + restaurantId + ".", e);
+    }
+  }
+
+  private void upsertRestaurant(Connection connection, Restaurant restaurant) throws SQLException {
+    Address address = restaurant.getAddress();
+    try (PreparedStatement statement = connection.prepareStatement(UPSERT_RESTAURANT)) {
+      SqlStatements.bind(statement,
+          restaurant.getId().value(),
+          restaurant.getOwnerId().value(),
+          restaurant.getName(),
+          restaurant.getOpeningHours().open(),
+          restaurant.getOpeningHours().close(),
+          address == null ? null : address.street(),
+          address == null ? null : address.number(),
+          address == null ? null : address.complement(),
+          address == null ? null : address.city(),
+          address == null ? null : address.country(),
+          address == null ? null : address.zipCode().value(),
+          restaurant.getCurrency() == null ? null : restaurant.getCurrency().name(),
+          restaurant.getStatus().name(),
+          restaurant.currentMenu().version());
+      statement.executeUpdate();
+    }
+  }
+
+  private void deleteRemovedMenuItems(Connection connection, UUID restaurantId, List<MenuItem> menu)
+      throws SQLException {
+    String sql = menu.isEmpty()
+        ? "DELETE FROM menu_items WHERE restaurant_id = ?"
+        : "DELETE FROM menu_items WHERE restaurant_id = ? AND id NOT IN ("
+            + SqlStatements.placeholders(menu.size()) + ")";
+
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setObject(1, restaurantId);
+      for (int i = 0; i < menu.size(); i++) {
+        statement.setObject(i + 2, menu.get(i).getId().value());
+      }
+      statement.executeUpdate();
+    }
+  }
+
+  private void upsertMenuItems(Connection connection, UUID restaurantId, List<MenuItem> menu) throws SQLException {
+    if (menu.isEmpty()) {
+      return;
+    }
+
+    try (PreparedStatement statement = connection.prepareStatement(UPSERT_MENU_ITEM)) {
+      for (int i = 0; i < menu.size(); i++) {
+        MenuItem item = menu.get(i);
+        SqlStatements.bind(statement,
+            restaurantId,
+            item.getId().value(),
+            i,
+            item.getName(),
+            item.getDescription(),
+            item.getCategory().name(),
+            item.currentPrice().minorUnits(),
+            item.currentPrice().currency().name(),
+            item.isActive());
+        statement.addBatch();
+      }
+      statement.executeBatch();
+    }
+  }
+
+  private List<Restaurant> query(String sql, Object... parameters) {
+    try (Connection connection = dataSource.getConnection()) {
+      Map<UUID, RestaurantRow> rows = new LinkedHashMap<>();
+      try (PreparedStatement statement = connection.prepareStatement(sql)) {
+        SqlStatements.bind(statement, parameters);
+        try (ResultSet result = statement.executeQuery()) {
+          while (result.next()) {
+            RestaurantRow row = RestaurantRow.read(result);
+            rows.put(row.id(), row);
+          }
+        }
+      }
+
+      if (rows.isEmpty()) {
+        return List.of();
+      }
+
+      Map<UUID, List<MenuItem>> menus = loadMenus(connection, rows.keySet().toArray());
+      List<Restaurant> restaurants = new ArrayList<>(rows.size());
+      for (RestaurantRow row : rows.values()) {
+        restaurants.add(row.toRestaurant(menus.getOrDefault(row.id(), List.of())));
+      }
+      return restaurants;
+    } catch (SQLException e) {
+      throw new JdbcPersistenceException("Falha ao consultar restaurantes.", e);
+    }
+  }
+
+  private Map<UUID, List<MenuItem>> loadMenus(Connection connection, Object[] restaurantIds) throws SQLException {
+    Map<UUID, List<MenuItem>> menus = new HashMap<>();
+    String sql = "SELECT restaurant_id, id, name, description, category, price, currency, active FROM menu_items"
+        + " WHERE restaurant_id IN (" + SqlStatements.placeholders(restaurantIds.length) + ")"
+        + " ORDER BY restaurant_id, sort_order";
+
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      SqlStatements.bind(statement, restaurantIds);
+      try (ResultSet result = statement.executeQuery()) {
+        while (result.next()) {
+          UUID restaurantId = result.getObject("restaurant_id", UUID.class);
+          MenuItem item = new MenuItem(
+              new MenuItemId(result.getObject("id", UUID.class)),
+              new RestaurantId(restaurantId),
+              result.getString("name"),
+              result.getString("description"),
+              MenuItemCategory.valueOf(result.getString("category")),
+              Money.ofMinorUnits(result.getLong("price"), Currency.valueOf(result.getString("currency"))));
+          if (!result.getBoolean("active")) {
+            item.deactivate();
+          }
+          menus.computeIfAbsent(restaurantId, key -> new ArrayList<>()).add(item);
+        }
+      }
+    }
+    return menus;
+  }
+
+  private record RestaurantRow(UUID id, UUID ownerId, String name, OpeningHours openingHours, Address address,
+      Currency currency, RestaurantStatus status, long menuVersion) {
+
+    static RestaurantRow read(ResultSet result) throws SQLException {
+      String street = result.getString("street");
+      Address address = street == null ? null : new Address(
+          street,
+          result.getString("street_number"),
+          result.getString("complement"),
+          result.getString("city"),
+          result.getString("country"),
+          new ZipCode(result.getString("zip_code")));
+      String currency = result.getString("currency");
+
+      return new RestaurantRow(
+          result.getObject("id", UUID.class),
+          result.getObject("owner_id", UUID.class),
+          result.getString("name"),
+          new OpeningHours(result.getObject("open_time", LocalTime.class),
+              result.getObject("close_time", LocalTime.class)),
+          address,
+          currency == null ? null : Currency.valueOf(currency),
+          RestaurantStatus.valueOf(result.getString("status")),
+          result.getLong("menu_version"));
+    }
+
+    Restaurant toRestaurant(List<MenuItem> menu) {
+      return Restaurant.restore(new RestaurantId(id), new AccountId(ownerId), name, openingHours, address, currency,
+          status, menu, menuVersion);
+    }
+  }
+}
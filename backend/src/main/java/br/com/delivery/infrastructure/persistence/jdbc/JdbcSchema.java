@@ -0,0 +1,116 @@
+package br.com.delivery.infrastructure.persistence.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Objects;
+
+import javax.sql.DataSource;
+
+public final class JdbcSchema {
+  private static final List<String> STATEMENTS = List.of(
+      """
+      CREATE TABLE IF NOT EXISTS restaurants (
+        id UUID PRIMARY KEY,
+        owner_id UUID NOT NULL,
+        name VARCHAR(255) NOT NULL,
+        open_time TIME(9) NOT NULL,
+        close_time TIME(9) NOT NULL,
+        street VARCHAR(255),
+        street_number VARCHAR(32),
+        complement VARCHAR(255),
+        city VARCHAR(255),
+        country VARCHAR(255),
+        zip_code VARCHAR(16),
+        currency VARCHAR(3),
+        status VARCHAR(16) NOT NULL,
+        menu_version BIGINT NOT NULL
+      )""",
+      "CREATE INDEX IF NOT EXISTS idx_restaurants_owner ON restaurants (owner_id)",
+      """
+      CREATE TABLE IF NOT EXISTS menu_items (
+        restaurant_id UUID NOT NULL REFERENCES restaurants (id),
+        id UUID NOT NULL,
+        sort_order INT NOT NULL,
+        name VARCHAR(255) NOT NULL,
+        description VARCHAR(1024) NOT NULL,
+        category VARCHAR(32) NOT NULL,
+        price BIGINT NOT NULL,
+        currency VARCHAR(3) NOT NULL,
+        active BOOLEAN NOT NULL,
+        PRIMARY KEY (restaurant_id, id)
+      )""",
+      """
+      CREATE TABLE IF NOT EXISTS orders (
+        id UUID PRIMARY KEY,
+        restaurant_id UUID NOT NULL,
+        account_id UUID NOT NULL,
+        currency VARCHAR(3) NOT NULL,
+        created_at TIMESTAMP(9) NOT NULL,
+        status VARCHAR(16) NOT NULL,
+        street VARCHAR(255),
+        street_number VARCHAR(32),
+        complement VARCHAR(255),
+        city VARCHAR(255),
+        country VARCHAR(255),
+        zip_code VARCHAR(16),
+        delivery_fee BIGINT NOT NULL,
+        delivery_fee_currency VARCHAR(3) NOT NULL,
+        paid_at TIMESTAMP(9),
+        confirmed_at TIMESTAMP(9),
+        cancelled_at TIMESTAMP(9),
+        delivered_at TIMESTAMP(9),
+        version BIGINT NOT NULL,
+        draft_account_id UUID,
+        draft_restaurant_id UUID
+      )""",
+      "CREATE UNIQUE INDEX IF NOT EXISTS uq_orders_draft ON orders (draft_account_id, draft_restaurant_id)",
+      "CREATE INDEX IF NOT EXISTS idx_orders_account_restaurant_status ON orders (account_id, restaurant_id, status)",
+      "CREATE INDEX IF NOT EXISTS idx_orders_account_created ON orders (account_id, created_at DESC, id DESC)",
+      "CREATE INDEX IF NOT EXISTS idx_orders_restaurant_status_created ON orders (restaurant_id, status, created_at, id)",
+      """
+      CREATE TABLE IF NOT EXISTS order_items (
+        order_id UUID NOT NULL REFERENCES orders (id),
+        menu_item_id UUID NOT NULL,
+        sort_order INT NOT NULL,
+        name VARCHAR(255) NOT NULL,
+        description VARCHAR(1024) NOT NULL,
+        category VARCHAR(32) NOT NULL,
+        unit_price BIGINT NOT NULL,
+        currency VARCHAR(3) NOT NULL,
+        quantity INT NOT NULL,
+        menu_version BIGINT NOT NULL,
+        PRIMARY KEY (order_id, menu_item_id)
+      )""",
+      """
+      CREATE TABLE IF NOT EXISTS order_payments (
+        order_id UUID NOT NULL REFERENCES orders (id),
+        payment_id UUID NOT NULL,
+        sort_order INT NOT NULL,
+        PRIMARY KEY (order_id, payment_id)
+      )""");
+
+  private final DataSource dataSource;
+
+  private JdbcSchema(DataSource dataSource) {
+    this.dataSource = dataSource;
+  }
+
+  public static JdbcSchema initialize(DataSource dataSource) {
+    Objects.requireNonNull(dataSource);
+
+    try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+      for (String sql : STATEMENTS) {
+        statement.execute(sql);
+      }
+    } catch (SQLException e) {
+      throw new JdbcPersistenceException("Falha ao criar o esquema do banco de dados.", e);
+    }
+    return new JdbcSchema(dataSource);
+  }
+
+  public DataSource dataSource() {
+    return dataSource;
+  }
+}
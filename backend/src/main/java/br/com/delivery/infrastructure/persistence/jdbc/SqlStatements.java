@@ -0,0 +1,73 @@
+package br.com.delivery.infrastructure.persistence.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+final class SqlStatements {
+  private static final String UNIQUE_VIOLATION = "23505";
+
+  private SqlStatements() {
+  }
+
+  static String merge(String table, List<String> keys, List<String> typedColumns) {
+    List<String> columns = names(typedColumns);
+
+    String source = typedColumns.stream()
+        .map(column -> {
+          int space = column.indexOf(' ');
+          return "CAST(? AS " + column.substring(space + 1) + ") AS " + column.substring(0, space);
+        })
+        .collect(Collectors.joining(", "));
+    String condition = keys.stream().map(key -> "t." + key + " = s." + key).collect(Collectors.joining(" AND "));
+    String updates = columns.stream()
+        .filter(column -> !keys.contains(column))
+        .map(column -> column + " = s." + column)
+        .collect(Collectors.joining(", "));
+
+    return "MERGE INTO " + table + " t USING (SELECT " + source + ") s ON (" + condition + ")"
+        + " WHEN MATCHED THEN UPDATE SET " + updates
+        + " WHEN NOT MATCHED THEN INSERT (" + String.join(", ", columns) + ")"
+        + " VALUES (" + columns.stream().map(column -> "s." + column).collect(Collectors.joining(", ")) + ")";
+  }
+
+  static String insert(String table, List<String> typedColumns) {
+    return "INSERT INTO " + table + " (" + String.join(", ", names(typedColumns)) + ")"
+        + " VALUES (" + placeholders(typedColumns.size()) + ")";
+  }
+
+  static String update(String table, List<String> typedColumns, String condition) {
+    return "UPDATE " + table + " SET "
+        + names(typedColumns).stream().map(column -> column + " = ?").collect(Collectors.joining(", "))
+        + " WHERE " + condition;
+  }
+
+  static boolean isUniqueViolation(SQLException e) {
+    return UNIQUE_VIOLATION.equals(e.getSQLState());
+  }
+
+  static String placeholders(int count) {
+    return String.join(", ", Collections.nCopies(count, "?"));
+  }
+
+  static void bind(PreparedStatement statement, Object... values) throws SQLException {
+    for (int i = 0; i < values.length; i++) {
+      statement.setObject(i + 1, values[i]);
+    }
+  }
+
+  private static List<String> names(List<String> typedColumns) {
+    return typedColumns.stream().map(column -> column.substring(0, column.indexOf(' '))).toList();
+  }
+
+  static void rollback(Connection connection, Exception cause) {
+    try {
+      connection.rollback();
+    } catch (SQLException e) {
+      cause.addSuppressed(e);
+    }
+  }
+}
@@ -1,5 +1,7 @@
 package br.com.delivery.infrastructure.persistence.memory;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.Map;
@@ -17,6 +19,10 @@ public final class InMemoryAccountRepository implements IAccountRepository {
         return Optional.ofNullable(storage.get(id.value()));
     }
 
+    public Collection<Account> findAll() {
+        return Collections.unmodifiableCollection(storage.values());
+    }
+
     @Override
     public void save(Account account) {
         storage.put(account.getId().value(), account);
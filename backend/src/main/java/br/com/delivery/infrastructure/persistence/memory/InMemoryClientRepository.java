@@ -1,5 +1,7 @@
 package br.com.delivery.infrastructure.persistence.memory;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.Map;
@@ -22,6 +24,10 @@ public final class InMemoryClientRepository implements IClientRepository {
         return storage.containsKey(id.value());
     }
 
+    public Collection<Client> findAll() {
+        return Collections.unmodifiableCollection(storage.values());
+    }
+
     @Override
     public void save(Client client) {
         storage.put(client.getId().value(), client);
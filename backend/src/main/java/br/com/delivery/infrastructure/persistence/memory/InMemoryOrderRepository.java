@@ -1,44 +1,307 @@
 package br.com.delivery.infrastructure.persistence.memory;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.exception.ConcurrentOrderUpdateException;
 import br.com.delivery.domain.order.Order;
+import br.com.delivery.domain.order.OrderCursor;
+import br.com.delivery.domain.order.OrderEvent;
+import br.com.delivery.domain.order.OrderEventPublisher;
 import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.domain.order.OrderPage;
 import br.com.delivery.domain.order.OrderStatus;
 import br.com.delivery.domain.repositories.IOrderRepository;
 import br.com.delivery.domain.restaurant.RestaurantId;
 
 public final class InMemoryOrderRepository implements IOrderRepository {
+  private static final long UNCONDITIONAL = -1;
+  private static final int PAGE_CAPACITY_HINT = 64;
+
   private final Map<UUID, Order> storage = new ConcurrentHashMap<>();
+  private final Map<DraftKey, UUID> draftIndex = new ConcurrentHashMap<>();
+  private final Map<UUID, NavigableSet<OrderCursor>> clientIndex = new ConcurrentHashMap<>();
+  private final Map<UUID, RestaurantStatusIndex> restaurantIndex = new ConcurrentHashMap<>();
+  private final OrderEventPublisher publisher;
+
+  public InMemoryOrderRepository() {
+    this(OrderEventPublisher.NONE);
+  }
+
+  public InMemoryOrderRepository(OrderEventPublisher publisher) {
+    this.publisher = publisher;
+  }
 
   @Override
   public Optional<Order> findById(OrderId id) {
-    return Optional.ofNullable(storage.get(id.value()));
+    return Optional.ofNullable(storage.get(id.value())).map(InMemoryOrderRepository::copyOf);
   }
 
   @Override
   public Optional<Order> findDraftByClientAndRestaurant(AccountId accountId, RestaurantId restaurantId) {
-    return storage.values().stream()
-        .filter(order -> order.getAccountId().equals(accountId))
-        .filter(order -> order.getRestaurantId().equals(restaurantId))
+    UUID orderId = draftIndex.get(new DraftKey(accountId.value(), restaurantId.value()));
+    if (orderId == null) {
+      return Optional.empty();
+    }
+
+    return Optional.ofNullable(storage.get(orderId))
         .filter(order -> order.getStatus() == OrderStatus.DRAFT)
-        .findFirst();
+        .map(InMemoryOrderRepository::copyOf);
   }
 
   @Override
   public List<Order> findAllByClientId(AccountId accountId) {
+    NavigableSet<OrderCursor> cursors = clientIndex.get(accountId.value());
+    if (cursors == null) {
+      return List.of();
+    }
+
+    return cursors.stream()
+        .map(cursor -> copyOf(storage.get(cursor.orderId().value())))
+        .toList();
+  }
+
+  @Override
+  public OrderPage findPageByClientId(AccountId accountId, OrderCursor cursor, int limit) {
+    if (limit <= 0) {
+      throw new IllegalArgumentException("O limite da página deve ser positivo.");
+    }
+
+    NavigableSet<OrderCursor> cursors = clientIndex.get(accountId.value());
+    if (cursors == null) {
+      return OrderPage.empty();
+    }
+
+    NavigableSet<OrderCursor> remaining = cursor == null ? cursors : cursors.tailSet(cursor, false);
+    Iterator<OrderCursor> iterator = remaining.iterator();
+    List<Order> orders = new ArrayList<>(Math.min(limit, PAGE_CAPACITY_HINT));
+    OrderCursor last = null;
+
+    while (orders.size() < limit && iterator.hasNext()) {
+      last = iterator.next();
+      orders.add(copyOf(storage.get(last.orderId().value())));
+    }
+
+    return new OrderPage(orders, iterator.hasNext() ? last : null);
+  }
+
+  @Override
+  public List<Order> findAllByRestaurantAndStatus(RestaurantId restaurantId, OrderStatus status) {
+    RestaurantStatusIndex index = restaurantIndex.get(restaurantId.value());
+    if (index == null) {
+      return List.of();
+    }
+
+    return index.ordersWith(status).stream()
+        .map(cursor -> storage.get(cursor.orderId().value()))
+        .filter(order -> order.getStatus() == status)
+        .map(InMemoryOrderRepository::copyOf)
+        .toList();
+  }
+
+  @Override
+  public int countByRestaurantAndStatus(RestaurantId restaurantId, OrderStatus status) {
+    RestaurantStatusIndex index = restaurantIndex.get(restaurantId.value());
+    return index == null ? 0 : index.count(status);
+  }
+
+  public Collection<Order> findAll() {
     return storage.values().stream()
-        .filter(order -> order.getAccountId().equals(accountId))
+        .map(InMemoryOrderRepository::copyOf)
         .toList();
   }
 
   @Override
   public void save(Order order) {
-    storage.put(order.getId().value(), order);
+    store(order, UNCONDITIONAL);
+  }
+
+  @Override
+  public void save(Order order, long expectedVersion) {
+    if (expectedVersion < 0) {
+      throw new IllegalArgumentException("A versão esperada não pode ser negativa.");
+    }
+    store(order, expectedVersion);
+  }
+
+  public void restore(Order order) {
+    Order snapshot = copyOf(order);
+    UUID orderId = snapshot.getId().value();
+
+    draftIndex.compute(DraftKey.of(snapshot), (key, currentDraftId) -> {
+      Order current = storage.get(orderId);
+      if (current != null && current.getVersion() >= snapshot.getVersion()) {
+        return currentDraftId;
+      }
+      storage.put(orderId, snapshot);
+      return nextDraft(snapshot, currentDraftId);
+    });
+
+    index(storage.get(orderId));
+  }
+
+  public Order prepareSave(Order order) {
+    return prepare(order, UNCONDITIONAL);
+  }
+
+  public Order prepareSave(Order order, long expectedVersion) {
+    if (expectedVersion < 0) {
+      throw new IllegalArgumentException("A versão esperada não pode ser negativa.");
+    }
+    return prepare(order, expectedVersion);
+  }
+
+  private Order prepare(Order order, long expectedVersion) {
+    UUID orderId = order.getId().value();
+    Order[] prepared = new Order[1];
+
+    draftIndex.compute(DraftKey.of(order), (key, currentDraftId) -> {
+      if (expectedVersion != UNCONDITIONAL) {
+        checkVersion(orderId, expectedVersion);
+        checkSingleDraft(order, currentDraftId);
+      }
+      Order current = storage.get(orderId);
+      prepared[0] = copyOf(order, (current == null ? order.getVersion() : current.getVersion()) + 1);
+      return currentDraftId;
+    });
+    return prepared[0];
+  }
+
+  private void store(Order order, long expectedVersion) {
+    UUID orderId = order.getId().value();
+    long[] newVersion = new long[1];
+
+    draftIndex.compute(DraftKey.of(order), (key, currentDraftId) -> {
+      if (expectedVersion != UNCONDITIONAL) {
+        checkVersion(orderId, expectedVersion);
+        checkSingleDraft(order, currentDraftId);
+      }
+      Order current = storage.get(orderId);
+      newVersion[0] = (current == null ? order.getVersion() : current.getVersion()) + 1;
+      Order snapshot = copyOf(order, newVersion[0]);
+      storage.put(orderId, snapshot);
+      return nextDraft(snapshot, currentDraftId);
+    });
+
+    order.markAsSaved(newVersion[0]);
+    index(storage.get(orderId));
+
+    List<OrderEvent> events = order.pullEvents();
+    if (!events.isEmpty()) {
+      publisher.publish(events);
+    }
+  }
+
+  private void checkVersion(UUID orderId, long expectedVersion) {
+    Order current = storage.get(orderId);
+    long currentVersion = current == null ? 0 : current.getVersion();
+    if (currentVersion != expectedVersion) {
+      throw new ConcurrentOrderUpdateException("O pedido " + orderId + " foi alterado por outra operação.");
+    }
+  }
+
+  private void checkSingleDraft(Order order, UUID currentDraftId) {
+    if (order.getStatus() != OrderStatus.DRAFT || currentDraftId == null
+        || currentDraftId.equals(order.getId().value())) {
+      return;
+    }
+
+    Order currentDraft = storage.get(currentDraftId);
+    if (currentDraft != null && currentDraft.getStatus() == OrderStatus.DRAFT) {
+      throw new ConcurrentOrderUpdateException("Já existe um carrinho aberto para este restaurante.");
+    }
+  }
+
+  private static UUID nextDraft(Order order, UUID currentDraftId) {
+    UUID orderId = order.getId().value();
+    if (order.getStatus() == OrderStatus.DRAFT) {
+      return orderId;
+    }
+    return orderId.equals(currentDraftId) ? null : currentDraftId;
+  }
+
+  private void index(Order order) {
+    clientIndex
+        .computeIfAbsent(order.getAccountId().value(), id -> new ConcurrentSkipListSet<>(OrderCursor.NEWEST_FIRST))
+        .add(OrderCursor.of(order));
+
+    restaurantIndex
+        .computeIfAbsent(order.getRestaurantId().value(), id -> new RestaurantStatusIndex())
+        .update(order);
+  }
+
+  private static Order copyOf(Order order) {
+    return copyOf(order, order.getVersion());
+  }
+
+  private static Order copyOf(Order order, long version) {
+    return Order.restore(order.getId(), order.getRestaurantId(), order.getAccountId(), order.getCurrency(),
+        order.getCreatedAt(), order.getStatus(), order.itemsView(), order.getPayments(), order.getDeliveryAddress(),
+        order.getDeliveryFee(), order.getPaidAt().orElse(null), order.getConfirmedAt().orElse(null),
+        order.getCancelledAt().orElse(null), order.getDeliveredAt().orElse(null), version);
+  }
+
+  private record DraftKey(UUID accountId, UUID restaurantId) {
+    private static DraftKey of(Order order) {
+      return new DraftKey(order.getAccountId().value(), order.getRestaurantId().value());
+    }
+  }
+
+  private static final class RestaurantStatusIndex {
+    private final Map<OrderStatus, NavigableSet<OrderCursor>> ordersByStatus = new EnumMap<>(OrderStatus.class);
+    private final Map<OrderStatus, AtomicInteger> countsByStatus = new EnumMap<>(OrderStatus.class);
+    private final Map<UUID, IndexedOrder> indexedOrders = new HashMap<>();
+
+    private RestaurantStatusIndex() {
+      for (OrderStatus status : OrderStatus.values()) {
+        ordersByStatus.put(status, new ConcurrentSkipListSet<>(OrderCursor.OLDEST_FIRST));
+        countsByStatus.put(status, new AtomicInteger());
+      }
+    }
+
+    private NavigableSet<OrderCursor> ordersWith(OrderStatus status) {
+      return ordersByStatus.get(status);
+    }
+
+    private int count(OrderStatus status) {
+      return countsByStatus.get(status).get();
+    }
+
+    private synchronized void update(Order order) {
+      IndexedOrder previous = indexedOrders.get(order.getId().value());
+      if (previous != null && previous.version() > order.getVersion()) {
+        return;
+      }
+      indexedOrders.put(order.getId().value(), new IndexedOrder(order.getStatus(), order.getVersion()));
+
+      OrderStatus newStatus = order.getStatus();
+      OrderStatus previousStatus = previous == null ? null : previous.status();
+      if (previousStatus == newStatus) {
+        return;
+      }
+
+      OrderCursor cursor = OrderCursor.of(order);
+      ordersByStatus.get(newStatus).add(cursor);
+      countsByStatus.get(newStatus).incrementAndGet();
+      if (previousStatus != null) {
+        ordersByStatus.get(previousStatus).remove(cursor);
+        countsByStatus.get(previousStatus).decrementAndGet();
+      }
+    }
+  }
+
+  private record IndexedOrder(OrderStatus status, long version) {
   }
 }
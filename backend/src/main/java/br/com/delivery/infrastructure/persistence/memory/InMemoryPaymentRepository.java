@@ -0,0 +1,79 @@
+package br.com.delivery.infrastructure.persistence.memory;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.domain.payment.Payment;
+import br.com.delivery.domain.payment.PaymentId;
+import br.com.delivery.domain.payment.PaymentStatus;
+import br.com.delivery.domain.repositories.IPaymentRepository;
+
+public final class InMemoryPaymentRepository implements IPaymentRepository {
+  private final Map<UUID, Payment> storage = new ConcurrentHashMap<>();
+  private final Map<UUID, Set<UUID>> orderIndex = new ConcurrentHashMap<>();
+  private final Map<PaymentStatus, Set<UUID>> statusIndex = new EnumMap<>(PaymentStatus.class);
+
+  public InMemoryPaymentRepository() {
+    for (PaymentStatus status : PaymentStatus.values()) {
+      statusIndex.put(status, ConcurrentHashMap.newKeySet());
+    }
+  }
+
+  @Override
+  public Optional<Payment> findById(PaymentId id) {
+    return Optional.ofNullable(storage.get(id.value())).map(InMemoryPaymentRepository::copyOf);
+  }
+
+  @Override
+  public List<Payment> findAllByOrderId(OrderId orderId) {
+    Set<UUID> paymentIds = orderIndex.get(orderId.value());
+    return paymentIds == null ? List.of() : copiesOf(paymentIds);
+  }
+
+  @Override
+  public List<Payment> findAllByStatus(PaymentStatus status) {
+    return copiesOf(statusIndex.get(status)).stream()
+        .filter(payment -> payment.getStatus() == status)
+        .toList();
+  }
+
+  @Override
+  public int countByStatus(PaymentStatus status) {
+    return statusIndex.get(status).size();
+  }
+
+  @Override
+  public void save(Payment payment) {
+    Payment snapshot = copyOf(payment);
+    UUID paymentId = snapshot.getId().value();
+
+    storage.compute(paymentId, (id, previous) -> {
+      if (previous == null) {
+        orderIndex.computeIfAbsent(snapshot.getOrderId().value(), key -> ConcurrentHashMap.newKeySet()).add(id);
+      } else if (previous.getStatus() != snapshot.getStatus()) {
+        statusIndex.get(previous.getStatus()).remove(id);
+      }
+      statusIndex.get(snapshot.getStatus()).add(id);
+      return snapshot;
+    });
+  }
+
+  private List<Payment> copiesOf(Set<UUID> paymentIds) {
+    return paymentIds.stream()
+        .map(storage::get)
+        .filter(payment -> payment != null)
+        .map(InMemoryPaymentRepository::copyOf)
+        .toList();
+  }
+
+  private static Payment copyOf(Payment payment) {
+    return Payment.restore(payment.getId(), payment.getOrderId(), payment.getPaymentMethod(), payment.getAmount(),
+        payment.getStatus());
+  }
+}
@@ -1,5 +1,7 @@
 package br.com.delivery.infrastructure.persistence.memory;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.Optional;
@@ -22,6 +24,10 @@ public final class InMemoryRestaurantOwnerRepository implements IRestaurantOwner
         return storage.containsKey(id.value());
     }
 
+    public Collection<RestaurantOwner> findAll() {
+        return Collections.unmodifiableCollection(storage.values());
+    }
+
     @Override
     public void save(RestaurantOwner restaurantOwner) {
         storage.put(restaurantOwner.getId().value(), restaurantOwner);
@@ -1,6 +1,10 @@
 package br.com.delivery.infrastructure.persistence.memory;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.Map;
 import java.util.Optional;
@@ -13,6 +17,7 @@ import br.com.delivery.domain.restaurant.RestaurantId;
 
 public final class InMemoryRestaurantRepository implements IRestaurantRepository {
     private final Map<UUID, Restaurant> storage = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<UUID>> ownerIndex = new ConcurrentHashMap<>();
 
     @Override
     public Optional<Restaurant> findById(RestaurantId id) {
@@ -26,13 +31,38 @@ public final class InMemoryRestaurantRepository implements IRestaurantRepository
 
     @Override
     public List<Restaurant> findAllByOwnerId(AccountId ownerId) {
-        return storage.values().stream()
-            .filter(restaurant -> restaurant.getOwnerId().equals(ownerId))
+        Set<UUID> restaurantIds = ownerIndex.get(ownerId.value());
+        if (restaurantIds == null) {
+            return List.of();
+        }
+
+        return restaurantIds.stream()
+            .map(storage::get)
             .toList();
     }
 
+    @Override
+    public List<Restaurant> findAllByIds(Collection<RestaurantId> ids) {
+        List<Restaurant> restaurants = new ArrayList<>(ids.size());
+        for (RestaurantId id : ids) {
+            Restaurant restaurant = storage.get(id.value());
+            if (restaurant != null) {
+                restaurants.add(restaurant);
+            }
+        }
+        return restaurants;
+    }
+
+    public Collection<Restaurant> findAll() {
+        return Collections.unmodifiableCollection(storage.values());
+    }
+
     @Override
     public void save(Restaurant restaurant) {
-        storage.put(restaurant.getId().value(), restaurant);
+        UUID restaurantId = restaurant.getId().value();
+        storage.put(restaurantId, restaurant);
+        ownerIndex
+            .computeIfAbsent(restaurant.getOwnerId().value(), id -> ConcurrentHashMap.newKeySet())
+            .add(restaurantId);
     }
 }
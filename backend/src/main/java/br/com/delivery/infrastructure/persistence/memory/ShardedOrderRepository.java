@@ -0,0 +1,160 @@
+package br.com.delivery.infrastructure.persistence.memory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.order.Order;
+import br.com.delivery.domain.order.OrderCursor;
+import br.com.delivery.domain.order.OrderEventPublisher;
+import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.domain.order.OrderPage;
+import br.com.delivery.domain.order.OrderStatus;
+import br.com.delivery.domain.repositories.IOrderRepository;
+import br.com.delivery.domain.restaurant.RestaurantId;
+
+public final class ShardedOrderRepository implements IOrderRepository, AutoCloseable {
+  private static final Comparator<Order> OLDEST_FIRST = Comparator.comparing(OrderCursor::of, OrderCursor.OLDEST_FIRST);
+
+  private final InMemoryOrderRepository[] shards;
+  private final Map<UUID, InMemoryOrderRepository> shardById = new ConcurrentHashMap<>();
+  private final ExecutorService readers;
+
+  public ShardedOrderRepository(int shardCount) {
+    this(shardCount, OrderEventPublisher.NONE);
+  }
+
+  public ShardedOrderRepository(int shardCount, OrderEventPublisher publisher) {
+    if (shardCount <= 0) {
+      throw new IllegalArgumentException("O número de partições deve ser positivo.");
+    }
+
+    this.shards = new InMemoryOrderRepository[shardCount];
+    for (int i = 0; i < shardCount; i++) {
+      shards[i] = new InMemoryOrderRepository(publisher);
+    }
+
+    AtomicInteger counter = new AtomicInteger();
+    this.readers = Executors.newFixedThreadPool(shardCount, runnable -> {
+      Thread thread = new Thread(runnable, "order-shard-reader-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @Override
+  public Optional<Order> findById(OrderId id) {
+    InMemoryOrderRepository shard = shardById.get(id.value());
+    return shard == null ? Optional.empty() : shard.findById(id);
+  }
+
+  @Override
+  public Optional<Order> findDraftByClientAndRestaurant(AccountId accountId, RestaurantId restaurantId) {
+    return shardOf(accountId).findDraftByClientAndRestaurant(accountId, restaurantId);
+  }
+
+  @Override
+  public List<Order> findAllByClientId(AccountId accountId) {
+    return shardOf(accountId).findAllByClientId(accountId);
+  }
+
+  @Override
+  public OrderPage findPageByClientId(AccountId accountId, OrderCursor cursor, int limit) {
+    return shardOf(accountId).findPageByClientId(accountId, cursor, limit);
+  }
+
+  @Override
+  public List<Order> findAllByRestaurantAndStatus(RestaurantId restaurantId, OrderStatus status) {
+    List<Order> orders = new ArrayList<>();
+    for (List<Order> partial : fanOut(store -> store.findAllByRestaurantAndStatus(restaurantId, status))) {
+      orders.addAll(partial);
+    }
+    orders.sort(OLDEST_FIRST);
+    return orders;
+  }
+
+  @Override
+  public int countByRestaurantAndStatus(RestaurantId restaurantId, OrderStatus status) {
+    int count = 0;
+    for (InMemoryOrderRepository shard : shards) {
+      count += shard.countByRestaurantAndStatus(restaurantId, status);
+    }
+    return count;
+  }
+
+  public Collection<Order> findAll() {
+    List<Order> orders = new ArrayList<>();
+    for (InMemoryOrderRepository shard : shards) {
+      orders.addAll(shard.findAll());
+    }
+    return orders;
+  }
+
+  @Override
+  public void save(Order order) {
+    route(order).save(order);
+  }
+
+  @Override
+  public void save(Order order, long expectedVersion) {
+    route(order).save(order, expectedVersion);
+  }
+
+  @Override
+  public void close() {
+    readers.shutdown();
+  }
+
+  private InMemoryOrderRepository route(Order order) {
+    InMemoryOrderRepository shard = shardOf(order.getAccountId());
+    shardById.putIfAbsent(order.getId().value(), shard);
+    return shard;
+  }
+
+  private InMemoryOrderRepository shardOf(AccountId accountId) {
+    return shards[Math.floorMod(accountId.value().hashCode(), shards.length)];
+  }
+
+  private <T> List<T> fanOut(Function<InMemoryOrderRepository, T> query) {
+    if (shards.length == 1) {
+      return List.of(query.apply(shards[0]));
+    }
+
+    List<CompletableFuture<T>> futures = new ArrayList<>(shards.length);
+    for (InMemoryOrderRepository shard : shards) {
+      futures.add(CompletableFuture.supplyAsync(() -> query.apply(shard), readers));
+    }
+
+    List<T> results = new ArrayList<>(shards.length);
+    for (CompletableFuture<T> future : futures) {
+      results.add(await(future));
+    }
+    return results;
+  }
+
+  private static <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,276 @@
+package br.com.delivery.infrastructure.persistence.wal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import br.com.delivery.domain.account.Account;
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.account.AccountRole;
+import br.com.delivery.domain.client.Client;
+import br.com.delivery.domain.order.Order;
+import br.com.delivery.domain.restaurant.MenuItem;
+import br.com.delivery.domain.restaurant.MenuItemCategory;
+import br.com.delivery.domain.restaurant.MenuItemId;
+import br.com.delivery.domain.restaurant.OpeningHours;
+import br.com.delivery.domain.restaurant.Restaurant;
+import br.com.delivery.domain.restaurant.RestaurantId;
+import br.com.delivery.domain.restaurant.RestaurantStatus;
+import br.com.delivery.domain.restaurantowner.RestaurantOwner;
+import br.com.delivery.domain.shared.Address;
+import br.com.delivery.domain.shared.Cnpj;
+import br.com.delivery.domain.shared.Cpf;
+import br.com.delivery.domain.shared.Currency;
+import br.com.delivery.domain.shared.Email;
+import br.com.delivery.domain.shared.Money;
+import br.com.delivery.domain.shared.ZipCode;
+import br.com.delivery.infrastructure.serialization.OrderBinaryCodec;
+
+public final class JournalCodec {
+  private static final byte FORMAT_VERSION = 1;
+
+  private static final AccountRole[] ACCOUNT_ROLES = AccountRole.values();
+  private static final Currency[] CURRENCIES = Currency.values();
+  private static final MenuItemCategory[] CATEGORIES = MenuItemCategory.values();
+  private static final RestaurantStatus[] RESTAURANT_STATUSES = RestaurantStatus.values();
+
+  private JournalCodec() {
+  }
+
+  public static byte[] encodeAccount(Account account) {
+    return encode(out -> {
+      writeUuid(out, account.getId().value());
+      out.writeUTF(account.getName());
+      out.writeUTF(account.getEmail().value());
+      out.writeBoolean(account.isActive());
+      out.writeByte(account.getRoles().size());
+      for (AccountRole role : account.getRoles()) {
+        out.writeByte(role.ordinal());
+      }
+    });
+  }
+
+  public static Account decodeAccount(byte[] payload) {
+    return decode(payload, in -> {
+      AccountId id = new AccountId(readUuid(in));
+      String name = in.readUTF();
+      Email email = new Email(in.readUTF());
+      boolean active = in.readBoolean();
+      int roleCount = in.readUnsignedByte();
+      Set<AccountRole> roles = EnumSet.noneOf(AccountRole.class);
+      for (int i = 0; i < roleCount; i++) {
+        roles.add(ACCOUNT_ROLES[in.readUnsignedByte()]);
+      }
+
+      Account account = Account.restore(id, name, email, roles);
+      if (!active) {
+        account.deactivateAccount();
+      }
+      return account;
+    });
+  }
+
+  public static byte[] encodeClient(Client client) {
+    return encode(out -> {
+      writeUuid(out, client.getId().value());
+      writeAddress(out, client.getAddress());
+      writeNullableString(out, client.getCpf().map(Cpf::value).orElse(null));
+    });
+  }
+
+  public static Client decodeClient(byte[] payload) {
+    return decode(payload, in -> {
+      Client client = Client.restore(new AccountId(readUuid(in)));
+      Address address = readAddress(in);
+      String cpf = readNullableString(in);
+
+      if (address != null) {
+        client.updateAddress(address);
+      }
+      if (cpf != null) {
+        client.setCpf(new Cpf(cpf));
+      }
+      return client;
+    });
+  }
+
+  public static byte[] encodeRestaurantOwner(RestaurantOwner owner) {
+    return encode(out -> {
+      writeUuid(out, owner.getId().value());
+      writeNullableString(out, owner.getCnpj() == null ? null : owner.getCnpj().value());
+      writeNullableString(out, owner.getCorporateName());
+    });
+  }
+
+  public static RestaurantOwner decodeRestaurantOwner(byte[] payload) {
+    return decode(payload, in -> {
+      AccountId id = new AccountId(readUuid(in));
+      String cnpj = readNullableString(in);
+      String corporateName = readNullableString(in);
+      return RestaurantOwner.restore(id, cnpj == null ? null : new Cnpj(cnpj), corporateName);
+    });
+  }
+
+  public static byte[] encodeRestaurant(Restaurant restaurant) {
+    return encode(out -> {
+      writeUuid(out, restaurant.getId().value());
+      writeUuid(out, restaurant.getOwnerId().value());
+      out.writeUTF(restaurant.getName());
+      out.writeLong(restaurant.getOpeningHours().open().toNanoOfDay());
+      out.writeLong(restaurant.getOpeningHours().close().toNanoOfDay());
+      writeAddress(out, restaurant.getAddress());
+      writeNullableEnum(out, restaurant.getCurrency());
+      out.writeByte(restaurant.getStatus().ordinal());
+      out.writeLong(restaurant.currentMenu().version());
+
+      List<MenuItem> menu = restaurant.getMenu();
+      out.writeInt(menu.size());
+      for (MenuItem item : menu) {
+        writeUuid(out, item.getId().value());
+        out.writeUTF(item.getName());
+        out.writeUTF(item.getDescription());
+        out.writeByte(item.getCategory().ordinal());
+        writeMoney(out, item.currentPrice());
+        out.writeBoolean(item.isActive());
+      }
+    });
+  }
+
+  public static Restaurant decodeRestaurant(byte[] payload) {
+    return decode(payload, in -> {
+      RestaurantId id = new RestaurantId(readUuid(in));
+      AccountId ownerId = new AccountId(readUuid(in));
+      String name = in.readUTF();
+      OpeningHours openingHours = new OpeningHours(LocalTime.ofNanoOfDay(in.readLong()),
+          LocalTime.ofNanoOfDay(in.readLong()));
+      Address address = readAddress(in);
+      int currency = in.readByte();
+      RestaurantStatus status = RESTAURANT_STATUSES[in.readUnsignedByte()];
+      long menuVersion = in.readLong();
+
+      int menuSize = in.readInt();
+      List<MenuItem> menu = new ArrayList<>(menuSize);
+      for (int i = 0; i < menuSize; i++) {
+        MenuItem item = new MenuItem(
+            new MenuItemId(readUuid(in)),
+            id,
+            in.readUTF(),
+            in.readUTF(),
+            CATEGORIES[in.readUnsignedByte()],
+            readMoney(in));
+        if (!in.readBoolean()) {
+          item.deactivate();
+        }
+        menu.add(item);
+      }
+
+      return Restaurant.restore(id, ownerId, name, openingHours, address,
+          currency < 0 ? null : CURRENCIES[currency], status, menu, menuVersion);
+    });
+  }
+
+  public static byte[] encodeOrder(Order order) {
+    return OrderBinaryCodec.encode(order);
+  }
+
+  public static Order decodeOrder(byte[] payload) {
+    return OrderBinaryCodec.decode(payload);
+  }
+
+  private static byte[] encode(Writer writer) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeByte(FORMAT_VERSION);
+      writer.write(out);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static <T> T decode(byte[] payload, Reader<T> reader) {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+      byte version = in.readByte();
+      if (version != FORMAT_VERSION) {
+        throw new IllegalStateException("Versão de registro não suportada: " + version);
+      }
+      return reader.read(in);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void writeUuid(DataOutputStream out, UUID value) throws IOException {
+    out.writeLong(value.getMostSignificantBits());
+    out.writeLong(value.getLeastSignificantBits());
+  }
+
+  private static UUID readUuid(DataInputStream in) throws IOException {
+    return new UUID(in.readLong(), in.readLong());
+  }
+
+  private static void writeMoney(DataOutputStream out, Money money) throws IOException {
+    out.writeLong(money.minorUnits());
+    out.writeByte(money.currency().ordinal());
+  }
+
+  private static Money readMoney(DataInputStream in) throws IOException {
+    long minorUnits = in.readLong();
+    return Money.ofMinorUnits(minorUnits, CURRENCIES[in.readUnsignedByte()]);
+  }
+
+  private static void writeNullableEnum(DataOutputStream out, Enum<?> value) throws IOException {
+    out.writeByte(value == null ? -1 : value.ordinal());
+  }
+
+  private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeUTF(value);
+    }
+  }
+
+  private static String readNullableString(DataInputStream in) throws IOException {
+    return in.readBoolean() ? in.readUTF() : null;
+  }
+
+  private static void writeAddress(DataOutputStream out, Address address) throws IOException {
+    out.writeBoolean(address != null);
+    if (address == null) {
+      return;
+    }
+    out.writeUTF(address.street());
+    out.writeUTF(address.number());
+    writeNullableString(out, address.complement());
+    out.writeUTF(address.city());
+    out.writeUTF(address.country());
+    out.writeUTF(address.zipCode().value());
+  }
+
+  private static Address readAddress(DataInputStream in) throws IOException {
+    if (!in.readBoolean()) {
+      return null;
+    }
+    return new Address(in.readUTF(), in.readUTF(), readNullableString(in), in.readUTF(), in.readUTF(),
+        new ZipCode(in.readUTF()));
+  }
+
+  @FunctionalInterface
+  private interface Writer {
+    void write(DataOutputStream out) throws IOException;
+  }
+
+  @FunctionalInterface
+  private interface Reader<T> {
+    T read(DataInputStream in) throws IOException;
+  }
+}
@@ -0,0 +1,46 @@
+package br.com.delivery.infrastructure.persistence.wal;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import br.com.delivery.domain.account.Account;
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.repositories.IAccountRepository;
+import br.com.delivery.infrastructure.persistence.memory.InMemoryAccountRepository;
+
+public final class JournaledAccountRepository implements IAccountRepository, WalRecoverable, WalSnapshotSource {
+  private final InMemoryAccountRepository delegate;
+  private final WriteAheadLog log;
+
+  public JournaledAccountRepository(InMemoryAccountRepository delegate, WriteAheadLog log) {
+    this.delegate = Objects.requireNonNull(delegate);
+    this.log = Objects.requireNonNull(log);
+  }
+
+  @Override
+  public Optional<Account> findById(AccountId id) {
+    return delegate.findById(id);
+  }
+
+  @Override
+  public void save(Account account) {
+    log.append(WalRecordType.ACCOUNT, JournalCodec.encodeAccount(account), () -> delegate.save(account));
+  }
+
+  @Override
+  public WalRecordType recordType() {
+    return WalRecordType.ACCOUNT;
+  }
+
+  @Override
+  public void recover(byte[] payload) {
+    delegate.save(JournalCodec.decodeAccount(payload));
+  }
+
+  @Override
+  public void writeSnapshot(WalSnapshotWriter writer) {
+    for (Account account : delegate.findAll()) {
+      writer.write(WalRecordType.ACCOUNT, () -> JournalCodec.encodeAccount(account));
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package br.com.delivery.infrastructure.persistence.wal;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.client.Client;
+import br.com.delivery.domain.repositories.IClientRepository;
+import br.com.delivery.infrastructure.persistence.memory.InMemoryClientRepository;
+
+public final class JournaledClientRepository implements IClientRepository, WalRecoverable, WalSnapshotSource {
+  private final InMemoryClientRepository delegate;
+  private final WriteAheadLog log;
+
+  public JournaledClientRepository(InMemoryClientRepository delegate, WriteAheadLog log) {
+    this.delegate = Objects.requireNonNull(delegate);
+    this.log = Objects.requireNonNull(log);
+  }
+
+  @Override
+  public Optional<Client> findById(AccountId id) {
+    return delegate.findById(id);
+  }
+
+  @Override
+  public boolean existsById(AccountId id) {
+    return delegate.existsById(id);
+  }
+
+  @Override
+  public void save(Client client) {
+    log.append(WalRecordType.CLIENT, JournalCodec.encodeClient(client), () -> delegate.save(client));
+  }
+
+  @Override
+  public WalRecordType recordType() {
+    return WalRecordType.CLIENT;
+  }
+
+  @Override
+  public void recover(byte[] payload) {
+    delegate.save(JournalCodec.decodeClient(payload));
+  }
+
+  @Override
+  public void writeSnapshot(WalSnapshotWriter writer) {
+    for (Client client : delegate.findAll()) {
+      writer.write(WalRecordType.CLIENT, () -> JournalCodec.encodeClient(client));
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package br.com.delivery.infrastructure.persistence.wal;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.order.Order;
+import br.com.delivery.domain.order.OrderCursor;
+import br.com.delivery.domain.order.OrderEvent;
+import br.com.delivery.domain.order.OrderEventPublisher;
+import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.domain.order.OrderPage;
+import br.com.delivery.domain.order.OrderStatus;
+import br.com.delivery.domain.repositories.IOrderRepository;
+import br.com.delivery.domain.restaurant.RestaurantId;
+import br.com.delivery.infrastructure.persistence.memory.InMemoryOrderRepository;
+
+public final class JournaledOrderRepository implements IOrderRepository, WalRecoverable, WalSnapshotSource {
+  private static final int STRIPES = 64;
+
+  private final InMemoryOrderRepository delegate;
+  private final WriteAheadLog log;
+  private final OrderEventPublisher publisher;
+  private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+
+  public JournaledOrderRepository(InMemoryOrderRepository delegate, WriteAheadLog log) {
+    this(delegate, log, OrderEventPublisher.NONE);
+  }
+
+  public JournaledOrderRepository(InMemoryOrderRepository delegate, WriteAheadLog log,
+      OrderEventPublisher publisher) {
+    this.delegate = Objects.requireNonNull(delegate);
+    this.log = Objects.requireNonNull(log);
+    this.publisher = Objects.requireNonNull(publisher);
+    for (int i = 0; i < stripes.length; i++) {
+      stripes[i] = new ReentrantLock();
+    }
+  }
+
+  @Override
+  public Optional<Order> findById(OrderId id) {
+    return delegate.findById(id);
+  }
+
+  @Override
+  public Optional<Order> findDraftByClientAndRestaurant(AccountId accountId, RestaurantId restaurantId) {
+    return delegate.findDraftByClientAndRestaurant(accountId, restaurantId);
+  }
+
+  @Override
+  public List<Order> findAllByClientId(AccountId accountId) {
+    return delegate.findAllByClientId(accountId);
+  }
+
+  @Override
+  public OrderPage findPageByClientId(AccountId accountId, OrderCursor cursor, int limit) {
+    return delegate.findPageByClientId(accountId, cursor, limit);
+  }
+
+  @Override
+  public List<Order> findAllByRestaurantAndStatus(RestaurantId restaurantId, OrderStatus status) {
+    return delegate.findAllByRestaurantAndStatus(restaurantId, status);
+  }
+
+  @Override
+  public int countByRestaurantAndStatus(RestaurantId restaurantId, OrderStatus status) {
+    return delegate.countByRestaurantAndStatus(restaurantId, status);
+  }
+
+  @Override
+  public void save(Order order) {
+    store(order, () -> delegate.prepareSave(order));
+  }
+
+  @Override
+  public void save(Order order, long expectedVersion) {
+    store(order, () -> delegate.prepareSave(order, expectedVersion));
+  }
+
+  private void store(Order order, Supplier<Order> prepare) {
+    List<OrderEvent> events = order.pullEvents();
+    ReentrantLock stripe = stripes[Math.floorMod(Objects.hash(order.getAccountId(), order.getRestaurantId()),
+        stripes.length)];
+
+    stripe.lock();
+    try {
+      Order next = prepare.get();
+      log.append(WalRecordType.ORDER, JournalCodec.encodeOrder(next), () -> delegate.restore(next));
+      order.markAsSaved(next.getVersion());
+    } finally {
+      stripe.unlock();
+    }
+    publish(events);
+  }
+
+  private void publish(List<OrderEvent> events) {
+    if (!events.isEmpty()) {
+      publisher.publish(events);
+    }
+  }
+
+  @Override
+  public WalRecordType recordType() {
+    return WalRecordType.ORDER;
+  }
+
+  @Override
+  public void recover(byte[] payload) {
+    delegate.restore(JournalCodec.decodeOrder(payload));
+  }
+
+  @Override
+  public void writeSnapshot(WalSnapshotWriter writer) {
+    for (Order order : delegate.findAll()) {
+      writer.write(WalRecordType.ORDER, () -> JournalCodec.encodeOrder(order));
+    }
+  }
+}
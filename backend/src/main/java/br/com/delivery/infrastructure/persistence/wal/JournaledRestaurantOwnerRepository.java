@@ -0,0 +1,52 @@
+package br.com.delivery.infrastructure.persistence.wal;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.repositories.IRestaurantOwnerRepository;
+import br.com.delivery.domain.restaurantowner.RestaurantOwner;
+import br.com.delivery.infrastructure.persistence.memory.InMemoryRestaurantOwnerRepository;
+
+public final class JournaledRestaurantOwnerRepository implements IRestaurantOwnerRepository, WalRecoverable, WalSnapshotSource {
+  private final InMemoryRestaurantOwnerRepository delegate;
+  private final WriteAheadLog log;
+
+  public JournaledRestaurantOwnerRepository(InMemoryRestaurantOwnerRepository delegate, WriteAheadLog log) {
+    this.delegate = Objects.requireNonNull(delegate);
+    this.log = Objects.requireNonNull(log);
+  }
+
+  @Override
+  public Optional<RestaurantOwner> findById(AccountId id) {
+    return delegate.findById(id);
+  }
+
+  @Override
+  public boolean existsById(AccountId id) {
+    return delegate.existsById(id);
+  }
+
+  @Override
+  public void save(RestaurantOwner restaurantOwner) {
+    log.append(WalRecordType.RESTAURANT_OWNER, JournalCodec.encodeRestaurantOwner(restaurantOwner),
+        () -> delegate.save(restaurantOwner));
+  }
+
+  @Override
+  public WalRecordType recordType() {
+    return WalRecordType.RESTAURANT_OWNER;
+  }
+
+  @Override
+  public void recover(byte[] payload) {
+    delegate.save(JournalCodec.decodeRestaurantOwner(payload));
+  }
+
+  @Override
+  public void writeSnapshot(WalSnapshotWriter writer) {
+    for (RestaurantOwner restaurantOwner : delegate.findAll()) {
+      writer.write(WalRecordType.RESTAURANT_OWNER, () -> JournalCodec.encodeRestaurantOwner(restaurantOwner));
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package br.com.delivery.infrastructure.persistence.wal;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.repositories.IRestaurantRepository;
+import br.com.delivery.domain.restaurant.Restaurant;
+import br.com.delivery.domain.restaurant.RestaurantId;
+import br.com.delivery.infrastructure.persistence.memory.InMemoryRestaurantRepository;
+
+public final class JournaledRestaurantRepository implements IRestaurantRepository, WalRecoverable, WalSnapshotSource {
+  private final InMemoryRestaurantRepository delegate;
+  private final WriteAheadLog log;
+
+  public JournaledRestaurantRepository(InMemoryRestaurantRepository delegate, WriteAheadLog log) {
+    this.delegate = Objects.requireNonNull(delegate);
+    this.log = Objects.requireNonNull(log);
+  }
+
+  @Override
+  public Optional<Restaurant> findById(RestaurantId id) {
+    return delegate.findById(id);
+  }
+
+  @Override
+  public List<Restaurant> findAllByOwnerId(AccountId ownerId) {
+    return delegate.findAllByOwnerId(ownerId);
+  }
+
+  @Override
+  public List<Restaurant> findAllByIds(Collection<RestaurantId> ids) {
+    return delegate.findAllByIds(ids);
+  }
+
+  @Override
+  public boolean existsById(RestaurantId id) {
+    return delegate.existsById(id);
+  }
+
+  @Override
+  public void save(Restaurant restaurant) {
+    log.append(WalRecordType.RESTAURANT, JournalCodec.encodeRestaurant(restaurant), () -> delegate.save(restaurant));
+  }
+
+  @Override
+  public WalRecordType recordType() {
+    return WalRecordType.RESTAURANT;
+  }
+
+  @Override
+  public void recover(byte[] payload) {
+    delegate.save(JournalCodec.decodeRestaurant(payload));
+  }
+
+  @Override
+  public void writeSnapshot(WalSnapshotWriter writer) {
+    for (Restaurant restaurant : delegate.findAll()) {
+      writer.write(WalRecordType.RESTAURANT, () -> JournalCodec.encodeRestaurant(restaurant));
+    }
+  }
+}
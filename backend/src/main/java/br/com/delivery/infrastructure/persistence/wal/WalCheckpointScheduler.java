@@ -0,0 +1,57 @@
+package br.com.delivery.infrastructure.persistence.wal;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public final class WalCheckpointScheduler implements AutoCloseable {
+  private static final Logger LOGGER = LoggerFactory.getLogger(WalCheckpointScheduler.class);
+
+  private final WriteAheadLog log;
+  private final List<WalSnapshotSource> sources;
+  private final ScheduledExecutorService executor;
+
+  public WalCheckpointScheduler(WriteAheadLog log, List<WalSnapshotSource> sources, Duration interval) {
+    this.log = Objects.requireNonNull(log);
+    this.sources = List.copyOf(sources);
+    if (interval.isNegative() || interval.isZero()) {
+      throw new IllegalArgumentException("Intervalo de snapshot inválido: " + interval);
+    }
+
+    this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "wal-checkpoint");
+      thread.setDaemon(true);
+      return thread;
+    });
+    long millis = interval.toMillis();
+    this.executor.scheduleWithFixedDelay(this::checkpoint, millis, millis, TimeUnit.MILLISECONDS);
+  }
+
+  public void checkpoint() {
+    try {
+      long started = System.nanoTime();
+      log.checkpoint(sources).ifPresent(firstSegment -> LOGGER.info(
+          "Snapshot gravado a partir do segmento {} em {} ms.", firstSegment,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)));
+    } catch (RuntimeException e) {
+      LOGGER.warn("Falha ao gravar snapshot do log.", e);
+    }
+  }
+
+  @Override
+  public void close() {
+    executor.shutdown();
+    try {
+      executor.awaitTermination(30, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    checkpoint();
+  }
+}
@@ -0,0 +1,10 @@
+package br.com.delivery.infrastructure.persistence.wal;
+
+import java.util.Objects;
+
+public record WalRecord(WalRecordType type, byte[] payload) {
+  public WalRecord {
+    Objects.requireNonNull(type);
+    Objects.requireNonNull(payload);
+  }
+}
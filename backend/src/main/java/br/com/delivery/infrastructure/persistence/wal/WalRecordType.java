@@ -0,0 +1,28 @@
+package br.com.delivery.infrastructure.persistence.wal;
+
+public enum WalRecordType {
+  ACCOUNT((byte) 1),
+  CLIENT((byte) 2),
+  RESTAURANT_OWNER((byte) 3),
+  RESTAURANT((byte) 4),
+  ORDER((byte) 5);
+
+  private final byte code;
+
+  WalRecordType(byte code) {
+    this.code = code;
+  }
+
+  public byte code() {
+    return code;
+  }
+
+  public static WalRecordType fromCode(byte code) {
+    for (WalRecordType type : values()) {
+      if (type.code == code) {
+        return type;
+      }
+    }
+    throw new IllegalArgumentException("Tipo de registro desconhecido: " + code);
+  }
+}
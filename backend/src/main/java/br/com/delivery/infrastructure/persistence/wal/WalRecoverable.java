@@ -0,0 +1,7 @@
+package br.com.delivery.infrastructure.persistence.wal;
+
+public interface WalRecoverable {
+  WalRecordType recordType();
+
+  void recover(byte[] payload);
+}
@@ -0,0 +1,5 @@
+package br.com.delivery.infrastructure.persistence.wal;
+
+public interface WalSnapshotSource {
+  void writeSnapshot(WalSnapshotWriter writer);
+}
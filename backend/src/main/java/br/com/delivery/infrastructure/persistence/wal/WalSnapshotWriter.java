@@ -0,0 +1,50 @@
+package br.com.delivery.infrastructure.persistence.wal;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public final class WalSnapshotWriter {
+  private static final int MAX_ENCODE_ATTEMPTS = 3;
+
+  private final DataOutputStream out;
+  private long records;
+
+  WalSnapshotWriter(DataOutputStream out) {
+    this.out = out;
+  }
+
+  public void write(WalRecordType type, Supplier<byte[]> encoder) {
+    Objects.requireNonNull(type);
+    byte[] payload = encode(encoder);
+
+    try {
+      out.writeByte(type.code());
+      out.writeInt(payload.length);
+      out.write(payload);
+      records++;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  long records() {
+    return records;
+  }
+
+  // O agregado pode estar sendo alterado por outra thread; o estado final vem do log gravado após o snapshot.
+  private static byte[] encode(Supplier<byte[]> encoder) {
+    for (int attempt = 1;; attempt++) {
+      try {
+        return encoder.get();
+      } catch (ConcurrentModificationException e) {
+        if (attempt == MAX_ENCODE_ATTEMPTS) {
+          throw e;
+        }
+      }
+    }
+  }
+}
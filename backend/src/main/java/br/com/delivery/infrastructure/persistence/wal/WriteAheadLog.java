@@ -0,0 +1,531 @@
+package br.com.delivery.infrastructure.persistence.wal;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+public final class WriteAheadLog implements AutoCloseable {
+  public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+  private static final String SEGMENT_PREFIX = "wal-";
+  private static final String SEGMENT_SUFFIX = ".log";
+  private static final String SNAPSHOT_PREFIX = "snapshot-";
+  private static final String SNAPSHOT_SUFFIX = ".bin";
+  private static final String TEMPORARY_SUFFIX = ".tmp";
+  private static final int SNAPSHOT_MAGIC = 0x57414C53;
+  private static final byte SNAPSHOT_FORMAT_VERSION = 1;
+  private static final byte SNAPSHOT_END = 0;
+  private static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Byte.BYTES;
+
+  private final Path directory;
+  private final int segmentSize;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final ReadWriteLock epochLock = new ReentrantReadWriteLock();
+  private final ReentrantLock checkpointLock = new ReentrantLock();
+  private final Condition pendingWrites = lock.newCondition();
+  private final Condition durableWrites = lock.newCondition();
+  private final List<Segment> rolledSegments = new ArrayList<>();
+  private final Thread flusher;
+  private final ThreadLocal<int[]> deferredSync = ThreadLocal.withInitial(() -> new int[1]);
+  private Segment current;
+  private long appendedBytes;
+  private long durableBytes;
+  private long checkpointedBytes = -1;
+  private IOException flushFailure;
+  private boolean closed;
+
+  private WriteAheadLog(Path directory, int segmentSize) throws IOException {
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+
+    List<Long> indexes = fileIndexes(SEGMENT_PREFIX, SEGMENT_SUFFIX);
+    if (indexes.isEmpty()) {
+      this.current = Segment.open(segmentPath(0), 0, segmentSize);
+    } else {
+      long lastIndex = indexes.get(indexes.size() - 1);
+      this.current = Segment.open(segmentPath(lastIndex), lastIndex, segmentSize);
+      this.current.recoverEnd();
+    }
+
+    this.flusher = new Thread(this::flushLoop, "wal-flusher");
+    this.flusher.setDaemon(true);
+    this.flusher.start();
+  }
+
+  public static WriteAheadLog open(Path directory) {
+    return open(directory, DEFAULT_SEGMENT_SIZE);
+  }
+
+  public static WriteAheadLog open(Path directory, int segmentSize) {
+    Objects.requireNonNull(directory);
+    if (segmentSize < HEADER_SIZE * 2) {
+      throw new IllegalArgumentException("Tamanho de segmento inválido: " + segmentSize);
+    }
+
+    try {
+      Files.createDirectories(directory);
+      return new WriteAheadLog(directory, segmentSize);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public void append(WalRecordType type, byte[] payload) {
+    Objects.requireNonNull(type);
+    Objects.requireNonNull(payload);
+
+    int recordSize = HEADER_SIZE + payload.length;
+    if (recordSize > segmentSize) {
+      throw new IllegalArgumentException("Registro maior que o segmento do log: " + recordSize + " bytes.");
+    }
+
+    CRC32C crc = new CRC32C();
+    crc.update(type.code());
+    crc.update(payload);
+
+    lock.lock();
+    try {
+      ensureOpen();
+      if (current.remaining() < recordSize) {
+        roll();
+      }
+
+      current.write(payload.length + 1, (int) crc.getValue(), type.code(), payload);
+      appendedBytes += recordSize;
+      pendingWrites.signal();
+
+      if (deferredSync.get()[0] == 0) {
+        awaitDurable(appendedBytes);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void append(WalRecordType type, byte[] payload, Runnable apply) {
+    Objects.requireNonNull(apply);
+
+    epochLock.readLock().lock();
+    try {
+      append(type, payload);
+      apply.run();
+    } finally {
+      epochLock.readLock().unlock();
+    }
+  }
+
+  public <T> T deferringSync(Supplier<T> action) {
+    int[] depth = deferredSync.get();
+    depth[0]++;
+    try {
+      return action.get();
+    } finally {
+      depth[0]--;
+    }
+  }
+
+  public void sync() {
+    lock.lock();
+    try {
+      awaitDurable(appendedBytes);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void awaitDurable(long position) {
+    while (durableBytes < position) {
+      if (flushFailure != null) {
+        throw new UncheckedIOException(flushFailure);
+      }
+      durableWrites.awaitUninterruptibly();
+    }
+  }
+
+  public void replay(Consumer<WalRecord> consumer) {
+    Objects.requireNonNull(consumer);
+
+    lock.lock();
+    try {
+      long firstSegment = 0;
+      List<Long> snapshots = fileIndexes(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+      if (!snapshots.isEmpty()) {
+        firstSegment = snapshots.get(snapshots.size() - 1);
+        readSnapshot(snapshotPath(firstSegment), consumer);
+      }
+
+      for (long index : fileIndexes(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+        if (index < firstSegment) {
+          continue;
+        }
+        ByteBuffer buffer = index == current.index
+            ? current.buffer.duplicate().position(0)
+            : Segment.mapReadOnly(segmentPath(index));
+        if (!Segment.readRecords(buffer, consumer)) {
+          return;
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void recover(Collection<? extends WalRecoverable> sources) {
+    Map<WalRecordType, WalRecoverable> targets = new EnumMap<>(WalRecordType.class);
+    for (WalRecoverable source : sources) {
+      targets.put(source.recordType(), source);
+    }
+
+    replay(record -> {
+      WalRecoverable target = targets.get(record.type());
+      if (target != null) {
+        target.recover(record.payload());
+      }
+    });
+  }
+
+  public OptionalLong checkpoint(Collection<? extends WalSnapshotSource> sources) {
+    Objects.requireNonNull(sources);
+
+    checkpointLock.lock();
+    try {
+      OptionalLong firstSegment = startEpoch();
+      if (firstSegment.isPresent()) {
+        writeSnapshot(firstSegment.getAsLong(), sources);
+        deleteBefore(firstSegment.getAsLong());
+      }
+      return firstSegment;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      checkpointLock.unlock();
+    }
+  }
+
+  public Path directory() {
+    return directory;
+  }
+
+  @Override
+  public void close() {
+    lock.lock();
+    try {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      pendingWrites.signalAll();
+    } finally {
+      lock.unlock();
+    }
+
+    try {
+      flusher.join();
+      for (Segment segment : rolledSegments) {
+        segment.close();
+      }
+      current.force();
+      current.close();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void roll() throws IOException {
+    rolledSegments.add(current);
+    current = Segment.open(segmentPath(current.index + 1), current.index + 1, segmentSize);
+  }
+
+  private OptionalLong startEpoch() throws IOException {
+    epochLock.writeLock().lock();
+    try {
+      lock.lock();
+      try {
+        ensureOpen();
+        if (checkpointedBytes == appendedBytes) {
+          return OptionalLong.empty();
+        }
+        roll();
+        checkpointedBytes = appendedBytes;
+        return OptionalLong.of(current.index);
+      } finally {
+        lock.unlock();
+      }
+    } finally {
+      epochLock.writeLock().unlock();
+    }
+  }
+
+  private void writeSnapshot(long firstSegment, Collection<? extends WalSnapshotSource> sources) throws IOException {
+    Path temporary = directory.resolve(snapshotPath(firstSegment).getFileName() + TEMPORARY_SUFFIX);
+
+    try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+      CheckedOutputStream checked = new CheckedOutputStream(Channels.newOutputStream(channel), new CRC32C());
+      DataOutputStream out = new DataOutputStream(new BufferedOutputStream(checked, 64 * 1024));
+      out.writeInt(SNAPSHOT_MAGIC);
+      out.writeByte(SNAPSHOT_FORMAT_VERSION);
+      out.writeLong(firstSegment);
+
+      WalSnapshotWriter writer = new WalSnapshotWriter(out);
+      for (WalSnapshotSource source : sources) {
+        source.writeSnapshot(writer);
+      }
+      out.writeByte(SNAPSHOT_END);
+      out.flush();
+
+      channel.write(ByteBuffer.allocate(Integer.BYTES).putInt((int) checked.getChecksum().getValue()).flip());
+      channel.force(true);
+    }
+
+    Files.move(temporary, snapshotPath(firstSegment), StandardCopyOption.ATOMIC_MOVE);
+    try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+      dir.force(true);
+    } catch (IOException ignored) {
+    }
+  }
+
+  private void readSnapshot(Path path, Consumer<WalRecord> consumer) throws IOException {
+    ByteBuffer buffer = Segment.mapReadOnly(path);
+    int bodySize = buffer.limit() - Integer.BYTES;
+    if (bodySize < 0) {
+      throw new IllegalStateException("Snapshot corrompido: " + path.getFileName());
+    }
+
+    CRC32C crc = new CRC32C();
+    crc.update(buffer.duplicate().limit(bodySize));
+    if ((int) crc.getValue() != buffer.getInt(bodySize) || buffer.getInt() != SNAPSHOT_MAGIC) {
+      throw new IllegalStateException("Snapshot corrompido: " + path.getFileName());
+    }
+    byte version = buffer.get();
+    if (version != SNAPSHOT_FORMAT_VERSION) {
+      throw new IllegalStateException("Versão de snapshot não suportada: " + version);
+    }
+    buffer.getLong();
+
+    byte code;
+    while ((code = buffer.get()) != SNAPSHOT_END) {
+      byte[] payload = new byte[buffer.getInt()];
+      buffer.get(payload);
+      consumer.accept(new WalRecord(WalRecordType.fromCode(code), payload));
+    }
+  }
+
+  private void deleteBefore(long firstSegment) throws IOException {
+    for (long index : fileIndexes(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+      if (index < firstSegment) {
+        Files.deleteIfExists(segmentPath(index));
+      }
+    }
+    for (long index : fileIndexes(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+      if (index < firstSegment) {
+        Files.deleteIfExists(snapshotPath(index));
+      }
+    }
+    try (Stream<Path> files = Files.list(directory)) {
+      for (Path file : files.filter(path -> path.getFileName().toString().endsWith(TEMPORARY_SUFFIX)).toList()) {
+        Files.deleteIfExists(file);
+      }
+    }
+  }
+
+  private void flushLoop() {
+    while (true) {
+      long target;
+      List<Segment> segments;
+
+      lock.lock();
+      try {
+        while (!closed && durableBytes == appendedBytes) {
+          pendingWrites.awaitUninterruptibly();
+        }
+        if (durableBytes == appendedBytes) {
+          return;
+        }
+        target = appendedBytes;
+        segments = new ArrayList<>(rolledSegments);
+        rolledSegments.clear();
+        segments.add(current);
+      } finally {
+        lock.unlock();
+      }
+
+      IOException failure = null;
+      try {
+        for (Segment segment : segments) {
+          segment.force();
+        }
+        for (Segment segment : segments.subList(0, segments.size() - 1)) {
+          segment.close();
+        }
+      } catch (IOException e) {
+        failure = e;
+      }
+
+      lock.lock();
+      try {
+        if (failure != null) {
+          flushFailure = failure;
+        } else {
+          durableBytes = target;
+        }
+        durableWrites.signalAll();
+      } finally {
+        lock.unlock();
+      }
+
+      if (failure != null) {
+        return;
+      }
+    }
+  }
+
+  private void ensureOpen() {
+    if (closed) {
+      throw new IllegalStateException("O log já foi fechado.");
+    }
+    if (flushFailure != null) {
+      throw new UncheckedIOException(flushFailure);
+    }
+  }
+
+  private List<Long> fileIndexes(String prefix, String suffix) throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files
+          .map(path -> path.getFileName().toString())
+          .filter(name -> name.startsWith(prefix) && name.endsWith(suffix))
+          .map(name -> Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length())))
+          .sorted()
+          .toList();
+    }
+  }
+
+  private Path segmentPath(long index) {
+    return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+  }
+
+  private Path snapshotPath(long index) {
+    return directory.resolve(String.format("%s%020d%s", SNAPSHOT_PREFIX, index, SNAPSHOT_SUFFIX));
+  }
+
+  private static final class Segment {
+    private final long index;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private Segment(long index, FileChannel channel, MappedByteBuffer buffer) {
+      this.index = index;
+      this.channel = channel;
+      this.buffer = buffer;
+    }
+
+    private static Segment open(Path path, long index, int size) throws IOException {
+      FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+          StandardOpenOption.WRITE);
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+      return new Segment(index, channel, buffer);
+    }
+
+    private static ByteBuffer mapReadOnly(Path path) throws IOException {
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+        return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      }
+    }
+
+    private static boolean readRecords(ByteBuffer buffer, Consumer<WalRecord> consumer) {
+      while (buffer.remaining() >= HEADER_SIZE) {
+        int start = buffer.position();
+        int length = buffer.getInt();
+        if (length == 0) {
+          buffer.position(start);
+          return true;
+        }
+        int checksum = buffer.getInt();
+        if (length < 1 || length - 1 > buffer.remaining() - Byte.BYTES) {
+          buffer.position(start);
+          return false;
+        }
+
+        byte code = buffer.get();
+        byte[] payload = new byte[length - 1];
+        buffer.get(payload);
+
+        CRC32C crc = new CRC32C();
+        crc.update(code);
+        crc.update(payload);
+        if ((int) crc.getValue() != checksum) {
+          buffer.position(start);
+          return false;
+        }
+
+        consumer.accept(new WalRecord(WalRecordType.fromCode(code), payload));
+      }
+      return true;
+    }
+
+    private void recoverEnd() {
+      ByteBuffer reader = buffer.duplicate().position(0);
+      readRecords(reader, record -> {
+      });
+      buffer.position(reader.position());
+      terminate();
+    }
+
+    private int remaining() {
+      return buffer.remaining();
+    }
+
+    private void write(int length, int checksum, byte code, byte[] payload) {
+      buffer.putInt(length);
+      buffer.putInt(checksum);
+      buffer.put(code);
+      buffer.put(payload);
+      terminate();
+    }
+
+    private void terminate() {
+      if (buffer.remaining() >= Integer.BYTES) {
+        buffer.putInt(buffer.position(), 0);
+      }
+    }
+
+    private void force() throws IOException {
+      buffer.force();
+    }
+
+    private void close() throws IOException {
+      channel.close();
+    }
+  }
+}
@@ -0,0 +1,129 @@
+package br.com.delivery.infrastructure.scheduling;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import br.com.delivery.application.DelayedTaskScheduler;
+
+public final class HashedTimingWheel implements DelayedTaskScheduler, AutoCloseable {
+  private static final Logger LOGGER = LoggerFactory.getLogger(HashedTimingWheel.class);
+
+  private final long tickNanos;
+  private final ArrayDeque<Timeout>[] buckets;
+  private final int mask;
+  private final Queue<Timeout> incoming = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pending = new AtomicInteger();
+  private final long startedAt;
+  private final Thread worker;
+  private volatile boolean running = true;
+  private long tick;
+
+  @SuppressWarnings("unchecked")
+  public HashedTimingWheel(Duration tickDuration, int wheelSize) {
+    if (tickDuration.isNegative() || tickDuration.isZero()) {
+      throw new IllegalArgumentException("Duração do tick inválida: " + tickDuration);
+    }
+    if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+      throw new IllegalArgumentException("O tamanho da roda deve ser uma potência de dois: " + wheelSize);
+    }
+
+    this.tickNanos = tickDuration.toNanos();
+    this.buckets = new ArrayDeque[wheelSize];
+    for (int i = 0; i < wheelSize; i++) {
+      buckets[i] = new ArrayDeque<>();
+    }
+    this.mask = wheelSize - 1;
+    this.startedAt = System.nanoTime();
+    this.worker = new Thread(this::run, "timing-wheel");
+    this.worker.setDaemon(true);
+    this.worker.start();
+  }
+
+  @Override
+  public void schedule(Runnable task, Duration delay) {
+    Objects.requireNonNull(task);
+    if (!running) {
+      throw new IllegalStateException("A roda de temporização foi encerrada.");
+    }
+
+    long deadline = System.nanoTime() - startedAt + Math.max(0, delay.toNanos());
+    pending.incrementAndGet();
+    incoming.add(new Timeout(task, deadline));
+  }
+
+  public int pendingTasks() {
+    return pending.get();
+  }
+
+  private void run() {
+    while (running) {
+      long deadline = tickNanos * (tick + 1);
+      long sleep = deadline - (System.nanoTime() - startedAt);
+      if (sleep > 0) {
+        LockSupport.parkNanos(sleep);
+        continue;
+      }
+
+      transferIncoming();
+      expire(buckets[(int) (tick & mask)]);
+      tick++;
+    }
+  }
+
+  private void transferIncoming() {
+    for (Timeout timeout = incoming.poll(); timeout != null; timeout = incoming.poll()) {
+      long dueTick = Math.max(timeout.deadline / tickNanos, tick);
+      timeout.remainingRounds = (dueTick - tick) / buckets.length;
+      buckets[(int) (dueTick & mask)].add(timeout);
+    }
+  }
+
+  private void expire(ArrayDeque<Timeout> bucket) {
+    for (int remaining = bucket.size(); remaining > 0; remaining--) {
+      Timeout timeout = bucket.poll();
+      if (timeout.remainingRounds > 0) {
+        timeout.remainingRounds--;
+        bucket.add(timeout);
+        continue;
+      }
+
+      pending.decrementAndGet();
+      try {
+        timeout.task.run();
+      } catch (RuntimeException e) {
+        LOGGER.warn("Falha ao executar tarefa agendada.", e);
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    running = false;
+    LockSupport.unpark(worker);
+    try {
+      worker.join(TimeUnit.SECONDS.toMillis(30));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static final class Timeout {
+    private final Runnable task;
+    private final long deadline;
+    private long remainingRounds;
+
+    private Timeout(Runnable task, long deadline) {
+      this.task = task;
+      this.deadline = deadline;
+    }
+  }
+}
@@ -0,0 +1,129 @@
+package br.com.delivery.infrastructure.serialization;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import br.com.delivery.domain.shared.Address;
+import br.com.delivery.domain.shared.Currency;
+import br.com.delivery.domain.shared.Money;
+import br.com.delivery.domain.shared.ZipCode;
+
+public final class BinaryReader {
+  private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+  private static final Currency[] CURRENCIES = Currency.values();
+
+  private final List<String> dictionary = new ArrayList<>();
+  private final byte[] buffer;
+  private final int limit;
+  private int position;
+
+  public BinaryReader(byte[] buffer) {
+    this(buffer, 0, buffer.length);
+  }
+
+  public BinaryReader(byte[] buffer, int offset, int length) {
+    Objects.checkFromIndexSize(offset, length, buffer.length);
+    this.buffer = buffer;
+    this.position = offset;
+    this.limit = offset + length;
+  }
+
+  public int readByte() {
+    require(1);
+    return buffer[position++] & 0xFF;
+  }
+
+  public long readLong() {
+    require(Long.BYTES);
+    long value = (long) LONG.get(buffer, position);
+    position += Long.BYTES;
+    return value;
+  }
+
+  public long readVarLong() {
+    long value = 0;
+    for (int shift = 0; shift < Long.SIZE; shift += 7) {
+      int next = readByte();
+      value |= (long) (next & 0x7F) << shift;
+      if ((next & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IllegalStateException("Inteiro variável malformado.");
+  }
+
+  public int readVarInt() {
+    return Math.toIntExact(readVarLong());
+  }
+
+  public UUID readUuid() {
+    return new UUID(readLong(), readLong());
+  }
+
+  public <E extends Enum<E>> E readEnum(E[] values) {
+    int ordinal = readByte();
+    if (ordinal >= values.length) {
+      throw new IllegalStateException("Ordinal inválido: " + ordinal);
+    }
+    return values[ordinal];
+  }
+
+  public LocalDateTime readDateTime() {
+    long nanos = readLong();
+    return LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, NANOS_PER_SECOND),
+        (int) Math.floorMod(nanos, NANOS_PER_SECOND), ZoneOffset.UTC);
+  }
+
+  public String readString() {
+    int reference = readVarInt();
+    if (reference > 0) {
+      if (reference > dictionary.size()) {
+        throw new IllegalStateException("Referência de texto inválida: " + reference);
+      }
+      return dictionary.get(reference - 1);
+    }
+
+    int length = readVarInt();
+    require(length);
+    String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+    position += length;
+    dictionary.add(value);
+    return value;
+  }
+
+  public String readNullableString() {
+    return readByte() == 0 ? null : readString();
+  }
+
+  public Money readMoney() {
+    long minorUnits = readVarLong();
+    return Money.ofMinorUnits(minorUnits, readEnum(CURRENCIES));
+  }
+
+  public Address readAddress() {
+    if (readByte() == 0) {
+      return null;
+    }
+    return new Address(readString(), readString(), readNullableString(), readString(), readString(),
+        new ZipCode(readString()));
+  }
+
+  public boolean hasRemaining() {
+    return position < limit;
+  }
+
+  private void require(int bytes) {
+    if (bytes < 0 || position + bytes > limit) {
+      throw new IllegalStateException("Fim inesperado dos dados.");
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package br.com.delivery.infrastructure.serialization;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import br.com.delivery.domain.shared.Address;
+import br.com.delivery.domain.shared.Money;
+
+public final class BinaryWriter {
+  private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  private final Map<String, Integer> dictionary = new HashMap<>();
+  private byte[] buffer;
+  private int position;
+
+  public BinaryWriter() {
+    this(256);
+  }
+
+  public BinaryWriter(int initialCapacity) {
+    this.buffer = new byte[Math.max(16, initialCapacity)];
+  }
+
+  public void writeByte(int value) {
+    ensureCapacity(1);
+    buffer[position++] = (byte) value;
+  }
+
+  public void writeLong(long value) {
+    ensureCapacity(Long.BYTES);
+    LONG.set(buffer, position, value);
+    position += Long.BYTES;
+  }
+
+  public void writeVarLong(long value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Valor negativo não suportado: " + value);
+    }
+    ensureCapacity(10);
+    while ((value & ~0x7FL) != 0) {
+      buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    buffer[position++] = (byte) value;
+  }
+
+  public void writeVarInt(int value) {
+    writeVarLong(value);
+  }
+
+  public void writeUuid(UUID value) {
+    writeLong(value.getMostSignificantBits());
+    writeLong(value.getLeastSignificantBits());
+  }
+
+  public void writeEnum(Enum<?> value) {
+    writeByte(value.ordinal());
+  }
+
+  public void writeDateTime(LocalDateTime value) {
+    writeLong(Math.addExact(Math.multiplyExact(value.toEpochSecond(ZoneOffset.UTC), NANOS_PER_SECOND),
+        value.getNano()));
+  }
+
+  public void writeString(String value) {
+    Integer index = dictionary.get(value);
+    if (index != null) {
+      writeVarInt(index + 1);
+      return;
+    }
+
+    dictionary.put(value, dictionary.size());
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    writeVarInt(0);
+    writeVarInt(bytes.length);
+    ensureCapacity(bytes.length);
+    System.arraycopy(bytes, 0, buffer, position, bytes.length);
+    position += bytes.length;
+  }
+
+  public void writeNullableString(String value) {
+    writeByte(value == null ? 0 : 1);
+    if (value != null) {
+      writeString(value);
+    }
+  }
+
+  public void writeMoney(Money value) {
+    writeVarLong(value.minorUnits());
+    writeEnum(value.currency());
+  }
+
+  public void writeAddress(Address value) {
+    writeByte(value == null ? 0 : 1);
+    if (value == null) {
+      return;
+    }
+    writeString(value.street());
+    writeString(value.number());
+    writeNullableString(value.complement());
+    writeString(value.city());
+    writeString(value.country());
+    writeString(value.zipCode().value());
+  }
+
+  public int size() {
+    return position;
+  }
+
+  public byte[] toByteArray() {
+    return Arrays.copyOf(buffer, position);
+  }
+
+  private void ensureCapacity(int bytes) {
+    if (position + bytes > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + bytes));
+    }
+  }
+}
@@ -0,0 +1,172 @@
+package br.com.delivery.infrastructure.serialization;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.order.Order;
+import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.domain.order.OrderItem;
+import br.com.delivery.domain.order.OrderStatus;
+import br.com.delivery.domain.payment.PaymentId;
+import br.com.delivery.domain.restaurant.MenuItemCategory;
+import br.com.delivery.domain.restaurant.MenuItemId;
+import br.com.delivery.domain.restaurant.RestaurantId;
+import br.com.delivery.domain.shared.Address;
+import br.com.delivery.domain.shared.Currency;
+import br.com.delivery.domain.shared.Money;
+
+public final class OrderBinaryCodec {
+  public static final byte FORMAT_VERSION = 2;
+
+  private static final byte UNVERSIONED_FORMAT = 1;
+
+  private static final Currency[] CURRENCIES = Currency.values();
+  private static final OrderStatus[] ORDER_STATUSES = OrderStatus.values();
+  private static final MenuItemCategory[] CATEGORIES = MenuItemCategory.values();
+
+  private static final int PAID_AT = 1;
+  private static final int CONFIRMED_AT = 1 << 1;
+  private static final int CANCELLED_AT = 1 << 2;
+  private static final int DELIVERED_AT = 1 << 3;
+
+  private OrderBinaryCodec() {
+  }
+
+  public static byte[] encode(Order order) {
+    return encodeAll(List.of(order));
+  }
+
+  public static Order decode(byte[] bytes) {
+    List<Order> orders = decodeAll(bytes);
+    if (orders.size() != 1) {
+      throw new IllegalStateException("Esperado um único pedido, encontrados " + orders.size() + ".");
+    }
+    return orders.get(0);
+  }
+
+  public static byte[] encodeAll(Collection<Order> orders) {
+    BinaryWriter writer = new BinaryWriter(128 + orders.size() * 256);
+    writer.writeByte(FORMAT_VERSION);
+    writer.writeVarInt(orders.size());
+    for (Order order : orders) {
+      writeOrder(writer, order);
+    }
+    return writer.toByteArray();
+  }
+
+  public static List<Order> decodeAll(byte[] bytes) {
+    BinaryReader reader = new BinaryReader(bytes);
+    int version = reader.readByte();
+    if (version != FORMAT_VERSION && version != UNVERSIONED_FORMAT) {
+      throw new IllegalStateException("Versão de formato não suportada: " + version);
+    }
+
+    int count = reader.readVarInt();
+    List<Order> orders = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      orders.add(readOrder(reader, version));
+    }
+    return orders;
+  }
+
+  public static void writeOrder(BinaryWriter writer, Order order) {
+    writer.writeUuid(order.getId().value());
+    writer.writeUuid(order.getRestaurantId().value());
+    writer.writeUuid(order.getAccountId().value());
+    writer.writeEnum(order.getCurrency());
+    writer.writeDateTime(order.getCreatedAt());
+    writer.writeEnum(order.getStatus());
+
+    Collection<OrderItem> items = order.itemsView();
+    writer.writeVarInt(items.size());
+    for (OrderItem item : items) {
+      writeItem(writer, item);
+    }
+
+    List<PaymentId> payments = order.getPayments();
+    writer.writeVarInt(payments.size());
+    for (PaymentId paymentId : payments) {
+      writer.writeUuid(paymentId.value());
+    }
+
+    writer.writeAddress(order.getDeliveryAddress());
+    writer.writeMoney(order.getDeliveryFee());
+
+    Optional<LocalDateTime> paidAt = order.getPaidAt();
+    Optional<LocalDateTime> confirmedAt = order.getConfirmedAt();
+    Optional<LocalDateTime> cancelledAt = order.getCancelledAt();
+    Optional<LocalDateTime> deliveredAt = order.getDeliveredAt();
+    writer.writeByte((paidAt.isPresent() ? PAID_AT : 0)
+        | (confirmedAt.isPresent() ? CONFIRMED_AT : 0)
+        | (cancelledAt.isPresent() ? CANCELLED_AT : 0)
+        | (deliveredAt.isPresent() ? DELIVERED_AT : 0));
+    paidAt.ifPresent(writer::writeDateTime);
+    confirmedAt.ifPresent(writer::writeDateTime);
+    cancelledAt.ifPresent(writer::writeDateTime);
+    deliveredAt.ifPresent(writer::writeDateTime);
+    writer.writeVarLong(order.getVersion());
+  }
+
+  public static Order readOrder(BinaryReader reader) {
+    return readOrder(reader, FORMAT_VERSION);
+  }
+
+  private static Order readOrder(BinaryReader reader, int formatVersion) {
+    OrderId id = new OrderId(reader.readUuid());
+    RestaurantId restaurantId = new RestaurantId(reader.readUuid());
+    AccountId accountId = new AccountId(reader.readUuid());
+    Currency currency = reader.readEnum(CURRENCIES);
+    LocalDateTime createdAt = reader.readDateTime();
+    OrderStatus status = reader.readEnum(ORDER_STATUSES);
+
+    int itemCount = reader.readVarInt();
+    List<OrderItem> items = new ArrayList<>(itemCount);
+    for (int i = 0; i < itemCount; i++) {
+      items.add(readItem(reader));
+    }
+
+    int paymentCount = reader.readVarInt();
+    List<PaymentId> payments = new ArrayList<>(paymentCount);
+    for (int i = 0; i < paymentCount; i++) {
+      payments.add(new PaymentId(reader.readUuid()));
+    }
+
+    Address address = reader.readAddress();
+    Money deliveryFee = reader.readMoney();
+
+    int timestamps = reader.readByte();
+    LocalDateTime paidAt = (timestamps & PAID_AT) != 0 ? reader.readDateTime() : null;
+    LocalDateTime confirmedAt = (timestamps & CONFIRMED_AT) != 0 ? reader.readDateTime() : null;
+    LocalDateTime cancelledAt = (timestamps & CANCELLED_AT) != 0 ? reader.readDateTime() : null;
+    LocalDateTime deliveredAt = (timestamps & DELIVERED_AT) != 0 ? reader.readDateTime() : null;
+    long version = formatVersion == UNVERSIONED_FORMAT ? 0 : reader.readVarLong();
+
+    return Order.restore(id, restaurantId, accountId, currency, createdAt, status, items, payments, address,
+        deliveryFee, paidAt, confirmedAt, cancelledAt, deliveredAt, version);
+  }
+
+  public static void writeItem(BinaryWriter writer, OrderItem item) {
+    writer.writeUuid(item.getMenuItemId().value());
+    writer.writeString(item.getMenuItemName());
+    writer.writeString(item.getMenuItemDescription());
+    writer.writeEnum(item.getMenuItemCategory());
+    writer.writeMoney(item.getUnitPrice());
+    writer.writeVarInt(item.getQuantity());
+    writer.writeVarLong(item.getMenuVersion());
+  }
+
+  public static OrderItem readItem(BinaryReader reader) {
+    return new OrderItem(
+        new MenuItemId(reader.readUuid()),
+        reader.readString(),
+        reader.readString(),
+        reader.readEnum(CATEGORIES),
+        reader.readMoney(),
+        reader.readVarInt(),
+        reader.readVarLong());
+  }
+}
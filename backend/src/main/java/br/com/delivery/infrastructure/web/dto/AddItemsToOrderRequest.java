@@ -0,0 +1,6 @@
+package br.com.delivery.infrastructure.web.dto;
+
+import java.util.List;
+
+public record AddItemsToOrderRequest(String accountId, String restaurantId, List<OrderItemQuantityRequest> items) {
+}
@@ -0,0 +1,7 @@
+package br.com.delivery.infrastructure.web.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record AddItemsToOrderResponse(String orderId, BigDecimal total, List<OrderItemResponse> items) {
+}
@@ -0,0 +1,4 @@
+package br.com.delivery.infrastructure.web.dto;
+
+public record OrderItemQuantityRequest(String menuItemId, int quantity) {
+}
@@ -0,0 +1,4 @@
+package br.com.delivery.infrastructure.web.dto;
+
+public record PayOrderRequest(String paymentMethod) {
+}
@@ -0,0 +1,4 @@
+package br.com.delivery.infrastructure.web.dto;
+
+public record PayOrderResponse(String orderId, String paymentId, String status) {
+}
@@ -9,9 +9,12 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import br.com.delivery.application.exceptions.AccountNotFoundException;
 import br.com.delivery.application.exceptions.ClientNotFoundException;
+import br.com.delivery.application.exceptions.IdempotencyKeyReuseException;
 import br.com.delivery.application.exceptions.MenuItemNotFoundException;
 import br.com.delivery.application.exceptions.OrderNotFoundException;
+import br.com.delivery.application.exceptions.PaymentQueueFullException;
 import br.com.delivery.application.exceptions.RestaurantNotFoundException;
+import br.com.delivery.domain.exception.ConcurrentOrderUpdateException;
 import br.com.delivery.domain.exception.CurrencyMismatchException;
 import br.com.delivery.domain.exception.InactiveAccountException;
 import br.com.delivery.domain.exception.InactiveItemException;
@@ -27,6 +30,7 @@ import br.com.delivery.domain.exception.InvalidOrderItemQuantityException;
 import br.com.delivery.domain.exception.InvalidPaymentException;
 import br.com.delivery.domain.exception.InvalidRestaurantException;
 import br.com.delivery.domain.exception.InvalidRestaurantOwnerException;
+import br.com.delivery.infrastructure.execution.CommandRejectedException;
 import jakarta.servlet.http.HttpServletRequest;
 
 @RestControllerAdvice
@@ -65,6 +69,24 @@ public class GlobalExceptionHandler {
     return buildErrorResponse(HttpStatus.BAD_REQUEST, ex, request);
   }
 
+  @ExceptionHandler(ConcurrentOrderUpdateException.class)
+  public ResponseEntity<ApiErrorResponse> handleConflict(RuntimeException ex, HttpServletRequest request) {
+    return buildErrorResponse(HttpStatus.CONFLICT, ex, request);
+  }
+
+  @ExceptionHandler(IdempotencyKeyReuseException.class)
+  public ResponseEntity<ApiErrorResponse> handleUnprocessable(RuntimeException ex, HttpServletRequest request) {
+    return buildErrorResponse(HttpStatus.UNPROCESSABLE_ENTITY, ex, request);
+  }
+
+  @ExceptionHandler({
+      CommandRejectedException.class,
+      PaymentQueueFullException.class
+  })
+  public ResponseEntity<ApiErrorResponse> handleRejected(RuntimeException ex, HttpServletRequest request) {
+    return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ex, request);
+  }
+
   @ExceptionHandler(Exception.class)
   public ResponseEntity<ApiErrorResponse> handleUnexpected(Exception ex, HttpServletRequest request) {
     return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, ex, request);
@@ -0,0 +1,28 @@
+package br.com.delivery.infrastructure.web.management;
+
+import java.util.Objects;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import br.com.delivery.infrastructure.execution.OrderCommandExecutor;
+import br.com.delivery.infrastructure.execution.OrderExecutorMetrics;
+
+@Component
+@Endpoint(id = "orderexecutor")
+public class OrderExecutorEndpoint {
+  private static final int DEFAULT_LIMIT = 10;
+
+  private final OrderCommandExecutor commandExecutor;
+
+  public OrderExecutorEndpoint(OrderCommandExecutor commandExecutor) {
+    this.commandExecutor = Objects.requireNonNull(commandExecutor);
+  }
+
+  @ReadOperation
+  public OrderExecutorMetrics metrics(@Nullable Integer limit) {
+    return commandExecutor.metrics(limit == null ? DEFAULT_LIMIT : limit);
+  }
+}
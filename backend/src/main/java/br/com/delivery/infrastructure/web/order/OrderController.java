@@ -3,6 +3,7 @@ package br.com.delivery.infrastructure.web.order;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -10,68 +11,138 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import br.com.delivery.application.IdempotencyStore;
 import br.com.delivery.application.dto.order.AddItemToOrderInput;
 import br.com.delivery.application.dto.order.AddItemToOrderOutput;
+import br.com.delivery.application.dto.order.AddItemsToOrderInput;
+import br.com.delivery.application.dto.order.AddItemsToOrderOutput;
 import br.com.delivery.application.dto.order.DecreaseItemQuantityFromOrderInput;
 import br.com.delivery.application.dto.order.DecreaseItemQuantityFromOrderOutput;
 import br.com.delivery.application.dto.order.OrderItemOutput;
+import br.com.delivery.application.dto.order.OrderItemQuantityInput;
 import br.com.delivery.application.dto.order.RemoveItemFromOrderInput;
 import br.com.delivery.application.dto.order.RemoveItemFromOrderOutput;
 import br.com.delivery.application.dto.order.CancelOrderInput;
+import br.com.delivery.application.dto.payment.PayOrderInput;
+import br.com.delivery.application.dto.payment.PayOrderOutput;
 import br.com.delivery.application.usecases.order.AddItemToOrderUseCase;
+import br.com.delivery.application.usecases.order.AddItemsToOrderUseCase;
 import br.com.delivery.application.usecases.order.DecreaseItemQuantityFromOrderUseCase;
 import br.com.delivery.application.usecases.order.RemoveItemFromOrderUseCase;
 import br.com.delivery.application.usecases.order.CancelOrderUseCase;
+import br.com.delivery.application.usecases.payment.PayOrderUseCase;
 import br.com.delivery.domain.account.AccountId;
 import br.com.delivery.domain.order.OrderId;
 import br.com.delivery.domain.restaurant.MenuItemId;
 import br.com.delivery.domain.restaurant.RestaurantId;
+import br.com.delivery.infrastructure.execution.OrderCommandExecutor;
 import br.com.delivery.infrastructure.web.dto.AddItemToOrderRequest;
 import br.com.delivery.infrastructure.web.dto.AddItemToOrderResponse;
+import br.com.delivery.infrastructure.web.dto.AddItemsToOrderRequest;
+import br.com.delivery.infrastructure.web.dto.AddItemsToOrderResponse;
+import br.com.delivery.infrastructure.web.dto.OrderItemQuantityRequest;
 import br.com.delivery.infrastructure.web.dto.OrderItemResponse;
+import br.com.delivery.infrastructure.web.dto.PayOrderRequest;
+import br.com.delivery.infrastructure.web.dto.PayOrderResponse;
 import br.com.delivery.infrastructure.web.dto.RemoveItemFromOrderResponse;
 import br.com.delivery.infrastructure.web.dto.DecreaseItemQuantityFromOrderResponse;
 
 @RestController
 @RequestMapping("/orders")
 public class OrderController {
+  private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
   private final AddItemToOrderUseCase addItemToOrderUseCase;
+  private final AddItemsToOrderUseCase addItemsToOrderUseCase;
   private final RemoveItemFromOrderUseCase removeItemFromOrderUseCase;
   private final DecreaseItemQuantityFromOrderUseCase decreaseItemQuantityFromOrderUseCase;
   private final CancelOrderUseCase cancelOrderUseCase;
+  private final PayOrderUseCase payOrderUseCase;
+  private final OrderCommandExecutor commandExecutor;
+  private final IdempotencyStore idempotencyStore;
 
   public OrderController(
       AddItemToOrderUseCase addItemToOrderUseCase,
+      AddItemsToOrderUseCase addItemsToOrderUseCase,
       RemoveItemFromOrderUseCase removeItemFromOrderUseCase,
       DecreaseItemQuantityFromOrderUseCase decreaseItemQuantityFromOrderUseCase,
-      CancelOrderUseCase cancelOrderUseCase
+      CancelOrderUseCase cancelOrderUseCase,
+      PayOrderUseCase payOrderUseCase,
+      OrderCommandExecutor commandExecutor,
+      IdempotencyStore idempotencyStore
   ) {
     this.addItemToOrderUseCase = Objects.requireNonNull(addItemToOrderUseCase);
+    this.addItemsToOrderUseCase = Objects.requireNonNull(addItemsToOrderUseCase);
     this.removeItemFromOrderUseCase = Objects.requireNonNull(removeItemFromOrderUseCase);
     this.decreaseItemQuantityFromOrderUseCase = Objects.requireNonNull(decreaseItemQuantityFromOrderUseCase);
     this.cancelOrderUseCase = Objects.requireNonNull(cancelOrderUseCase);
+    this.payOrderUseCase = Objects.requireNonNull(payOrderUseCase);
+    this.commandExecutor = Objects.requireNonNull(commandExecutor);
+    this.idempotencyStore = Objects.requireNonNull(idempotencyStore);
   }
 
   @PostMapping("/items")
   @ResponseStatus(HttpStatus.CREATED)
   public AddItemToOrderResponse addItem(
+      @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
       @RequestBody AddItemToOrderRequest request
   ) {
+    return idempotent("POST /orders/items " + request.accountId(), idempotencyKey, request, () -> addItem(request));
+  }
+
+  private AddItemToOrderResponse addItem(AddItemToOrderRequest request) {
     AddItemToOrderInput input = new AddItemToOrderInput(
         new AccountId(UUID.fromString(request.accountId())),
         new RestaurantId(UUID.fromString(request.restaurantId())),
         new MenuItemId(UUID.fromString(request.menuItemId())),
         request.quantity()
     );
-    AddItemToOrderOutput output = addItemToOrderUseCase.execute(input);
+    AddItemToOrderOutput output = commandExecutor.execute(input.accountId(), input.restaurantId(),
+        () -> addItemToOrderUseCase.execute(input), AddItemToOrderOutput::orderId);
     return new AddItemToOrderResponse(output.orderId().value().toString());
   }
 
+  @PostMapping("/items:batch")
+  @ResponseStatus(HttpStatus.CREATED)
+  public AddItemsToOrderResponse addItems(
+      @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+      @RequestBody AddItemsToOrderRequest request
+  ) {
+    return idempotent("POST /orders/items:batch " + request.accountId(), idempotencyKey, request,
+        () -> addItems(request));
+  }
+
+  private AddItemsToOrderResponse addItems(AddItemsToOrderRequest request) {
+    List<OrderItemQuantityRequest> requestedItems = request.items() == null ? List.of() : request.items();
+    List<OrderItemQuantityInput> items = requestedItems.stream()
+        .map(item -> new OrderItemQuantityInput(
+            new MenuItemId(UUID.fromString(item.menuItemId())),
+            item.quantity()
+        ))
+        .toList();
+
+    AddItemsToOrderInput input = new AddItemsToOrderInput(
+        new AccountId(UUID.fromString(request.accountId())),
+        new RestaurantId(UUID.fromString(request.restaurantId())),
+        items
+    );
+
+    AddItemsToOrderOutput output = commandExecutor.execute(input.accountId(), input.restaurantId(),
+        () -> addItemsToOrderUseCase.execute(input), AddItemsToOrderOutput::orderId);
+
+    return new AddItemsToOrderResponse(
+        output.orderId().value().toString(),
+        output.newTotal().amount(),
+        mapOrderItems(output.items())
+    );
+  }
+
   @DeleteMapping("/{orderId}/items/{menuItemId}")
   public RemoveItemFromOrderResponse removeItem(
       @PathVariable String orderId,
@@ -82,7 +153,8 @@ public class OrderController {
         new MenuItemId(UUID.fromString(menuItemId))
     );
 
-    RemoveItemFromOrderOutput output = removeItemFromOrderUseCase.execute(input);
+    RemoveItemFromOrderOutput output = commandExecutor.execute(input.orderId(),
+        () -> removeItemFromOrderUseCase.execute(input));
 
     return new RemoveItemFromOrderResponse(
         output.orderId().value().toString(),
@@ -93,17 +165,24 @@ public class OrderController {
 
   @PatchMapping("/{orderId}/items/{menuItemId}/decrease")
   public DecreaseItemQuantityFromOrderResponse decreaseItemQuantity(
+      @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
       @PathVariable String orderId,
       @PathVariable String menuItemId,
       @RequestParam int quantity
   ) {
+    return idempotent("PATCH /orders/" + orderId + "/items/" + menuItemId + "/decrease", idempotencyKey,
+        "quantity=" + quantity, () -> decreaseItemQuantity(orderId, menuItemId, quantity));
+  }
+
+  private DecreaseItemQuantityFromOrderResponse decreaseItemQuantity(String orderId, String menuItemId, int quantity) {
     DecreaseItemQuantityFromOrderInput input = new DecreaseItemQuantityFromOrderInput(
         new OrderId(UUID.fromString(orderId)),
         new MenuItemId(UUID.fromString(menuItemId)),
         quantity
     );
 
-    DecreaseItemQuantityFromOrderOutput output = decreaseItemQuantityFromOrderUseCase.execute(input);
+    DecreaseItemQuantityFromOrderOutput output = commandExecutor.execute(input.orderId(),
+        () -> decreaseItemQuantityFromOrderUseCase.execute(input));
 
     return new DecreaseItemQuantityFromOrderResponse(
         output.orderId().value().toString(),
@@ -118,7 +197,31 @@ public class OrderController {
     @PathVariable String orderId
   ) {
     CancelOrderInput input = new CancelOrderInput(new OrderId(UUID.fromString(orderId)));
-    cancelOrderUseCase.execute(input);
+    commandExecutor.execute(input.orderId(), () -> cancelOrderUseCase.execute(input));
+  }
+
+  @PostMapping("/{orderId}/payments")
+  @ResponseStatus(HttpStatus.ACCEPTED)
+  public PayOrderResponse pay(
+      @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+      @PathVariable String orderId,
+      @RequestBody PayOrderRequest request
+  ) {
+    String key = idempotencyKey == null || idempotencyKey.isBlank() ? null : idempotencyKey;
+    PayOrderInput input = new PayOrderInput(new OrderId(UUID.fromString(orderId)), request.paymentMethod(), key);
+    PayOrderOutput output = payOrderUseCase.execute(input);
+    return new PayOrderResponse(
+        output.orderId().value().toString(),
+        output.paymentId().value().toString(),
+        output.status().name()
+    );
+  }
+
+  private <T> T idempotent(String scope, String idempotencyKey, Object request, Supplier<T> handler) {
+    if (idempotencyKey == null || idempotencyKey.isBlank()) {
+      return handler.get();
+    }
+    return idempotencyStore.execute(scope + " " + idempotencyKey, request, handler);
   }
 
   private List<OrderItemResponse> mapOrderItems(List<OrderItemOutput> items) {
@@ -0,0 +1,75 @@
+package br.com.delivery.application;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.delivery.application.exceptions.IdempotencyKeyReuseException;
+
+class IdempotencyStoreTest {
+  private final AtomicLong clock = new AtomicLong();
+
+  @Test
+  void shouldReturnCachedResultForReplayedKey() {
+    IdempotencyStore store = new IdempotencyStore(10, Duration.ofSeconds(10), clock::get);
+    AtomicInteger calls = new AtomicInteger();
+
+    int first = store.execute("chave", calls::incrementAndGet);
+    int replay = store.execute("chave", calls::incrementAndGet);
+
+    assertEquals(1, first);
+    assertEquals(1, replay);
+    assertEquals(2, (int) store.execute("outra", calls::incrementAndGet));
+  }
+
+  @Test
+  void shouldRejectKeyReusedWithDifferentRequest() {
+    IdempotencyStore store = new IdempotencyStore(10, Duration.ofSeconds(10), clock::get);
+    AtomicInteger calls = new AtomicInteger();
+    store.execute("chave", "quantidade=1", calls::incrementAndGet);
+
+    assertEquals(1, (int) store.execute("chave", "quantidade=1", calls::incrementAndGet));
+    assertThrows(IdempotencyKeyReuseException.class,
+        () -> store.execute("chave", "quantidade=2", calls::incrementAndGet));
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void shouldRunOperationAgainAfterExpiration() {
+    IdempotencyStore store = new IdempotencyStore(10, Duration.ofSeconds(10), clock::get);
+    AtomicInteger calls = new AtomicInteger();
+    store.execute("chave", calls::incrementAndGet);
+
+    clock.addAndGet(Duration.ofSeconds(11).toNanos());
+
+    assertEquals(2, (int) store.execute("chave", calls::incrementAndGet));
+    assertEquals(1, store.size());
+  }
+
+  @Test
+  void shouldNotCacheFailures() {
+    IdempotencyStore store = new IdempotencyStore(10, Duration.ofSeconds(10), clock::get);
+
+    assertThrows(IllegalStateException.class, () -> store.execute("chave", () -> {
+      throw new IllegalStateException("falha");
+    }));
+
+    assertEquals("ok", store.execute("chave", () -> "ok"));
+  }
+
+  @Test
+  void shouldEvictOldestEntriesWhenFull() {
+    IdempotencyStore store = new IdempotencyStore(2, Duration.ofSeconds(10), clock::get);
+    AtomicInteger calls = new AtomicInteger();
+    store.execute("a", calls::incrementAndGet);
+    store.execute("b", calls::incrementAndGet);
+    store.execute("c", calls::incrementAndGet);
+
+    assertEquals(2, store.size());
+    assertEquals(4, (int) store.execute("a", calls::incrementAndGet));
+  }
+}
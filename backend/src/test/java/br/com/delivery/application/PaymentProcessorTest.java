@@ -0,0 +1,353 @@
+package br.com.delivery.application;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.delivery.application.exceptions.IdempotencyKeyReuseException;
+import br.com.delivery.application.exceptions.PaymentQueueFullException;
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.order.Order;
+import br.com.delivery.domain.order.OrderStatus;
+import br.com.delivery.domain.payment.FakeApprovedPaymentMethod;
+import br.com.delivery.domain.payment.FakeLatencyPaymentMethod;
+import br.com.delivery.domain.payment.FakePendingPaymentMethod;
+import br.com.delivery.domain.payment.FakeRejectedPaymentMethod;
+import br.com.delivery.domain.payment.IPaymentMethod;
+import br.com.delivery.domain.payment.Payment;
+import br.com.delivery.domain.payment.PaymentProcessingResult;
+import br.com.delivery.domain.payment.PaymentStatus;
+import br.com.delivery.domain.restaurant.MenuItemCategory;
+import br.com.delivery.domain.restaurant.MenuItemId;
+import br.com.delivery.domain.restaurant.RestaurantId;
+import br.com.delivery.domain.shared.Address;
+import br.com.delivery.domain.shared.Currency;
+import br.com.delivery.domain.shared.Money;
+import br.com.delivery.domain.shared.ZipCode;
+import br.com.delivery.infrastructure.persistence.memory.InMemoryOrderRepository;
+import br.com.delivery.infrastructure.persistence.memory.InMemoryPaymentRepository;
+import br.com.delivery.infrastructure.scheduling.HashedTimingWheel;
+
+class PaymentProcessorTest {
+  private final InMemoryOrderRepository orderRepository = new InMemoryOrderRepository();
+  private final InMemoryPaymentRepository paymentRepository = new InMemoryPaymentRepository();
+
+  @Test
+  void shouldMarkOrderAsPaidWhenPaymentIsApproved() {
+    Order order = payableOrder();
+
+    try (PaymentProcessor processor = new PaymentProcessor(orderRepository, paymentRepository, 2, 8,
+        Duration.ofSeconds(5))) {
+      Payment payment = processor.submit(payment(order, new FakeApprovedPaymentMethod())).join();
+
+      Order saved = orderRepository.findById(order.getId()).orElseThrow();
+      assertEquals(PaymentStatus.APPROVED, payment.getStatus());
+      assertEquals(OrderStatus.PAID, saved.getStatus());
+      assertEquals(List.of(payment.getId()), saved.getPayments());
+    }
+  }
+
+  @Test
+  void shouldOnlyRegisterPaymentWhenDeclined() {
+    Order order = payableOrder();
+
+    try (PaymentProcessor processor = new PaymentProcessor(orderRepository, paymentRepository, 2, 8,
+        Duration.ofSeconds(5))) {
+      Payment payment = processor.submit(payment(order, new FakeRejectedPaymentMethod())).join();
+
+      Order saved = orderRepository.findById(order.getId()).orElseThrow();
+      assertEquals(PaymentStatus.DECLINED, payment.getStatus());
+      assertEquals(OrderStatus.DRAFT, saved.getStatus());
+      assertEquals(List.of(payment.getId()), saved.getPayments());
+    }
+  }
+
+  @Test
+  void shouldSavePendingPaymentBeforeHandingCopyToWorker() {
+    Order order = payableOrder();
+    IPaymentMethod gateway = payment -> {
+      assertEquals(PaymentStatus.PENDING, paymentRepository.findById(payment.getId()).orElseThrow().getStatus());
+      return PaymentProcessingResult.APPROVED;
+    };
+    Payment submitted = payment(order, gateway);
+
+    try (PaymentProcessor processor = new PaymentProcessor(orderRepository, paymentRepository, 1, 8,
+        Duration.ofSeconds(5))) {
+      Payment settled = processor.submit(submitted).join();
+
+      assertNotSame(submitted, settled);
+      assertEquals(PaymentStatus.PENDING, submitted.getStatus());
+      assertEquals(PaymentStatus.APPROVED, settled.getStatus());
+      assertEquals(PaymentStatus.APPROVED, paymentRepository.findById(submitted.getId()).orElseThrow().getStatus());
+    }
+  }
+
+  @Test
+  void shouldLeavePaymentPendingWhenGatewayTimesOut() {
+    Order order = payableOrder();
+    FakeLatencyPaymentMethod slowGateway = new FakeLatencyPaymentMethod(Duration.ofSeconds(2),
+        PaymentProcessingResult.APPROVED);
+
+    try (PaymentProcessor processor = new PaymentProcessor(orderRepository, paymentRepository, 1, 8,
+        Duration.ofMillis(50))) {
+      Payment payment = processor.submit(payment(order, slowGateway)).join();
+
+      assertEquals(PaymentStatus.PENDING, payment.getStatus());
+      assertEquals(OrderStatus.DRAFT, orderRepository.findById(order.getId()).orElseThrow().getStatus());
+      assertEquals(List.of(payment.getId()), paymentRepository.findAllByStatus(PaymentStatus.PENDING).stream()
+          .map(Payment::getId)
+          .toList());
+    }
+  }
+
+  @Test
+  void shouldReleaseWorkerWhenGatewayCallTimesOut() {
+    FakeLatencyPaymentMethod slowGateway = new FakeLatencyPaymentMethod(Duration.ofSeconds(5),
+        PaymentProcessingResult.APPROVED);
+    List<CompletableFuture<Payment>> results = new ArrayList<>();
+    long started = System.nanoTime();
+
+    try (PaymentProcessor processor = new PaymentProcessor(orderRepository, paymentRepository, 1, 8,
+        Duration.ofMillis(50))) {
+      for (int i = 0; i < 3; i++) {
+        results.add(processor.submit(payment(payableOrder(), slowGateway)));
+      }
+      results.forEach(result -> assertEquals(PaymentStatus.PENDING, result.join().getStatus()));
+    }
+
+    assertEquals(3, slowGateway.calls());
+    assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(Duration.ofSeconds(2)) < 0);
+  }
+
+  @Test
+  void shouldReconcileResultThatArrivesAfterTimeout() throws InterruptedException {
+    Order order = payableOrder();
+    IPaymentMethod lateGateway = payment -> {
+      long deadline = System.nanoTime() + Duration.ofMillis(200).toNanos();
+      while (System.nanoTime() < deadline) {
+        Thread.onSpinWait();
+      }
+      return PaymentProcessingResult.APPROVED;
+    };
+
+    try (PaymentProcessor processor = new PaymentProcessor(orderRepository, paymentRepository, 1, 8,
+        Duration.ofMillis(20))) {
+      Payment payment = processor.submit(payment(order, lateGateway)).join();
+      assertEquals(PaymentStatus.PENDING, payment.getStatus());
+
+      long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+      while (orderRepository.findById(order.getId()).orElseThrow().getStatus() != OrderStatus.PAID
+          && System.nanoTime() < deadline) {
+        Thread.sleep(5);
+      }
+
+      assertEquals(OrderStatus.PAID, orderRepository.findById(order.getId()).orElseThrow().getStatus());
+      assertEquals(PaymentStatus.APPROVED, paymentRepository.findById(payment.getId()).orElseThrow().getStatus());
+    }
+  }
+
+  @Test
+  void shouldPollPendingPaymentUntilGatewayResolvesIt() throws InterruptedException {
+    Order order = payableOrder();
+    FakePendingPaymentMethod gateway = new FakePendingPaymentMethod(2, PaymentProcessingResult.APPROVED);
+    PaymentRetryPolicy policy = new PaymentRetryPolicy(Duration.ofMillis(10), Duration.ofMillis(40), 5);
+
+    try (HashedTimingWheel wheel = new HashedTimingWheel(Duration.ofMillis(5), 16);
+        PaymentProcessor processor = new PaymentProcessor(orderRepository, paymentRepository, 1, 8,
+            Duration.ofSeconds(5), wheel, policy, null)) {
+      Payment payment = processor.submit(payment(order, gateway)).join();
+      assertEquals(PaymentStatus.PENDING, payment.getStatus());
+
+      long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+      while (orderRepository.findById(order.getId()).orElseThrow().getStatus() != OrderStatus.PAID
+          && System.nanoTime() < deadline) {
+        Thread.sleep(5);
+      }
+
+      assertEquals(OrderStatus.PAID, orderRepository.findById(order.getId()).orElseThrow().getStatus());
+      assertEquals(PaymentStatus.APPROVED, paymentRepository.findById(payment.getId()).orElseThrow().getStatus());
+      assertEquals(0, paymentRepository.countByStatus(PaymentStatus.PENDING));
+      assertEquals(1, gateway.authorizations());
+      assertEquals(3, gateway.queries());
+      assertEquals(0, processor.scheduledPolls());
+    }
+  }
+
+  @Test
+  void shouldStopPollingAfterMaxAttemptsWithoutReauthorizing() throws InterruptedException {
+    Order order = payableOrder();
+    AtomicInteger authorizations = new AtomicInteger();
+    AtomicInteger queries = new AtomicInteger();
+    IPaymentMethod gateway = new IPaymentMethod() {
+      public PaymentProcessingResult process(Payment payment) {
+        authorizations.incrementAndGet();
+        throw new IllegalStateException("Conexão com o gateway interrompida.");
+      }
+
+      @Override
+      public PaymentProcessingResult queryStatus(Payment payment) {
+        queries.incrementAndGet();
+        throw new IllegalStateException("Conexão com o gateway interrompida.");
+      }
+    };
+    PaymentRetryPolicy policy = new PaymentRetryPolicy(Duration.ofMillis(5), Duration.ofMillis(10), 3);
+
+    try (HashedTimingWheel wheel = new HashedTimingWheel(Duration.ofMillis(5), 16);
+        PaymentProcessor processor = new PaymentProcessor(orderRepository, paymentRepository, 1, 8,
+            Duration.ofSeconds(5), wheel, policy, null)) {
+      assertEquals(PaymentStatus.PENDING, processor.submit(payment(order, gateway)).join().getStatus());
+
+      long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+      while (queries.get() < 3 && System.nanoTime() < deadline) {
+        Thread.sleep(5);
+      }
+      Thread.sleep(100);
+
+      assertEquals(1, authorizations.get());
+      assertEquals(3, queries.get());
+      assertEquals(0, processor.scheduledPolls());
+      assertEquals(OrderStatus.DRAFT, orderRepository.findById(order.getId()).orElseThrow().getStatus());
+    }
+  }
+
+  @Test
+  void shouldReauthorizeOnlyWhenGatewayWasNotReached() throws InterruptedException {
+    Order order = payableOrder();
+    AtomicInteger authorizations = new AtomicInteger();
+    IPaymentMethod gateway = payment -> authorizations.incrementAndGet() == 1
+        ? PaymentProcessingResult.UNAVAILABLE
+        : PaymentProcessingResult.APPROVED;
+    PaymentRetryPolicy policy = new PaymentRetryPolicy(Duration.ofMillis(10), Duration.ofMillis(40), 5);
+
+    try (HashedTimingWheel wheel = new HashedTimingWheel(Duration.ofMillis(5), 16);
+        PaymentProcessor processor = new PaymentProcessor(orderRepository, paymentRepository, 1, 8,
+            Duration.ofSeconds(5), wheel, policy, null)) {
+      assertEquals(PaymentStatus.PENDING, processor.submit(payment(order, gateway)).join().getStatus());
+
+      long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+      while (orderRepository.findById(order.getId()).orElseThrow().getStatus() != OrderStatus.PAID
+          && System.nanoTime() < deadline) {
+        Thread.sleep(5);
+      }
+
+      assertEquals(OrderStatus.PAID, orderRepository.findById(order.getId()).orElseThrow().getStatus());
+      assertEquals(2, authorizations.get());
+    }
+  }
+
+  @Test
+  void shouldReturnSameResultForRepeatedIdempotencyKey() {
+    Order order = payableOrder();
+    FakeLatencyPaymentMethod gateway = new FakeLatencyPaymentMethod(Duration.ofMillis(20),
+        PaymentProcessingResult.APPROVED);
+    IdempotencyStore idempotencyStore = new IdempotencyStore(16, Duration.ofMinutes(1));
+
+    try (PaymentProcessor processor = new PaymentProcessor(orderRepository, paymentRepository, 2, 8,
+        Duration.ofSeconds(5), null, null, idempotencyStore)) {
+      CompletableFuture<Payment> first = processor.submit(payment(order, gateway), "pagamento-1");
+      CompletableFuture<Payment> retry = processor.submit(payment(order, gateway), "pagamento-1");
+
+      assertSame(first.join(), retry.join());
+      assertNotSame(first.join(), processor.submit(payment(payableOrder(), gateway), "pagamento-1").join());
+      assertEquals(2, gateway.calls());
+      assertEquals(1, paymentRepository.findAllByOrderId(order.getId()).size());
+      assertThrows(IdempotencyKeyReuseException.class, () -> processor.submit(
+          Payment.create(order.getId(), gateway, Money.of(1.0, Currency.BRL)), "pagamento-1"));
+      assertEquals(OrderStatus.PAID, orderRepository.findById(order.getId()).orElseThrow().getStatus());
+    }
+  }
+
+  @Test
+  void shouldRetryOrderSettlementUntilOrderAcceptsPayment() throws InterruptedException {
+    Order order = payableOrder();
+    MenuItemId item = order.getItems().get(0).getMenuItemId();
+    IPaymentMethod gateway = payment -> {
+      Order changed = orderRepository.findById(order.getId()).orElseThrow();
+      changed.removeItem(item);
+      orderRepository.save(changed, changed.getVersion());
+      return PaymentProcessingResult.APPROVED;
+    };
+    PaymentRetryPolicy policy = new PaymentRetryPolicy(Duration.ofMillis(10), Duration.ofMillis(40), 50);
+
+    try (HashedTimingWheel wheel = new HashedTimingWheel(Duration.ofMillis(5), 16);
+        PaymentProcessor processor = new PaymentProcessor(orderRepository, paymentRepository, 1, 8,
+            Duration.ofSeconds(5), wheel, policy, null)) {
+      Payment payment = processor.submit(payment(order, gateway)).join();
+      assertEquals(PaymentStatus.APPROVED, payment.getStatus());
+      assertEquals(OrderStatus.DRAFT, orderRepository.findById(order.getId()).orElseThrow().getStatus());
+
+      Order current = orderRepository.findById(order.getId()).orElseThrow();
+      current.addItem(item, "product", "description", MenuItemCategory.DESSERT, Money.of(30.0, Currency.BRL), 1);
+      orderRepository.save(current, current.getVersion());
+
+      long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+      while (orderRepository.findById(order.getId()).orElseThrow().getStatus() != OrderStatus.PAID
+          && System.nanoTime() < deadline) {
+        Thread.sleep(5);
+      }
+
+      Order saved = orderRepository.findById(order.getId()).orElseThrow();
+      assertEquals(OrderStatus.PAID, saved.getStatus());
+      assertEquals(List.of(payment.getId()), saved.getPayments());
+      assertEquals(0, processor.scheduledSettlements());
+    }
+  }
+
+  @Test
+  void shouldBoundConcurrentGatewayCalls() {
+    FakeLatencyPaymentMethod gateway = new FakeLatencyPaymentMethod(Duration.ofMillis(30),
+        PaymentProcessingResult.REJECTED);
+    List<CompletableFuture<Payment>> results = new ArrayList<>();
+
+    try (PaymentProcessor processor = new PaymentProcessor(orderRepository, paymentRepository, 2, 16,
+        Duration.ofSeconds(5))) {
+      for (int i = 0; i < 8; i++) {
+        results.add(processor.submit(payment(payableOrder(), gateway)));
+      }
+      results.forEach(CompletableFuture::join);
+    }
+
+    assertEquals(8, gateway.calls());
+    assertTrue(gateway.maxInFlight() <= 2);
+  }
+
+  @Test
+  void shouldRejectPaymentsWhenQueueIsFull() throws InterruptedException {
+    FakeLatencyPaymentMethod gateway = new FakeLatencyPaymentMethod(Duration.ofMillis(500),
+        PaymentProcessingResult.APPROVED);
+
+    try (PaymentProcessor processor = new PaymentProcessor(orderRepository, paymentRepository, 1, 1,
+        Duration.ofSeconds(5))) {
+      processor.submit(payment(payableOrder(), gateway));
+      while (gateway.calls() == 0) {
+        Thread.sleep(1);
+      }
+      processor.submit(payment(payableOrder(), gateway));
+
+      assertEquals(1, processor.queuedPayments());
+      Payment rejected = payment(payableOrder(), gateway);
+      assertThrows(PaymentQueueFullException.class, () -> processor.submit(rejected));
+      assertEquals(PaymentStatus.CANCELLED, paymentRepository.findById(rejected.getId()).orElseThrow().getStatus());
+    }
+  }
+
+  private Order payableOrder() {
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    order.addItem(MenuItemId.generate(), "product", "description", MenuItemCategory.DESSERT,
+        Money.of(30.0, Currency.BRL), 1);
+    order.changeDeliveryAddress(new Address("rua", "123", "casa", "cidade", "país", new ZipCode("36703-072")),
+        Money.of(5.0, Currency.BRL));
+    orderRepository.save(order, 0);
+    return order;
+  }
+
+  private static Payment payment(Order order, IPaymentMethod method) {
+    return Payment.create(order.getId(), method, order.grandTotal());
+  }
+}
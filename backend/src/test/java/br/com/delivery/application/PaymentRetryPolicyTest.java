@@ -0,0 +1,34 @@
+package br.com.delivery.application;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class PaymentRetryPolicyTest {
+  private final PaymentRetryPolicy policy = new PaymentRetryPolicy(Duration.ofSeconds(1), Duration.ofSeconds(30), 10);
+
+  @Test
+  void shouldDoubleDelayWithJitterUpToMaximum() {
+    for (int i = 0; i < 100; i++) {
+      assertBetween(Duration.ofMillis(500), Duration.ofSeconds(1), policy.delayFor(1));
+      assertBetween(Duration.ofSeconds(4), Duration.ofSeconds(8), policy.delayFor(4));
+      assertBetween(Duration.ofSeconds(15), Duration.ofSeconds(30), policy.delayFor(10));
+    }
+  }
+
+  @Test
+  void shouldRejectInvalidIntervals() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new PaymentRetryPolicy(Duration.ofSeconds(5), Duration.ofSeconds(1), 3));
+    assertThrows(IllegalArgumentException.class,
+        () -> new PaymentRetryPolicy(Duration.ZERO, Duration.ofSeconds(1), 3));
+    assertThrows(IllegalArgumentException.class,
+        () -> new PaymentRetryPolicy(Duration.ofSeconds(1), Duration.ofSeconds(1), 0));
+  }
+
+  private static void assertBetween(Duration min, Duration max, Duration actual) {
+    assertTrue(actual.compareTo(min) >= 0 && actual.compareTo(max) <= 0, actual.toString());
+  }
+}
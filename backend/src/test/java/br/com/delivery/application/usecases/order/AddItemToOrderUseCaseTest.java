@@ -16,11 +16,11 @@ import br.com.delivery.domain.account.Account;
 import br.com.delivery.domain.account.AccountId;
 import br.com.delivery.domain.account.AccountRole;
 import br.com.delivery.domain.shared.Email;
+import br.com.delivery.domain.exception.ConcurrentOrderUpdateException;
 import br.com.delivery.domain.exception.InactiveAccountException;
 import br.com.delivery.domain.exception.InactiveItemException;
 import br.com.delivery.domain.exception.InvalidOrderItemQuantityException;
 import br.com.delivery.domain.order.Order;
-import br.com.delivery.domain.order.OrderId;
 import br.com.delivery.domain.restaurant.MenuItem;
 import br.com.delivery.domain.restaurant.MenuItemCategory;
 import br.com.delivery.domain.restaurant.MenuItemId;
@@ -68,6 +68,40 @@ class AddItemToOrderUseCaseTest {
     assertTrue(saved.getItems().get(0).getMenuItemId().equals(menuItem.getId()));
   }
 
+  @Test
+  void shouldRetryWhenOrderIsUpdatedConcurrently() {
+    Account account = makeClient();
+    accountRepo.save(account);
+
+    Restaurant restaurant = makeRestaurantWithSingleItem(Currency.BRL);
+    restaurantRepo.save(restaurant);
+    orderRepo.pendingConflicts = 2;
+
+    MenuItem menuItem = restaurant.getMenu().get(0);
+    AddItemToOrderOutput output = useCase.execute(
+        new AddItemToOrderInput(account.getId(), restaurant.getId(), menuItem.getId(), 1));
+
+    Order saved = orderRepo.findById(output.orderId()).orElseThrow();
+    assertEquals(1, saved.getItems().size());
+    assertEquals(0, orderRepo.pendingConflicts);
+  }
+
+  @Test
+  void shouldGiveUpAfterTooManyConcurrentUpdates() {
+    Account account = makeClient();
+    accountRepo.save(account);
+
+    Restaurant restaurant = makeRestaurantWithSingleItem(Currency.BRL);
+    restaurantRepo.save(restaurant);
+    orderRepo.pendingConflicts = OptimisticRetry.MAX_ATTEMPTS;
+
+    MenuItem menuItem = restaurant.getMenu().get(0);
+    AddItemToOrderInput input = new AddItemToOrderInput(account.getId(), restaurant.getId(), menuItem.getId(), 1);
+
+    assertThrows(ConcurrentOrderUpdateException.class, () -> useCase.execute(input));
+    assertTrue(orderRepo.findAllByClientId(account.getId()).isEmpty());
+  }
+
   @Test
   void shouldCreateNewOrderWhenNoDraftExists() {
     Account account = makeClient();
@@ -122,6 +156,55 @@ class AddItemToOrderUseCaseTest {
     assertThrows(MenuItemNotFoundException.class, () -> useCase.execute(input));
   }
 
+  @Test
+  void shouldRecordPublishedMenuVersionOnOrderItem() {
+    Account account = makeClient();
+    accountRepo.save(account);
+
+    Restaurant restaurant = makeRestaurantWithSingleItem(Currency.BRL);
+    restaurant.publishMenu();
+    restaurantRepo.save(restaurant);
+
+    MenuItem menuItem = restaurant.getMenu().get(0);
+    AddItemToOrderOutput output = useCase.execute(
+        new AddItemToOrderInput(account.getId(), restaurant.getId(), menuItem.getId(), 1));
+
+    Order saved = orderRepo.findById(output.orderId()).orElseThrow();
+    assertEquals(restaurant.currentMenu().version(), saved.getItems().get(0).getMenuVersion());
+  }
+
+  @Test
+  void shouldThrowWhenMenuItemIsNotPublished() {
+    Account account = makeClient();
+    accountRepo.save(account);
+
+    Restaurant restaurant = makeRestaurantWithSingleItem(Currency.BRL);
+    restaurant.addMenuItem("draft", "desc", MenuItemCategory.DESSERT, Money.of(5, Currency.BRL));
+    restaurantRepo.save(restaurant);
+
+    MenuItem draftItem = restaurant.getMenu().get(1);
+    AddItemToOrderInput input = new AddItemToOrderInput(account.getId(), restaurant.getId(), draftItem.getId(), 1);
+
+    assertThrows(MenuItemNotFoundException.class, () -> useCase.execute(input));
+  }
+
+  @Test
+  void shouldUsePublishedPriceUntilMenuIsRepublished() {
+    Account account = makeClient();
+    accountRepo.save(account);
+
+    Restaurant restaurant = makeRestaurantWithSingleItem(Currency.BRL);
+    restaurantRepo.save(restaurant);
+
+    MenuItem menuItem = restaurant.getMenu().get(0);
+    menuItem.changePrice(Money.of(99, Currency.BRL));
+    AddItemToOrderOutput output = useCase.execute(
+        new AddItemToOrderInput(account.getId(), restaurant.getId(), menuItem.getId(), 1));
+
+    Order saved = orderRepo.findById(output.orderId()).orElseThrow();
+    assertEquals(Money.of(10, Currency.BRL), saved.getItems().get(0).getUnitPrice());
+  }
+
   @Test
   void shouldThrowWhenMenuItemInactive() {
     Account account = makeClient();
@@ -130,6 +213,7 @@ class AddItemToOrderUseCaseTest {
     Restaurant restaurant = makeRestaurantWithSingleItem(Currency.BRL);
     MenuItem item = restaurant.getMenu().get(0);
     item.deactivate();
+    restaurant.publishMenu();
     restaurantRepo.save(restaurant);
 
     AddItemToOrderInput input = new AddItemToOrderInput(account.getId(), restaurant.getId(), item.getId(), 1);
@@ -168,6 +252,7 @@ class AddItemToOrderUseCaseTest {
         new Address("s", "1", "", "c", "p", new ZipCode("00000-000")));
     restaurant.changeCurrency(currency);
     restaurant.addMenuItem("item", "desc", MenuItemCategory.DESSERT, Money.of(10, currency));
+    restaurant.publishMenu();
     return restaurant;
   }
 
@@ -204,6 +289,17 @@ class AddItemToOrderUseCaseTest {
       return list;
     }
 
+    @Override
+    public List<Restaurant> findAllByIds(Collection<RestaurantId> ids) {
+      List<Restaurant> list = new ArrayList<>();
+      for (RestaurantId id : ids) {
+        if (map.containsKey(id)) {
+          list.add(map.get(id));
+        }
+      }
+      return list;
+    }
+
     @Override
     public boolean existsById(RestaurantId id) {
       return false;
@@ -214,33 +310,4 @@ class AddItemToOrderUseCaseTest {
       map.put(restaurant.getId(), restaurant);
     }
   }
-
-  private static class FakeOrderRepository implements br.com.delivery.domain.repositories.IOrderRepository {
-    private final Map<OrderId, Order> storage = new HashMap<>();
-
-    @Override
-    public Optional<Order> findById(OrderId id) {
-      return Optional.ofNullable(storage.get(id));
-    }
-
-    @Override
-    public Optional<Order> findDraftByClientAndRestaurant(AccountId accountId, RestaurantId restaurantId) {
-      return storage.values().stream()
-          .filter(o -> o.getAccountId().equals(accountId) && o.getRestaurantId().equals(restaurantId)
-              && o.getStatus() == br.com.delivery.domain.order.OrderStatus.DRAFT)
-          .findFirst();
-    }
-
-    @Override
-    public List<Order> findAllByClientId(AccountId accountId) {
-      return storage.values().stream()
-          .filter(order -> order.getAccountId().equals(accountId))
-          .toList();
-    }
-
-    @Override
-    public void save(Order order) {
-      storage.put(order.getId(), order);
-    }
-  }
 }
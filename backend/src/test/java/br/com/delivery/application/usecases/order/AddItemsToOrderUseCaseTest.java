@@ -0,0 +1,213 @@
+package br.com.delivery.application.usecases.order;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.delivery.application.dto.order.AddItemsToOrderInput;
+import br.com.delivery.application.dto.order.AddItemsToOrderOutput;
+import br.com.delivery.application.dto.order.OrderItemQuantityInput;
+import br.com.delivery.application.exceptions.MenuItemNotFoundException;
+import br.com.delivery.application.exceptions.RestaurantNotFoundException;
+import br.com.delivery.domain.account.Account;
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.account.AccountRole;
+import br.com.delivery.domain.shared.Email;
+import br.com.delivery.domain.exception.InactiveItemException;
+import br.com.delivery.domain.exception.InvalidOrderException;
+import br.com.delivery.domain.order.Order;
+import br.com.delivery.domain.restaurant.MenuItem;
+import br.com.delivery.domain.restaurant.MenuItemCategory;
+import br.com.delivery.domain.restaurant.MenuItemId;
+import br.com.delivery.domain.restaurant.Restaurant;
+import br.com.delivery.domain.restaurant.RestaurantId;
+import br.com.delivery.domain.shared.Currency;
+import br.com.delivery.domain.shared.Money;
+import br.com.delivery.domain.shared.Address;
+import br.com.delivery.domain.shared.ZipCode;
+import br.com.delivery.domain.restaurant.OpeningHours;
+
+class AddItemsToOrderUseCaseTest {
+  private FakeAccountRepository accountRepo;
+  private FakeRestaurantRepository restaurantRepo;
+  private FakeOrderRepository orderRepo;
+  private AddItemsToOrderUseCase useCase;
+
+  @BeforeEach
+  void setup() {
+    accountRepo = new FakeAccountRepository();
+    restaurantRepo = new FakeRestaurantRepository();
+    orderRepo = new FakeOrderRepository();
+    useCase = new AddItemsToOrderUseCase(accountRepo, restaurantRepo, orderRepo);
+  }
+
+  @Test
+  void shouldAddAllItemsWithASingleSave() {
+    Account account = makeClient();
+    accountRepo.save(account);
+
+    Restaurant restaurant = makeRestaurantWithTwoItems(Currency.BRL);
+    restaurantRepo.save(restaurant);
+
+    MenuItem first = restaurant.getMenu().get(0);
+    MenuItem second = restaurant.getMenu().get(1);
+    AddItemsToOrderInput input = new AddItemsToOrderInput(account.getId(), restaurant.getId(), List.of(
+        new OrderItemQuantityInput(first.getId(), 2),
+        new OrderItemQuantityInput(second.getId(), 1)));
+
+    AddItemsToOrderOutput output = useCase.execute(input);
+
+    Order saved = orderRepo.findById(output.orderId()).orElseThrow();
+    assertEquals(2, saved.getItems().size());
+    assertEquals(Money.of(25, Currency.BRL), output.newTotal());
+    assertEquals(2, output.items().size());
+    assertEquals(1, orderRepo.saves);
+  }
+
+  @Test
+  void shouldMergeItemsIntoExistingDraftOrder() {
+    Account account = makeClient();
+    accountRepo.save(account);
+
+    Restaurant restaurant = makeRestaurantWithTwoItems(Currency.BRL);
+    restaurantRepo.save(restaurant);
+
+    MenuItem first = restaurant.getMenu().get(0);
+    Order existing = Order.create(restaurant.getId(), account.getId(), restaurant.getCurrency());
+    existing.addItem(first.getId(), first.getName(), first.getDescription(), first.getCategory(),
+        first.currentPrice(), 1);
+    orderRepo.save(existing);
+
+    AddItemsToOrderOutput output = useCase.execute(new AddItemsToOrderInput(account.getId(), restaurant.getId(),
+        List.of(new OrderItemQuantityInput(first.getId(), 2), new OrderItemQuantityInput(first.getId(), 1))));
+
+    assertEquals(existing.getId(), output.orderId());
+    assertEquals(1, output.items().size());
+    assertEquals(4, output.items().get(0).quantity());
+  }
+
+  @Test
+  void shouldNotChangeOrderWhenAnyMenuItemIsMissing() {
+    Account account = makeClient();
+    accountRepo.save(account);
+
+    Restaurant restaurant = makeRestaurantWithTwoItems(Currency.BRL);
+    restaurantRepo.save(restaurant);
+
+    AddItemsToOrderInput input = new AddItemsToOrderInput(account.getId(), restaurant.getId(), List.of(
+        new OrderItemQuantityInput(restaurant.getMenu().get(0).getId(), 1),
+        new OrderItemQuantityInput(MenuItemId.generate(), 1)));
+
+    assertThrows(MenuItemNotFoundException.class, () -> useCase.execute(input));
+    assertTrue(orderRepo.findDraftByClientAndRestaurant(account.getId(), restaurant.getId()).isEmpty());
+    assertEquals(0, orderRepo.saves);
+  }
+
+  @Test
+  void shouldThrowWhenAnyMenuItemIsInactive() {
+    Account account = makeClient();
+    accountRepo.save(account);
+
+    Restaurant restaurant = makeRestaurantWithTwoItems(Currency.BRL);
+    restaurant.getMenu().get(1).deactivate();
+    restaurant.publishMenu();
+    restaurantRepo.save(restaurant);
+
+    AddItemsToOrderInput input = new AddItemsToOrderInput(account.getId(), restaurant.getId(), List.of(
+        new OrderItemQuantityInput(restaurant.getMenu().get(0).getId(), 1),
+        new OrderItemQuantityInput(restaurant.getMenu().get(1).getId(), 1)));
+
+    assertThrows(InactiveItemException.class, () -> useCase.execute(input));
+    assertEquals(0, orderRepo.saves);
+  }
+
+  @Test
+  void shouldThrowWhenRestaurantNotFound() {
+    Account account = makeClient();
+    accountRepo.save(account);
+
+    AddItemsToOrderInput input = new AddItemsToOrderInput(account.getId(), RestaurantId.generate(),
+        List.of(new OrderItemQuantityInput(MenuItemId.generate(), 1)));
+
+    assertThrows(RestaurantNotFoundException.class, () -> useCase.execute(input));
+  }
+
+  @Test
+  void inputShouldRejectEmptyItemList() {
+    assertThrows(InvalidOrderException.class,
+        () -> new AddItemsToOrderInput(AccountId.generate(), RestaurantId.generate(), List.of()));
+  }
+
+  private Account makeClient() {
+    return Account.create("X", new Email("x@d.com"), Set.of(AccountRole.BASE_CLIENT));
+  }
+
+  private Restaurant makeRestaurantWithTwoItems(Currency currency) {
+    Restaurant restaurant = Restaurant.create(AccountId.generate(), "r",
+        new OpeningHours(java.time.LocalTime.of(0, 0), java.time.LocalTime.of(23, 59)),
+        new Address("s", "1", "", "c", "p", new ZipCode("00000-000")));
+    restaurant.changeCurrency(currency);
+    restaurant.addMenuItem("item", "desc", MenuItemCategory.DESSERT, Money.of(10, currency));
+    restaurant.addMenuItem("other", "desc", MenuItemCategory.DESSERT, Money.of(5, currency));
+    restaurant.publishMenu();
+    return restaurant;
+  }
+
+  private static class FakeAccountRepository implements br.com.delivery.domain.repositories.IAccountRepository {
+    private final Map<AccountId, Account> map = new HashMap<>();
+
+    @Override
+    public Optional<Account> findById(AccountId id) {
+      return Optional.ofNullable(map.get(id));
+    }
+
+    @Override
+    public void save(Account account) {
+      map.put(account.getId(), account);
+    }
+  }
+
+  private static class FakeRestaurantRepository implements br.com.delivery.domain.repositories.IRestaurantRepository {
+    private final Map<RestaurantId, Restaurant> map = new HashMap<>();
+
+    @Override
+    public Optional<Restaurant> findById(RestaurantId id) {
+      return Optional.ofNullable(map.get(id));
+    }
+
+    @Override
+    public List<Restaurant> findAllByOwnerId(AccountId ownerId) {
+      List<Restaurant> list = new ArrayList<>();
+      for (Restaurant r : map.values()) {
+        if (r.getOwnerId().equals(ownerId)) {
+          list.add(r);
+        }
+      }
+      return list;
+    }
+
+    @Override
+    public List<Restaurant> findAllByIds(Collection<RestaurantId> ids) {
+      List<Restaurant> list = new ArrayList<>();
+      for (RestaurantId id : ids) {
+        if (map.containsKey(id)) {
+          list.add(map.get(id));
+        }
+      }
+      return list;
+    }
+
+    @Override
+    public boolean existsById(RestaurantId id) {
+      return false;
+    }
+
+    @Override
+    public void save(Restaurant restaurant) {
+      map.put(restaurant.getId(), restaurant);
+    }
+  }
+}
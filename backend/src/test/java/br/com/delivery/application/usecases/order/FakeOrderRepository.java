@@ -0,0 +1,88 @@
+package br.com.delivery.application.usecases.order;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.exception.ConcurrentOrderUpdateException;
+import br.com.delivery.domain.order.Order;
+import br.com.delivery.domain.order.OrderCursor;
+import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.domain.order.OrderPage;
+import br.com.delivery.domain.order.OrderStatus;
+import br.com.delivery.domain.repositories.IOrderRepository;
+import br.com.delivery.domain.restaurant.RestaurantId;
+
+class FakeOrderRepository implements IOrderRepository {
+  private final Map<OrderId, Order> storage = new ConcurrentHashMap<>();
+  int pendingConflicts;
+  int saves;
+
+  @Override
+  public Optional<Order> findById(OrderId id) {
+    return Optional.ofNullable(storage.get(id));
+  }
+
+  @Override
+  public Optional<Order> findDraftByClientAndRestaurant(AccountId accountId, RestaurantId restaurantId) {
+    return storage.values().stream()
+        .filter(order -> order.getAccountId().equals(accountId)
+            && order.getRestaurantId().equals(restaurantId)
+            && order.getStatus() == OrderStatus.DRAFT)
+        .findFirst();
+  }
+
+  @Override
+  public List<Order> findAllByClientId(AccountId accountId) {
+    return storage.values().stream()
+        .filter(order -> order.getAccountId().equals(accountId))
+        .toList();
+  }
+
+  @Override
+  public OrderPage findPageByClientId(AccountId accountId, OrderCursor cursor, int limit) {
+    List<Order> orders = storage.values().stream()
+        .filter(order -> order.getAccountId().equals(accountId))
+        .filter(order -> cursor == null || OrderCursor.NEWEST_FIRST.compare(OrderCursor.of(order), cursor) > 0)
+        .sorted(Comparator.comparing(OrderCursor::of, OrderCursor.NEWEST_FIRST))
+        .limit(limit + 1L)
+        .toList();
+
+    if (orders.size() <= limit) {
+      return new OrderPage(orders, null);
+    }
+
+    List<Order> page = orders.subList(0, limit);
+    return new OrderPage(page, OrderCursor.of(page.get(limit - 1)));
+  }
+
+  @Override
+  public List<Order> findAllByRestaurantAndStatus(RestaurantId restaurantId, OrderStatus status) {
+    return storage.values().stream()
+        .filter(order -> order.getRestaurantId().equals(restaurantId) && order.getStatus() == status)
+        .toList();
+  }
+
+  @Override
+  public int countByRestaurantAndStatus(RestaurantId restaurantId, OrderStatus status) {
+    return findAllByRestaurantAndStatus(restaurantId, status).size();
+  }
+
+  @Override
+  public void save(Order order) {
+    saves++;
+    storage.put(order.getId(), order);
+  }
+
+  @Override
+  public void save(Order order, long expectedVersion) {
+    if (pendingConflicts > 0) {
+      pendingConflicts--;
+      throw new ConcurrentOrderUpdateException("Conflito simulado.");
+    }
+    save(order);
+  }
+}
@@ -17,8 +17,6 @@ import br.com.delivery.application.dto.order.FindClientOrdersOutput;
 import br.com.delivery.application.exceptions.ClientNotFoundException;
 import br.com.delivery.domain.account.AccountId;
 import br.com.delivery.domain.order.Order;
-import br.com.delivery.domain.order.OrderId;
-import br.com.delivery.domain.order.OrderStatus;
 import br.com.delivery.domain.repositories.IClientRepository;
 import br.com.delivery.domain.client.Client;
 
@@ -57,6 +55,36 @@ public class FindClientOrdersUseCaseTest {
     assertFalse(orders.isEmpty());
   }
 
+  @Test
+  void shouldReturnNextCursorWhenClientHasMoreOrders() {
+    AccountId accountId = AccountId.generate();
+    clientRepository.save(Client.create(accountId));
+
+    for (int i = 0; i < 3; i++) {
+      orderRepository.save(Order.create(RestaurantId.generate(), accountId, Currency.BRL));
+    }
+
+    FindClientOrdersOutput firstPage = useCase.execute(new FindClientOrdersInput(accountId, null, 2));
+
+    assertEquals(2, firstPage.orders().size());
+    assertTrue(firstPage.hasNext());
+
+    FindClientOrdersOutput secondPage = useCase.execute(
+        new FindClientOrdersInput(accountId, firstPage.nextCursor(), 2));
+
+    assertEquals(1, secondPage.orders().size());
+    assertFalse(secondPage.hasNext());
+    assertFalse(firstPage.orders().contains(secondPage.orders().get(0)));
+  }
+
+  @Test
+  void inputShouldValidateLimit() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new FindClientOrdersInput(AccountId.generate(), null, 0));
+    assertThrows(IllegalArgumentException.class,
+        () -> new FindClientOrdersInput(AccountId.generate(), null, FindClientOrdersInput.MAX_LIMIT + 1));
+  }
+
   @Test
   void shouldThrowWhenClientNotExists() {
     AccountId accountId = AccountId.generate();
@@ -85,36 +113,6 @@ public class FindClientOrdersUseCaseTest {
     assertEquals(0, orders.size());
   }
 
-  private static class FakeOrderRepository implements IOrderRepository {
-    private final Map<OrderId, Order> storage = new ConcurrentHashMap<>();
-
-    @Override
-    public Optional<Order> findById(OrderId id) {
-      return Optional.ofNullable(storage.get(id));
-    }
-
-    @Override
-    public Optional<Order> findDraftByClientAndRestaurant(AccountId accountId, RestaurantId restaurantId) {
-      return storage.values().stream()
-          .filter(order -> order.getAccountId().equals(accountId)
-              && order.getRestaurantId().equals(restaurantId)
-              && order.getStatus().equals(OrderStatus.DRAFT))
-          .findFirst();
-    }
-
-    @Override
-    public List<Order> findAllByClientId(AccountId accountId) {
-      return storage.values().stream()
-          .filter(order -> order.getAccountId().equals(accountId))
-          .toList();
-    }
-
-    @Override
-    public void save(Order order) {
-      storage.put(order.getId(), order);
-    }
-  }
-
   private static class FakeClientRepository implements IClientRepository {
     private final Map<AccountId, Client> storage = new ConcurrentHashMap<>();
 
@@ -1,10 +1,5 @@
 package br.com.delivery.application.usecases.order;
 
-import java.util.Optional;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
@@ -96,33 +91,4 @@ public class RemoveItemFromOrderUseCaseTest {
     assertEquals(Money.of(0.0, Currency.BRL), output.newTotal());
     assertTrue(output.remainingItems().isEmpty());
   }
-
-  private static class FakeOrderRepository implements IOrderRepository {
-    private final Map<OrderId, Order> storage = new HashMap<>();
-
-    @Override
-    public Optional<Order> findById(OrderId id) {
-      return Optional.ofNullable(storage.get(id));
-    }
-
-    @Override
-    public Optional<Order> findDraftByClientAndRestaurant(AccountId accountId, RestaurantId restaurantId) {
-      return storage.values().stream()
-          .filter(o -> o.getAccountId().equals(accountId) && o.getRestaurantId().equals(restaurantId)
-              && o.getStatus() == br.com.delivery.domain.order.OrderStatus.DRAFT)
-          .findFirst();
-    }
-
-        @Override
-  public List<Order> findAllByClientId(AccountId accountId) {
-    return storage.values().stream()
-        .filter(order -> order.getAccountId().equals(accountId))
-        .toList();
-  }
-
-    @Override
-    public void save(Order order) {
-      storage.put(order.getId(), order);
-    }
-  }
 }
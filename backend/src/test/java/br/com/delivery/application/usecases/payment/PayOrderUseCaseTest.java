@@ -0,0 +1,104 @@
+package br.com.delivery.application.usecases.payment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.delivery.application.IdempotencyStore;
+import br.com.delivery.application.PaymentProcessor;
+import br.com.delivery.application.dto.payment.PayOrderInput;
+import br.com.delivery.application.dto.payment.PayOrderOutput;
+import br.com.delivery.application.exceptions.OrderNotFoundException;
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.exception.InvalidOrderException;
+import br.com.delivery.domain.exception.InvalidPaymentException;
+import br.com.delivery.domain.order.Order;
+import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.domain.order.OrderStatus;
+import br.com.delivery.domain.payment.FakeLatencyPaymentMethod;
+import br.com.delivery.domain.payment.PaymentProcessingResult;
+import br.com.delivery.domain.payment.PaymentStatus;
+import br.com.delivery.domain.restaurant.MenuItemCategory;
+import br.com.delivery.domain.restaurant.MenuItemId;
+import br.com.delivery.domain.restaurant.RestaurantId;
+import br.com.delivery.domain.shared.Address;
+import br.com.delivery.domain.shared.Currency;
+import br.com.delivery.domain.shared.Money;
+import br.com.delivery.domain.shared.ZipCode;
+import br.com.delivery.infrastructure.persistence.memory.InMemoryOrderRepository;
+import br.com.delivery.infrastructure.persistence.memory.InMemoryPaymentRepository;
+
+class PayOrderUseCaseTest {
+  private final InMemoryOrderRepository orderRepository = new InMemoryOrderRepository();
+  private final InMemoryPaymentRepository paymentRepository = new InMemoryPaymentRepository();
+  private final FakeLatencyPaymentMethod gateway = new FakeLatencyPaymentMethod(Duration.ofMillis(50),
+      PaymentProcessingResult.APPROVED);
+  private PaymentProcessor paymentProcessor;
+  private PayOrderUseCase payOrderUseCase;
+
+  @BeforeEach
+  void setup() {
+    paymentProcessor = new PaymentProcessor(orderRepository, paymentRepository, 2, 8, Duration.ofSeconds(5), null,
+        null, new IdempotencyStore(16, Duration.ofMinutes(1)));
+    payOrderUseCase = new PayOrderUseCase(orderRepository, paymentProcessor, Map.of("pix", gateway));
+  }
+
+  @AfterEach
+  void tearDown() {
+    paymentProcessor.close();
+  }
+
+  @Test
+  void shouldSubmitPaymentWithoutWaitingForGateway() {
+    Order order = payableOrder();
+
+    PayOrderOutput output = payOrderUseCase.execute(new PayOrderInput(order.getId(), "pix", "pagamento-1"));
+    PayOrderOutput retry = payOrderUseCase.execute(new PayOrderInput(order.getId(), "pix", "pagamento-1"));
+
+    assertEquals(PaymentStatus.PENDING, output.status());
+    assertEquals(output.paymentId(), retry.paymentId());
+    paymentProcessor.close();
+    assertEquals(OrderStatus.PAID, orderRepository.findById(order.getId()).orElseThrow().getStatus());
+    assertEquals(output.paymentId(), payOrderUseCase.execute(
+        new PayOrderInput(order.getId(), "pix", "pagamento-1")).paymentId());
+    assertEquals(1, gateway.calls());
+    assertEquals(1, paymentRepository.findAllByOrderId(order.getId()).size());
+  }
+
+  @Test
+  void shouldRejectUnsupportedPaymentMethod() {
+    Order order = payableOrder();
+
+    assertThrows(InvalidPaymentException.class,
+        () -> payOrderUseCase.execute(new PayOrderInput(order.getId(), "boleto", null)));
+    assertEquals(0, gateway.calls());
+  }
+
+  @Test
+  void shouldNotChargeOrderThatCannotBePaid() {
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    orderRepository.save(order, 0);
+
+    assertThrows(InvalidOrderException.class,
+        () -> payOrderUseCase.execute(new PayOrderInput(order.getId(), "pix", null)));
+    assertThrows(OrderNotFoundException.class,
+        () -> payOrderUseCase.execute(new PayOrderInput(OrderId.generate(), "pix", null)));
+    assertEquals(0, gateway.calls());
+    assertTrue(paymentRepository.findAllByOrderId(order.getId()).isEmpty());
+  }
+
+  private Order payableOrder() {
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    order.addItem(MenuItemId.generate(), "product", "description", MenuItemCategory.DESSERT,
+        Money.of(30.0, Currency.BRL), 1);
+    order.changeDeliveryAddress(new Address("rua", "123", "casa", "cidade", "país", new ZipCode("36703-072")),
+        Money.of(5.0, Currency.BRL));
+    orderRepository.save(order, 0);
+    return order;
+  }
+}
@@ -0,0 +1,68 @@
+package br.com.delivery.domain.order;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.restaurant.MenuItemCategory;
+import br.com.delivery.domain.restaurant.MenuItemId;
+import br.com.delivery.domain.restaurant.RestaurantId;
+import br.com.delivery.domain.shared.Currency;
+import br.com.delivery.domain.shared.Money;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderItemsBenchmark {
+  @Param({ "10", "100", "1000" })
+  private int lines;
+
+  private final Money price = Money.of(12.5, Currency.BRL);
+  private List<MenuItemId> menuItemIds;
+  private Order order;
+  private MenuItemId middleLine;
+
+  @Setup
+  public void setup() {
+    menuItemIds = new ArrayList<>(lines);
+    for (int i = 0; i < lines; i++) {
+      menuItemIds.add(MenuItemId.generate());
+    }
+
+    order = buildOrder();
+    middleLine = menuItemIds.get(lines / 2);
+  }
+
+  @Benchmark
+  public Order increaseAndDecreaseExistingLine() {
+    order.addItem(middleLine, "item", "description", MenuItemCategory.DESSERT, price, 1);
+    order.decreaseItem(middleLine, 1);
+    order.pullEvents();
+    return order;
+  }
+
+  @Benchmark
+  public Order buildOrder() {
+    Order newOrder = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    for (MenuItemId menuItemId : menuItemIds) {
+      newOrder.addItem(menuItemId, "item", "description", MenuItemCategory.DESSERT, price, 1);
+    }
+    return newOrder;
+  }
+}
@@ -1,5 +1,6 @@
 package br.com.delivery.domain.order;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -20,6 +21,18 @@ import br.com.delivery.domain.restaurant.RestaurantId;
 public class OrderTest {
   private final Address address = new Address("rua", "123", "casa", "cidade", "país", new ZipCode("36703-072"));
 
+  @Test
+  void itemsViewShouldReflectChangesWithoutAllowingMutation() {
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    Collection<OrderItem> view = order.itemsView();
+    MenuItemId menuItemId = MenuItemId.generate();
+
+    order.addItem(menuItemId, "product", "description", MenuItemCategory.DESSERT, Money.of(10.0, Currency.BRL), 1);
+
+    assertEquals(1, view.size());
+    assertThrows(UnsupportedOperationException.class, view::clear);
+  }
+
   @Test
   void shouldCreateOrderWithCorrectValue() {
     AccountId clientId = AccountId.generate();
@@ -92,6 +105,97 @@ public class OrderTest {
     assertEquals(total, order.total());
   }
 
+  @Test
+  void shouldMergeQuantityWhenAddingSameItemTwice() {
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    MenuItemId first = MenuItemId.generate();
+    MenuItemId second = MenuItemId.generate();
+    Money price = Money.of(10.0, Currency.BRL);
+
+    order.addItem(first, "first", "description", MenuItemCategory.DESSERT, price, 1);
+    order.addItem(second, "second", "description", MenuItemCategory.DESSERT, price, 1);
+    order.addItem(first, "first", "description", MenuItemCategory.DESSERT, price, 2);
+
+    assertEquals(2, order.getItems().size());
+    assertEquals(first, order.getItems().get(0).getMenuItemId());
+    assertEquals(3, order.getItems().get(0).getQuantity());
+    assertEquals(Money.of(40.0, Currency.BRL), order.total());
+  }
+
+  @Test
+  void shouldKeepTotalsUpdatedAcrossItemChanges() {
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    MenuItemId first = MenuItemId.generate();
+    MenuItemId second = MenuItemId.generate();
+
+    order.addItem(first, "first", "description", MenuItemCategory.DESSERT, Money.of(10.0, Currency.BRL), 3);
+    order.addItem(second, "second", "description", MenuItemCategory.DESSERT, Money.of(2.5, Currency.BRL), 2);
+    order.changeDeliveryAddress(address, Money.of(7.0, Currency.BRL));
+
+    assertEquals(Money.of(35.0, Currency.BRL), order.total());
+    assertEquals(Money.of(42.0, Currency.BRL), order.grandTotal());
+
+    order.decreaseItem(first, 1);
+    order.removeItem(second);
+
+    assertEquals(Money.of(20.0, Currency.BRL), order.total());
+    assertEquals(Money.of(27.0, Currency.BRL), order.grandTotal());
+  }
+
+  @Test
+  void shouldRecalculateTotalWhenSameItemIsAddedWithNewPrice() {
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    MenuItemId menuItemId = MenuItemId.generate();
+
+    order.addItem(menuItemId, "item", "description", MenuItemCategory.DESSERT, Money.of(10.0, Currency.BRL), 1);
+    order.addItem(menuItemId, "item", "description", MenuItemCategory.DESSERT, Money.of(12.0, Currency.BRL), 1);
+
+    assertEquals(Money.of(24.0, Currency.BRL), order.total());
+  }
+
+  @Test
+  void shouldAddItemsInBatch() {
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    MenuItemId first = MenuItemId.generate();
+    Money price = Money.of(10.0, Currency.BRL);
+    order.addItem(first, "first", "description", MenuItemCategory.DESSERT, price, 1);
+
+    order.addItems(List.of(
+        new OrderItem(first, "first", "description", MenuItemCategory.DESSERT, price, 2),
+        new OrderItem(MenuItemId.generate(), "second", "description", MenuItemCategory.DESSERT, price, 1)));
+
+    assertEquals(2, order.getItems().size());
+    assertEquals(3, order.getItems().get(0).getQuantity());
+    assertEquals(Money.of(40.0, Currency.BRL), order.total());
+  }
+
+  @Test
+  void shouldNotAddAnyItemWhenBatchHasDifferentCurrency() {
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+
+    assertThrows(CurrencyMismatchException.class, () -> order.addItems(List.of(
+        new OrderItem(MenuItemId.generate(), "first", "description", MenuItemCategory.DESSERT,
+            Money.of(10.0, Currency.BRL), 1),
+        new OrderItem(MenuItemId.generate(), "second", "description", MenuItemCategory.DESSERT,
+            Money.of(10.0, Currency.USD), 1))));
+    assertTrue(order.getItems().isEmpty());
+  }
+
+  @Test
+  void shouldRestoreItemsInOriginalOrder() {
+    OrderItem first = new OrderItem(MenuItemId.generate(), "first", "description", MenuItemCategory.DESSERT,
+        Money.of(10.0, Currency.BRL), 1);
+    OrderItem second = new OrderItem(MenuItemId.generate(), "second", "description", MenuItemCategory.DESSERT,
+        Money.of(5.0, Currency.BRL), 2);
+
+    Order order = Order.restore(OrderId.generate(), RestaurantId.generate(), AccountId.generate(), Currency.BRL,
+        java.time.LocalDateTime.now(), OrderStatus.DRAFT, List.of(first, second), List.of(), address,
+        Money.zero(Currency.BRL), null, null, null, null);
+
+    assertEquals(List.of(first, second), order.getItems());
+    assertEquals(Money.of(20.0, Currency.BRL), order.total());
+  }
+
   @Test
   void shouldRemoveItemSuccessfuly() {
     AccountId clientId = AccountId.generate();
@@ -160,6 +264,94 @@ public class OrderTest {
     assertEquals(OrderStatus.CONFIRMED, order.getStatus());
   }
 
+  @Test
+  void shouldRecordEventsForEachTransition() {
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    MenuItemId menuItemId = MenuItemId.generate();
+
+    order.addItem(menuItemId, "product", "description", MenuItemCategory.DESSERT, Money.of(50.0, Currency.BRL), 2);
+    order.changeDeliveryAddress(this.address, Money.of(5.0, Currency.BRL));
+    order.markAsPaid();
+    order.markAsConfirmed();
+    order.markAsDelivered();
+
+    List<OrderEvent> events = order.pullEvents();
+
+    assertEquals(6, events.size());
+    assertInstanceOf(OrderCreated.class, events.get(0));
+    OrderItemAdded added = assertInstanceOf(OrderItemAdded.class, events.get(1));
+    assertEquals(menuItemId, added.menuItemId());
+    assertEquals(2, added.quantity());
+    assertInstanceOf(OrderDeliveryAddressChanged.class, events.get(2));
+    assertEquals(order.grandTotal(), assertInstanceOf(OrderPaid.class, events.get(3)).grandTotal());
+    assertInstanceOf(OrderConfirmed.class, events.get(4));
+    assertInstanceOf(OrderDelivered.class, events.get(5));
+    assertTrue(events.stream().allMatch(event -> event.orderId().equals(order.getId())));
+    assertTrue(order.pullEvents().isEmpty());
+  }
+
+  @Test
+  void shouldRecordPreviousStatusWhenCancelled() {
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    order.pullEvents();
+
+    order.markAsCancelled();
+
+    OrderCancelled cancelled = assertInstanceOf(OrderCancelled.class, order.pullEvents().get(0));
+    assertEquals(OrderStatus.DRAFT, cancelled.previousStatus());
+  }
+
+  @Test
+  void shouldNotRecordEventsWhenTransitionFails() {
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    order.pullEvents();
+
+    assertThrows(InvalidOrderException.class, order::markAsPaid);
+
+    assertTrue(order.pullEvents().isEmpty());
+  }
+
+  @Test
+  void shouldRebuildSameStateFromHistory() {
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    MenuItemId kept = MenuItemId.generate();
+    MenuItemId removed = MenuItemId.generate();
+    order.addItem(kept, "product", "description", MenuItemCategory.DESSERT, Money.of(10.0, Currency.BRL), 3);
+    order.addItem(removed, "other", "description", MenuItemCategory.DESSERT, Money.of(7.0, Currency.BRL), 1);
+    order.addItem(kept, "product", "description", MenuItemCategory.DESSERT, Money.of(10.0, Currency.BRL), 1);
+    order.decreaseItem(kept, 2);
+    order.removeItem(removed);
+    order.changeDeliveryAddress(this.address, Money.of(5.0, Currency.BRL));
+    order.registerPayment(PaymentId.generate());
+    order.markAsPaid();
+    List<OrderEvent> history = order.pullEvents();
+
+    Order rebuilt = Order.replay(null, history, 3);
+    Order fromSnapshot = Order.replay(Order.replay(null, history.subList(0, 5), 1), history.subList(5, history.size()),
+        3);
+
+    for (Order replayed : List.of(rebuilt, fromSnapshot)) {
+      assertEquals(order.getId(), replayed.getId());
+      assertEquals(OrderStatus.PAID, replayed.getStatus());
+      assertEquals(order.getPaidAt(), replayed.getPaidAt());
+      assertEquals(2, replayed.getItems().get(0).getQuantity());
+      assertEquals(1, replayed.getItems().size());
+      assertEquals(order.getPayments(), replayed.getPayments());
+      assertEquals(order.grandTotal(), replayed.grandTotal());
+      assertEquals(3, replayed.getVersion());
+      assertTrue(replayed.pullEvents().isEmpty());
+    }
+  }
+
+  @Test
+  void shouldRejectHistoryThatDoesNotStartWithCreation() {
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    order.markAsCancelled();
+    List<OrderEvent> history = order.pullEvents();
+
+    assertThrows(InvalidOrderException.class, () -> Order.replay(null, history.subList(1, 2), 1));
+  }
+
   @Test
   void shouldThrowWhenAddItemOutsideDraftStatus() {
     Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.CAD);
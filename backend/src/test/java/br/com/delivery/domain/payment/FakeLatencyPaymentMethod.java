@@ -0,0 +1,47 @@
+package br.com.delivery.domain.payment;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class FakeLatencyPaymentMethod implements IPaymentMethod {
+  private final Duration latency;
+  private final PaymentProcessingResult result;
+  private final AtomicInteger calls = new AtomicInteger();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger maxInFlight = new AtomicInteger();
+  private volatile boolean failing;
+
+  public FakeLatencyPaymentMethod(Duration latency, PaymentProcessingResult result) {
+    this.latency = latency;
+    this.result = result;
+  }
+
+  public PaymentProcessingResult process(Payment payment) {
+    calls.incrementAndGet();
+    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+    try {
+      Thread.sleep(latency.toMillis());
+      if (failing) {
+        throw new IllegalStateException("Gateway de pagamento indisponível.");
+      }
+      return result;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return PaymentProcessingResult.PENDING;
+    } finally {
+      inFlight.decrementAndGet();
+    }
+  }
+
+  public void setFailing(boolean failing) {
+    this.failing = failing;
+  }
+
+  public int calls() {
+    return calls.get();
+  }
+
+  public int maxInFlight() {
+    return maxInFlight.get();
+  }
+}
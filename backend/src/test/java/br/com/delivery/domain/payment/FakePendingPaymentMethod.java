@@ -0,0 +1,33 @@
+package br.com.delivery.domain.payment;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class FakePendingPaymentMethod implements IPaymentMethod {
+  private final int pendingQueries;
+  private final PaymentProcessingResult finalResult;
+  private final AtomicInteger authorizations = new AtomicInteger();
+  private final AtomicInteger queries = new AtomicInteger();
+
+  public FakePendingPaymentMethod(int pendingQueries, PaymentProcessingResult finalResult) {
+    this.pendingQueries = pendingQueries;
+    this.finalResult = finalResult;
+  }
+
+  public PaymentProcessingResult process(Payment payment) {
+    authorizations.incrementAndGet();
+    return PaymentProcessingResult.PENDING;
+  }
+
+  @Override
+  public PaymentProcessingResult queryStatus(Payment payment) {
+    return queries.incrementAndGet() <= pendingQueries ? PaymentProcessingResult.PENDING : finalResult;
+  }
+
+  public int authorizations() {
+    return authorizations.get();
+  }
+
+  public int queries() {
+    return queries.get();
+  }
+}
@@ -47,6 +47,15 @@ public class PaymentTest {
         () -> payment.refund());
   }
 
+  @Test
+  void shouldStayPendingWhenAuthorizationOutcomeIsUnknown() {
+    Payment payment = Payment.create(OrderId.generate(), this.fakeApprovedMethod, this.amount);
+    payment.complete(PaymentProcessingResult.UNKNOWN);
+
+    assertEquals(PaymentStatus.PENDING, payment.getStatus());
+    assertEquals(PaymentProcessingResult.UNKNOWN, payment.queryAuthorization());
+  }
+
   @Test
   void statusShouldBeApprovedWhenPaymentIsApproved() {
     Payment payment = Payment.create(OrderId.generate(), this.fakeApprovedMethod, this.amount);
@@ -2,6 +2,7 @@ package br.com.delivery.domain.restaurant;
 
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
@@ -222,4 +223,107 @@ public class RestaurantTest {
     assertThrows(InvalidRestaurantException.class,
         () -> restaurant.addMenuItem("item", "description", MenuItemCategory.DESSERT, money));
   }
+
+  @Test
+  void shouldFindMenuItemById() {
+    Restaurant restaurant = Restaurant.create(ownerId, "restaurant", hours, address);
+    restaurant.addMenuItem("item", "description", MenuItemCategory.DESSERT, money);
+    restaurant.addMenuItem("other", "description", MenuItemCategory.DESSERT, money);
+    MenuItem item = restaurant.getMenu().get(1);
+
+    assertEquals(item, restaurant.findMenuItem(item.getId()).orElseThrow());
+    assertTrue(restaurant.findMenuItem(MenuItemId.generate()).isEmpty());
+  }
+
+  @Test
+  void shouldListMenuItemsByCategory() {
+    Restaurant restaurant = Restaurant.create(ownerId, "restaurant", hours, address);
+    restaurant.addMenuItem("item", "description", MenuItemCategory.DESSERT, money);
+    restaurant.addMenuItem("other", "description", MenuItemCategory.DESSERT, money);
+
+    assertEquals(restaurant.getMenu(), restaurant.findMenuItemsByCategory(MenuItemCategory.DESSERT));
+  }
+
+  @Test
+  void shouldRemoveItemFromCategoryListing() {
+    Restaurant restaurant = Restaurant.create(ownerId, "restaurant", hours, address);
+    restaurant.addMenuItem("item", "description", MenuItemCategory.DESSERT, money);
+    MenuItem item = restaurant.getMenu().get(0);
+
+    restaurant.removeMenuItem(item.getId());
+
+    assertTrue(restaurant.findMenuItemsByCategory(MenuItemCategory.DESSERT).isEmpty());
+    assertTrue(restaurant.findMenuItem(item.getId()).isEmpty());
+  }
+
+  @Test
+  void shouldIndexMenuItemsOnRestore() {
+    RestaurantId id = RestaurantId.generate();
+    MenuItem item = new MenuItem(MenuItemId.generate(), id, "item", "description", MenuItemCategory.DESSERT, money);
+    Restaurant restaurant = Restaurant.restore(id, ownerId, "restaurant", hours, address, Currency.BRL,
+        RestaurantStatus.CLOSED, List.of(item));
+
+    assertEquals(item, restaurant.findMenuItem(item.getId()).orElseThrow());
+    assertEquals(List.of(item), restaurant.findMenuItemsByCategory(MenuItemCategory.DESSERT));
+  }
+
+  @Test
+  void shouldThrowWhenChangeMenuItemCategoryWhileOpen() {
+    Restaurant restaurant = Restaurant.create(ownerId, "restaurant", hours, address);
+    restaurant.addMenuItem("item", "description", MenuItemCategory.DESSERT, money);
+    MenuItem item = restaurant.getMenu().get(0);
+    restaurant.openRestaurant(LocalTime.of(10, 0));
+
+    assertThrows(InvalidRestaurantException.class,
+        () -> restaurant.changeMenuItemCategory(item.getId(), MenuItemCategory.DESSERT));
+  }
+
+  @Test
+  void shouldThrowWhenChangeCategoryOfNonexistentItem() {
+    Restaurant restaurant = Restaurant.create(ownerId, "restaurant", hours, address);
+
+    assertThrows(InvalidRestaurantException.class,
+        () -> restaurant.changeMenuItemCategory(MenuItemId.generate(), MenuItemCategory.DESSERT));
+  }
+
+  @Test
+  void shouldStartWithEmptyPublishedMenu() {
+    Restaurant restaurant = Restaurant.create(ownerId, "restaurant", hours, address);
+    restaurant.addMenuItem("item", "description", MenuItemCategory.DESSERT, money);
+
+    assertEquals(0, restaurant.currentMenu().version());
+    assertTrue(restaurant.currentMenu().isEmpty());
+  }
+
+  @Test
+  void shouldPublishMenuSnapshotWhenOpening() {
+    Restaurant restaurant = Restaurant.create(ownerId, "restaurant", hours, address);
+    restaurant.addMenuItem("item", "description", MenuItemCategory.DESSERT, money);
+    MenuItem item = restaurant.getMenu().get(0);
+
+    restaurant.openRestaurant(LocalTime.of(10, 0));
+
+    MenuSnapshot menu = restaurant.currentMenu();
+    assertEquals(1, menu.version());
+    assertEquals(item.getName(), menu.findItem(item.getId()).orElseThrow().name());
+    assertEquals(1, menu.itemsByCategory(MenuItemCategory.DESSERT).size());
+  }
+
+  @Test
+  void publishedMenuShouldNotChangeUntilNextPublish() {
+    Restaurant restaurant = Restaurant.create(ownerId, "restaurant", hours, address);
+    restaurant.addMenuItem("item", "description", MenuItemCategory.DESSERT, money);
+    MenuItem item = restaurant.getMenu().get(0);
+    MenuSnapshot published = restaurant.publishMenu();
+
+    item.changePrice(Money.of(20, Currency.BRL));
+
+    assertEquals(money, restaurant.currentMenu().findItem(item.getId()).orElseThrow().price());
+
+    MenuSnapshot republished = restaurant.publishMenu();
+
+    assertEquals(published.version() + 1, republished.version());
+    assertEquals(Money.of(20, Currency.BRL), republished.findItem(item.getId()).orElseThrow().price());
+    assertEquals(money, published.findItem(item.getId()).orElseThrow().price());
+  }
 }
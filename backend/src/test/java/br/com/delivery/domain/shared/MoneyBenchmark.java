@@ -0,0 +1,69 @@
+package br.com.delivery.domain.shared;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.order.Order;
+import br.com.delivery.domain.order.OrderItem;
+import br.com.delivery.domain.restaurant.MenuItemCategory;
+import br.com.delivery.domain.restaurant.MenuItemId;
+import br.com.delivery.domain.restaurant.RestaurantId;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+  @Param({ "10", "100" })
+  private int lines;
+
+  private final Money price = Money.of(12.5, Currency.BRL);
+  private List<OrderItem> items;
+  private Order order;
+  private MenuItemId middleLine;
+
+  @Setup
+  public void setup() {
+    items = new ArrayList<>(lines);
+    order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    for (int i = 0; i < lines; i++) {
+      MenuItemId menuItemId = MenuItemId.generate();
+      items.add(new OrderItem(menuItemId, "item", "description", MenuItemCategory.DESSERT, price, i + 1));
+      order.addItem(menuItemId, "item", "description", MenuItemCategory.DESSERT, price, i + 1);
+    }
+    middleLine = items.get(lines / 2).getMenuItemId();
+  }
+
+  @Benchmark
+  public Money sumLineTotals() {
+    Money total = Money.zero(Currency.BRL);
+    for (OrderItem item : items) {
+      total = total.add(item.getUnitPrice().multiply(item.getQuantity()));
+    }
+    return total;
+  }
+
+  @Benchmark
+  public Money orderTotalAfterLineChange() {
+    order.addItem(middleLine, "item", "description", MenuItemCategory.DESSERT, price, 1);
+    order.decreaseItem(middleLine, 1);
+    order.pullEvents();
+    return order.total();
+  }
+}
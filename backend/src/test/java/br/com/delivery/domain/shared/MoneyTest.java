@@ -80,4 +80,44 @@ public class MoneyTest {
     assertThrows(InsufficientFundsException.class,
         () -> mn1.subtract(mn2));
   }
+
+  @Test
+  void moneysWithDifferentScalesShouldHaveSameHashCode() {
+    var mn1 = new Money(new BigDecimal("10"), Currency.BRL);
+    var mn2 = new Money(new BigDecimal("10.00"), Currency.BRL);
+
+    assertEquals(mn1, mn2);
+    assertEquals(mn1.hashCode(), mn2.hashCode());
+  }
+
+  @Test
+  void shouldExposeAmountInMinorUnits() {
+    var money = Money.of(18.9, Currency.BRL);
+
+    assertEquals(1890, money.minorUnits());
+    assertEquals(new BigDecimal("18.90"), money.amount());
+    assertEquals(money, Money.ofMinorUnits(1890, Currency.BRL));
+  }
+
+  @Test
+  void shouldThrowWhenAmountHasMoreDecimalsThanCurrencyAllows() {
+    assertThrows(InvalidMoneyException.class,
+        () -> new Money(new BigDecimal("10.005"), Currency.BRL));
+  }
+
+  @Test
+  void shouldThrowWhenAdditionOverflows() {
+    var max = Money.ofMinorUnits(Long.MAX_VALUE, Currency.BRL);
+
+    assertThrows(InvalidMoneyException.class,
+        () -> max.add(Money.ofMinorUnits(1, Currency.BRL)));
+  }
+
+  @Test
+  void shouldThrowWhenMultiplicationOverflows() {
+    var money = Money.ofMinorUnits(Long.MAX_VALUE / 2, Currency.BRL);
+
+    assertThrows(InvalidMoneyException.class,
+        () -> money.multiply(3));
+  }
 }
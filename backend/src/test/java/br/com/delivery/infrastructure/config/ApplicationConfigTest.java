@@ -0,0 +1,46 @@
+package br.com.delivery.infrastructure.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import br.com.delivery.domain.repositories.IOrderRepository;
+import br.com.delivery.infrastructure.persistence.memory.ShardedOrderRepository;
+
+class ApplicationConfigTest {
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withInitializer(context -> context.getBeanFactory().setConversionService(new ApplicationConversionService()))
+      .withUserConfiguration(ApplicationConfig.class);
+
+  @TempDir
+  Path walDirectory;
+
+  @Test
+  void shouldFailStartupWhenPersistenceFlagsConflict() {
+    contextRunner
+        .withPropertyValues("app.persistence.wal.enabled=true", "app.persistence.wal.directory=" + walDirectory,
+            "app.persistence.order-shards=4")
+        .run(context -> {
+          assertNotNull(context.getStartupFailure());
+          Throwable cause = context.getStartupFailure();
+          while (cause.getCause() != null) {
+            cause = cause.getCause();
+          }
+          assertInstanceOf(IllegalStateException.class, cause);
+          assertTrue(cause.getMessage().contains("app.persistence.wal.enabled=true"));
+          assertTrue(cause.getMessage().contains("app.persistence.order-shards=4"));
+        });
+  }
+
+  @Test
+  void shouldStartWithSinglePersistenceChoice() {
+    contextRunner
+        .withPropertyValues("app.persistence.order-shards=4")
+        .run(context -> assertInstanceOf(ShardedOrderRepository.class, context.getBean(IOrderRepository.class)));
+  }
+}
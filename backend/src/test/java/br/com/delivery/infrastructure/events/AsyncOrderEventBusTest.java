@@ -0,0 +1,104 @@
+package br.com.delivery.infrastructure.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.delivery.domain.order.OrderCancelled;
+import br.com.delivery.domain.order.OrderEvent;
+import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.domain.order.OrderStatus;
+
+class AsyncOrderEventBusTest {
+  @Test
+  void shouldDeliverEventsInPublicationOrder() throws InterruptedException {
+    List<OrderEvent> received = new CopyOnWriteArrayList<>();
+    List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    CountDownLatch delivered = new CountDownLatch(100);
+    List<OrderEvent> published = new ArrayList<>();
+
+    try (AsyncOrderEventBus bus = new AsyncOrderEventBus(256, 16)) {
+      bus.subscribe(events -> {
+        batchSizes.add(events.size());
+        received.addAll(events);
+        events.forEach(event -> delivered.countDown());
+      });
+      for (int i = 0; i < 100; i++) {
+        OrderEvent event = cancelled();
+        published.add(event);
+        bus.publish(List.of(event));
+      }
+
+      assertTrue(delivered.await(5, TimeUnit.SECONDS));
+    }
+
+    assertEquals(published, received);
+    assertTrue(batchSizes.stream().allMatch(size -> size <= 16));
+  }
+
+  @Test
+  void shouldKeepDeliveringWhenListenerFails() throws InterruptedException {
+    CountDownLatch delivered = new CountDownLatch(2);
+
+    try (AsyncOrderEventBus bus = new AsyncOrderEventBus(16, 1)) {
+      bus.subscribe(events -> {
+        throw new IllegalStateException("falha no assinante");
+      });
+      bus.subscribe(events -> delivered.countDown());
+      bus.publish(List.of(cancelled()));
+      bus.publish(List.of(cancelled()));
+
+      assertTrue(delivered.await(5, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  void shouldDrainPendingEventsOnClose() {
+    List<OrderEvent> received = new CopyOnWriteArrayList<>();
+    AsyncOrderEventBus bus = new AsyncOrderEventBus(1024, 8);
+    bus.subscribe(received::addAll);
+    for (int i = 0; i < 500; i++) {
+      bus.publish(List.of(cancelled()));
+    }
+
+    bus.close();
+
+    assertEquals(500, received.size());
+    assertThrows(IllegalStateException.class, () -> bus.publish(List.of(cancelled())));
+  }
+
+  @Test
+  void shouldDropAndCountEventsWhenQueueIsFullInsteadOfBlocking() throws InterruptedException {
+    CountDownLatch listenerBusy = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    try (AsyncOrderEventBus bus = new AsyncOrderEventBus(2, 1)) {
+      bus.subscribe(events -> {
+        listenerBusy.countDown();
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      bus.publish(List.of(cancelled()));
+      assertTrue(listenerBusy.await(5, TimeUnit.SECONDS));
+
+      bus.publish(List.of(cancelled(), cancelled(), cancelled(), cancelled()));
+
+      assertEquals(2, bus.droppedEvents());
+      release.countDown();
+    }
+  }
+
+  private static OrderEvent cancelled() {
+    return new OrderCancelled(OrderId.generate(), OrderStatus.DRAFT, LocalDateTime.now());
+  }
+}
@@ -0,0 +1,119 @@
+package br.com.delivery.infrastructure.execution;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import br.com.delivery.domain.exception.InvalidOrderException;
+import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.infrastructure.persistence.wal.WalRecord;
+import br.com.delivery.infrastructure.persistence.wal.WalRecordType;
+import br.com.delivery.infrastructure.persistence.wal.WriteAheadLog;
+
+class OrderCommandPipelineTest {
+  @TempDir
+  Path directory;
+
+  @Test
+  void shouldRunCommandsInPublicationOrder() {
+    List<Integer> executed = new ArrayList<>();
+    List<CompletableFuture<Integer>> results = new ArrayList<>();
+
+    try (OrderCommandPipeline pipeline = new OrderCommandPipeline(8, Duration.ofSeconds(5), null)) {
+      for (int i = 0; i < 100; i++) {
+        int command = i;
+        results.add(pipeline.publish(() -> {
+          executed.add(command);
+          return command;
+        }));
+      }
+
+      for (int i = 0; i < 100; i++) {
+        assertEquals(i, results.get(i).join());
+      }
+      assertEquals(100, executed.size());
+      for (int i = 0; i < 100; i++) {
+        assertEquals(i, executed.get(i));
+      }
+      assertEquals(100, pipeline.metrics(0).completedCommands());
+    }
+  }
+
+  @Test
+  void shouldAcceptConcurrentProducersOnSmallRing() {
+    try (OrderCommandPipeline pipeline = new OrderCommandPipeline(4, Duration.ofSeconds(5), null)) {
+      List<CompletableFuture<Integer>> producers = new ArrayList<>();
+      for (int p = 0; p < 6; p++) {
+        producers.add(CompletableFuture.supplyAsync(() -> {
+          int sum = 0;
+          for (int i = 0; i < 200; i++) {
+            int value = i;
+            sum += pipeline.execute(OrderId.generate(), () -> value);
+          }
+          return sum;
+        }));
+      }
+
+      for (CompletableFuture<Integer> producer : producers) {
+        assertEquals(199 * 200 / 2, producer.join());
+      }
+      assertEquals(0, pipeline.metrics(0).pendingCommands());
+    }
+  }
+
+  @Test
+  void shouldRethrowBusinessFailureAndKeepRunning() {
+    try (OrderCommandPipeline pipeline = new OrderCommandPipeline(8, Duration.ofSeconds(5), null)) {
+      OrderId orderId = OrderId.generate();
+
+      assertThrows(InvalidOrderException.class, () -> pipeline.execute(orderId, () -> {
+        throw new InvalidOrderException("Item inexistente.");
+      }));
+      assertEquals("ok", pipeline.execute(orderId, () -> "ok"));
+    }
+  }
+
+  @Test
+  void shouldRejectCommandsThatExpiredInTheRing() {
+    try (OrderCommandPipeline pipeline = new OrderCommandPipeline(8, Duration.ofNanos(1), null)) {
+      assertThrows(CommandRejectedException.class, () -> pipeline.execute(OrderId.generate(), () -> "late"));
+      assertEquals(1, pipeline.metrics(0).rejectedCommands());
+    }
+  }
+
+  @Test
+  void shouldMakeJournaledCommandsDurableBeforeResponding() {
+    List<CompletableFuture<Void>> results = new ArrayList<>();
+
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 64 * 1024)) {
+      try (OrderCommandPipeline pipeline = new OrderCommandPipeline(64, Duration.ofSeconds(5), log)) {
+        for (int i = 0; i < 50; i++) {
+          byte[] payload = { (byte) i };
+          results.add(pipeline.publish(() -> {
+            log.append(WalRecordType.ORDER, payload);
+            return null;
+          }));
+        }
+        results.forEach(CompletableFuture::join);
+
+        PipelineMetrics metrics = pipeline.metrics(0);
+        assertTrue(metrics.journalBatches() >= 1);
+        assertTrue(metrics.journalBatches() <= 50);
+      }
+    }
+
+    List<WalRecord> records = new ArrayList<>();
+    try (WriteAheadLog reopened = WriteAheadLog.open(directory, 64 * 1024)) {
+      reopened.replay(records::add);
+    }
+    assertEquals(50, records.size());
+    assertEquals(49, records.get(49).payload()[0]);
+  }
+}
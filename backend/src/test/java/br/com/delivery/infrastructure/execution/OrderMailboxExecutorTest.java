@@ -0,0 +1,154 @@
+package br.com.delivery.infrastructure.execution;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.exception.InvalidOrderException;
+import br.com.delivery.domain.order.Order;
+import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.domain.restaurant.RestaurantId;
+import br.com.delivery.domain.shared.Currency;
+
+class OrderMailboxExecutorTest {
+  private OrderMailboxExecutor executor;
+
+  @BeforeEach
+  void setup() {
+    executor = new OrderMailboxExecutor(4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.close();
+  }
+
+  @Test
+  void shouldRunCommandsForSameOrderOneAtATimeInSubmissionOrder() {
+    OrderId orderId = OrderId.generate();
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    List<Integer> executed = new ArrayList<>();
+    List<CompletableFuture<Integer>> results = new ArrayList<>();
+
+    for (int i = 0; i < 200; i++) {
+      int command = i;
+      results.add(executor.submit(orderId, () -> {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        executed.add(command);
+        running.decrementAndGet();
+        return command;
+      }));
+    }
+
+    results.forEach(CompletableFuture::join);
+    assertEquals(1, maxRunning.get());
+    for (int i = 0; i < 200; i++) {
+      assertEquals(i, executed.get(i));
+    }
+  }
+
+  @Test
+  void shouldRunDifferentOrdersInParallel() throws Exception {
+    CountDownLatch bothStarted = new CountDownLatch(2);
+
+    CompletableFuture<Boolean> first = executor.submit(OrderId.generate(), () -> awaitBoth(bothStarted));
+    CompletableFuture<Boolean> second = executor.submit(OrderId.generate(), () -> awaitBoth(bothStarted));
+
+    assertTrue(first.get(5, TimeUnit.SECONDS));
+    assertTrue(second.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void shouldRouteOrderAndDraftCommandsOfSameDraftToOneMailbox() {
+    Order draft = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    executor.execute(draft.getAccountId(), draft.getRestaurantId(), () -> draft, Order::getId);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    Supplier<Integer> command = () -> {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      Thread.yield();
+      running.decrementAndGet();
+      return 0;
+    };
+
+    List<CompletableFuture<Integer>> results = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      results.add(CompletableFuture.supplyAsync(() -> executor.execute(draft.getId(), command)));
+      results.add(CompletableFuture.supplyAsync(() -> executor.execute(draft.getAccountId(),
+          draft.getRestaurantId(), command, value -> draft.getId())));
+    }
+
+    results.forEach(CompletableFuture::join);
+    assertEquals(1, maxRunning.get());
+  }
+
+  @Test
+  void shouldRethrowCommandException() {
+    OrderId orderId = OrderId.generate();
+
+    assertThrows(InvalidOrderException.class, () -> executor.execute(orderId, () -> {
+      throw new InvalidOrderException("Item inexistente.");
+    }));
+    assertEquals(7, executor.execute(orderId, () -> 7));
+  }
+
+  @Test
+  void shouldReportQueueDepthOfHotOrders() throws Exception {
+    OrderId hot = OrderId.generate();
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch started = new CountDownLatch(1);
+
+    List<CompletableFuture<Integer>> results = new ArrayList<>();
+    results.add(executor.submit(hot, () -> {
+      started.countDown();
+      await(release);
+      return 0;
+    }));
+    started.await(5, TimeUnit.SECONDS);
+    for (int i = 1; i <= 3; i++) {
+      int command = i;
+      results.add(executor.submit(hot, () -> command));
+    }
+
+    MailboxMetrics metrics = executor.metrics(5);
+    assertEquals(List.of(new MailboxMetrics.HotMailbox(hot.value().toString(), 3)), metrics.hottest());
+    assertEquals(4, metrics.pendingCommands());
+    assertEquals(3, metrics.maxObservedDepth());
+
+    release.countDown();
+    results.forEach(CompletableFuture::join);
+
+    assertEquals(0, executor.metrics(5).pendingCommands());
+    assertTrue(executor.metrics(5).hottest().isEmpty());
+  }
+
+  private static boolean awaitBoth(CountDownLatch latch) {
+    latch.countDown();
+    try {
+      return latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
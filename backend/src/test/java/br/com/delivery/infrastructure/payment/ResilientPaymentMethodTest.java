@@ -0,0 +1,178 @@
+package br.com.delivery.infrastructure.payment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.domain.payment.FakeApprovedPaymentMethod;
+import br.com.delivery.domain.payment.FakeLatencyPaymentMethod;
+import br.com.delivery.domain.payment.FakePendingPaymentMethod;
+import br.com.delivery.domain.payment.Payment;
+import br.com.delivery.domain.payment.PaymentProcessingResult;
+import br.com.delivery.domain.shared.Currency;
+import br.com.delivery.domain.shared.Money;
+
+class ResilientPaymentMethodTest {
+  private final AtomicLong clock = new AtomicLong();
+
+  @Test
+  void shouldDelegateWhileCircuitIsClosed() {
+    ResilientPaymentMethod method = new ResilientPaymentMethod(new FakeApprovedPaymentMethod(), settings(4, 2),
+        clock::get);
+
+    assertEquals(PaymentProcessingResult.APPROVED, method.process(payment()));
+    assertEquals(CircuitState.CLOSED, method.metrics().state());
+  }
+
+  @Test
+  void shouldOpenAfterFailureRateAndFailFastWithPending() {
+    FakeLatencyPaymentMethod gateway = new FakeLatencyPaymentMethod(Duration.ZERO, PaymentProcessingResult.APPROVED);
+    gateway.setFailing(true);
+    ResilientPaymentMethod method = new ResilientPaymentMethod(gateway, settings(4, 2), clock::get);
+
+    for (int i = 0; i < 4; i++) {
+      assertEquals(PaymentProcessingResult.UNKNOWN, method.process(payment()));
+    }
+    assertEquals(PaymentProcessingResult.UNAVAILABLE, method.process(payment()));
+
+    PaymentResilienceMetrics metrics = method.metrics();
+    assertEquals(4, gateway.calls());
+    assertEquals(CircuitState.OPEN, metrics.state());
+    assertEquals(1, metrics.openTransitions());
+    assertEquals(4, metrics.failedCalls());
+    assertEquals(1, metrics.rejectedByCircuit());
+  }
+
+  @Test
+  void shouldStayClosedWhileFailuresAreBelowThreshold() {
+    FakeLatencyPaymentMethod gateway = new FakeLatencyPaymentMethod(Duration.ZERO, PaymentProcessingResult.APPROVED);
+    ResilientPaymentMethod method = new ResilientPaymentMethod(gateway, settings(4, 2), clock::get);
+
+    for (int i = 0; i < 20; i++) {
+      gateway.setFailing(i % 4 == 0);
+      method.process(payment());
+    }
+
+    assertEquals(CircuitState.CLOSED, method.metrics().state());
+    assertEquals(20, gateway.calls());
+  }
+
+  @Test
+  void shouldCloseAfterSuccessfulTrialCallsInHalfOpen() {
+    FakeLatencyPaymentMethod gateway = new FakeLatencyPaymentMethod(Duration.ZERO, PaymentProcessingResult.APPROVED);
+    ResilientPaymentMethod method = new ResilientPaymentMethod(gateway, settings(4, 2), clock::get);
+    trip(method, gateway);
+
+    clock.addAndGet(Duration.ofSeconds(30).toNanos());
+    gateway.setFailing(false);
+
+    assertEquals(PaymentProcessingResult.APPROVED, method.process(payment()));
+    assertEquals(CircuitState.HALF_OPEN, method.metrics().state());
+    assertEquals(PaymentProcessingResult.APPROVED, method.process(payment()));
+
+    PaymentResilienceMetrics metrics = method.metrics();
+    assertEquals(CircuitState.CLOSED, metrics.state());
+    assertEquals(1, metrics.halfOpenTransitions());
+    assertEquals(1, metrics.closedTransitions());
+  }
+
+  @Test
+  void shouldReopenWhenTrialCallFails() {
+    FakeLatencyPaymentMethod gateway = new FakeLatencyPaymentMethod(Duration.ZERO, PaymentProcessingResult.APPROVED);
+    ResilientPaymentMethod method = new ResilientPaymentMethod(gateway, settings(4, 2), clock::get);
+    trip(method, gateway);
+
+    clock.addAndGet(Duration.ofSeconds(30).toNanos());
+    assertEquals(PaymentProcessingResult.UNKNOWN, method.process(payment()));
+
+    PaymentResilienceMetrics metrics = method.metrics();
+    assertEquals(CircuitState.OPEN, metrics.state());
+    assertEquals(2, metrics.openTransitions());
+    assertEquals(1, metrics.halfOpenTransitions());
+  }
+
+  @Test
+  void shouldAnswerStatusQueriesAsUnknownWhileOpen() {
+    FakePendingPaymentMethod pending = new FakePendingPaymentMethod(0, PaymentProcessingResult.APPROVED);
+    ResilientPaymentMethod method = new ResilientPaymentMethod(pending, settings(1, 1), clock::get);
+    assertEquals(PaymentProcessingResult.APPROVED, method.queryStatus(payment()));
+
+    FakeLatencyPaymentMethod gateway = new FakeLatencyPaymentMethod(Duration.ZERO, PaymentProcessingResult.APPROVED);
+    ResilientPaymentMethod failing = new ResilientPaymentMethod(gateway, settings(4, 2), clock::get);
+    trip(failing, gateway);
+
+    assertEquals(PaymentProcessingResult.UNKNOWN, failing.queryStatus(payment()));
+    assertEquals(4, gateway.calls());
+  }
+
+  @Test
+  void shouldCountSlowCallsAsFailures() {
+    FakeLatencyPaymentMethod gateway = new FakeLatencyPaymentMethod(Duration.ofMillis(20),
+        PaymentProcessingResult.APPROVED);
+    PaymentResilienceSettings settings = new PaymentResilienceSettings(2, 2, 0.5, Duration.ofMillis(5),
+        Duration.ofSeconds(30), 1);
+    ResilientPaymentMethod method = new ResilientPaymentMethod(gateway, settings);
+
+    method.process(payment());
+    method.process(payment());
+
+    assertEquals(CircuitState.OPEN, method.metrics().state());
+    assertEquals(PaymentProcessingResult.UNAVAILABLE, method.process(payment()));
+    assertEquals(2, gateway.calls());
+  }
+
+  @Test
+  void shouldRejectCallsBeyondBulkheadLimit() {
+    FakeLatencyPaymentMethod gateway = new FakeLatencyPaymentMethod(Duration.ofMillis(200),
+        PaymentProcessingResult.APPROVED);
+    PaymentResilienceSettings settings = new PaymentResilienceSettings(2, 16, 0.5, Duration.ofSeconds(5),
+        Duration.ofSeconds(30), 1);
+    ResilientPaymentMethod method = new ResilientPaymentMethod(gateway, settings);
+
+    List<CompletableFuture<PaymentProcessingResult>> calls = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      calls.add(CompletableFuture.supplyAsync(() -> method.process(payment())));
+    }
+    List<PaymentProcessingResult> results = calls.stream().map(CompletableFuture::join).toList();
+
+    PaymentResilienceMetrics metrics = method.metrics();
+    assertTrue(gateway.maxInFlight() <= 2);
+    assertEquals(6, gateway.calls() + metrics.rejectedByBulkhead());
+    assertEquals(metrics.rejectedByBulkhead(), results.stream()
+        .filter(result -> result == PaymentProcessingResult.UNAVAILABLE)
+        .count());
+    assertEquals(CircuitState.CLOSED, metrics.state());
+  }
+
+  @Test
+  void shouldRejectInvalidSettings() {
+    assertThrows(IllegalArgumentException.class, () -> new PaymentResilienceSettings(0, 4, 0.5,
+        Duration.ofSeconds(1), Duration.ofSeconds(1), 1));
+    assertThrows(IllegalArgumentException.class, () -> new PaymentResilienceSettings(1, 4, 1.5,
+        Duration.ofSeconds(1), Duration.ofSeconds(1), 1));
+  }
+
+  private void trip(ResilientPaymentMethod method, FakeLatencyPaymentMethod gateway) {
+    gateway.setFailing(true);
+    for (int i = 0; i < 4; i++) {
+      method.process(payment());
+    }
+    assertEquals(CircuitState.OPEN, method.metrics().state());
+  }
+
+  private static PaymentResilienceSettings settings(int windowSize, int halfOpenCalls) {
+    return new PaymentResilienceSettings(4, windowSize, 0.5, Duration.ofSeconds(5), Duration.ofSeconds(30),
+        halfOpenCalls);
+  }
+
+  private static Payment payment() {
+    return Payment.create(OrderId.generate(), new FakeApprovedPaymentMethod(), Money.of(10.0, Currency.BRL));
+  }
+}
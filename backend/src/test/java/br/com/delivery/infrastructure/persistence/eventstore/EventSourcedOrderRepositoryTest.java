@@ -0,0 +1,152 @@
+package br.com.delivery.infrastructure.persistence.eventstore;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.exception.ConcurrentOrderUpdateException;
+import br.com.delivery.domain.order.Order;
+import br.com.delivery.domain.order.OrderCreated;
+import br.com.delivery.domain.order.OrderEvent;
+import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.domain.order.OrderStatus;
+import br.com.delivery.domain.restaurant.MenuItemCategory;
+import br.com.delivery.domain.restaurant.MenuItemId;
+import br.com.delivery.domain.restaurant.RestaurantId;
+import br.com.delivery.domain.shared.Currency;
+import br.com.delivery.domain.shared.Money;
+
+class EventSourcedOrderRepositoryTest {
+  private final EventSourcedOrderRepository repository = new EventSourcedOrderRepository();
+
+  @Test
+  void shouldRebuildOrderFromAppendedEvents() {
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    MenuItemId menuItemId = MenuItemId.generate();
+    repository.save(order, 0);
+
+    Order loaded = repository.findById(order.getId()).orElseThrow();
+    loaded.addItem(menuItemId, "product", "description", MenuItemCategory.DESSERT, Money.of(12.5, Currency.BRL), 2);
+    repository.save(loaded, loaded.getVersion());
+
+    Order rebuilt = repository.findById(order.getId()).orElseThrow();
+    assertEquals(2, rebuilt.getVersion());
+    assertEquals(menuItemId, rebuilt.getItems().get(0).getMenuItemId());
+    assertEquals(Money.of(25.0, Currency.BRL), rebuilt.total());
+    assertEquals(2, repository.replayLength(order.getId()));
+  }
+
+  @Test
+  void shouldSnapshotToCapReplayLength() {
+    EventSourcedOrderRepository snapshotting = new EventSourcedOrderRepository(4, events -> {
+    });
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    snapshotting.save(order, 0);
+
+    for (int i = 0; i < 10; i++) {
+      Order loaded = snapshotting.findById(order.getId()).orElseThrow();
+      loaded.addItem(MenuItemId.generate(), "product", "description", MenuItemCategory.DESSERT,
+          Money.of(1.0, Currency.BRL), 1);
+      snapshotting.save(loaded, loaded.getVersion());
+      assertTrue(snapshotting.replayLength(order.getId()) < 4);
+    }
+
+    Order rebuilt = snapshotting.findById(order.getId()).orElseThrow();
+    assertEquals(10, rebuilt.getItems().size());
+    assertEquals(11, rebuilt.getVersion());
+  }
+
+  @Test
+  void shouldRejectAppendWithStaleVersionWithoutPublishing() {
+    List<OrderEvent> published = new ArrayList<>();
+    EventSourcedOrderRepository publishing = new EventSourcedOrderRepository(8, published::addAll);
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    publishing.save(order, 0);
+
+    Order first = publishing.findById(order.getId()).orElseThrow();
+    Order second = publishing.findById(order.getId()).orElseThrow();
+    first.markAsCancelled();
+    second.markAsCancelled();
+    publishing.save(first, first.getVersion());
+
+    assertThrows(ConcurrentOrderUpdateException.class, () -> publishing.save(second, second.getVersion()));
+    assertEquals(2, published.size());
+    assertInstanceOf(OrderCreated.class, published.get(0));
+    assertEquals(OrderStatus.CANCELLED, publishing.findById(order.getId()).orElseThrow().getStatus());
+  }
+
+  @Test
+  void shouldRejectSecondDraftForSameClientAndRestaurant() {
+    AccountId accountId = AccountId.generate();
+    RestaurantId restaurantId = RestaurantId.generate();
+    Order draft = Order.create(restaurantId, accountId, Currency.BRL);
+    repository.save(draft, 0);
+
+    Order competing = Order.create(restaurantId, accountId, Currency.BRL);
+
+    assertThrows(ConcurrentOrderUpdateException.class, () -> repository.save(competing, 0));
+    assertEquals(draft.getId(),
+        repository.findDraftByClientAndRestaurant(accountId, restaurantId).orElseThrow().getId());
+  }
+
+  @Test
+  void shouldServeQueriesFromProjections() {
+    AccountId accountId = AccountId.generate();
+    RestaurantId restaurantId = RestaurantId.generate();
+    Order cancelled = Order.create(restaurantId, accountId, Currency.BRL);
+    repository.save(cancelled, 0);
+    cancelled.markAsCancelled();
+    repository.save(cancelled, cancelled.getVersion());
+    Order draft = Order.create(restaurantId, accountId, Currency.BRL);
+    repository.save(draft, 0);
+
+    assertEquals(List.of(draft.getId(), cancelled.getId()), ids(repository.findAllByClientId(accountId)));
+    assertEquals(List.of(cancelled.getId()),
+        ids(repository.findAllByRestaurantAndStatus(restaurantId, OrderStatus.CANCELLED)));
+    assertEquals(1, repository.countByRestaurantAndStatus(restaurantId, OrderStatus.DRAFT));
+    assertTrue(repository.findDraftByClientAndRestaurant(accountId, restaurantId).isPresent());
+  }
+
+  @Test
+  void shouldKeepStreamAndProjectionsInAgreementAfterStaleUnconditionalSave() {
+    RestaurantId restaurantId = RestaurantId.generate();
+    Order order = Order.create(restaurantId, AccountId.generate(), Currency.BRL);
+    repository.save(order);
+    Order stale = repository.findById(order.getId()).orElseThrow();
+
+    order.markAsCancelled();
+    repository.save(order);
+    repository.save(order);
+    repository.save(stale);
+
+    Order found = repository.findById(order.getId()).orElseThrow();
+    assertEquals(4, found.getVersion());
+    assertEquals(OrderStatus.DRAFT, found.getStatus());
+    assertEquals(List.of(order.getId()), ids(repository.findAllByRestaurantAndStatus(restaurantId, OrderStatus.DRAFT)));
+    assertTrue(repository.findAllByRestaurantAndStatus(restaurantId, OrderStatus.CANCELLED).isEmpty());
+  }
+
+  @Test
+  void shouldStartStreamFromSnapshotForRestoredOrders() {
+    Order restored = Order.restore(OrderId.generate(), RestaurantId.generate(), AccountId.generate(), Currency.BRL,
+        LocalDateTime.now(), OrderStatus.PAID, List.of(), List.of(), null, Money.zero(Currency.BRL), null, null, null,
+        null);
+    repository.save(restored);
+
+    Order loaded = repository.findById(restored.getId()).orElseThrow();
+    loaded.markAsCancelled();
+    repository.save(loaded, loaded.getVersion());
+
+    assertEquals(OrderStatus.CANCELLED, repository.findById(restored.getId()).orElseThrow().getStatus());
+    assertEquals(1, repository.replayLength(restored.getId()));
+  }
+
+  private static List<OrderId> ids(List<Order> orders) {
+    return orders.stream().map(Order::getId).toList();
+  }
+}
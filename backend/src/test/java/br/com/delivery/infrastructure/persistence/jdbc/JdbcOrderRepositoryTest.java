@@ -0,0 +1,227 @@
+package br.com.delivery.infrastructure.persistence.jdbc;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.exception.ConcurrentOrderUpdateException;
+import br.com.delivery.domain.order.Order;
+import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.domain.order.OrderItem;
+import br.com.delivery.domain.order.OrderPage;
+import br.com.delivery.domain.order.OrderStatus;
+import br.com.delivery.domain.payment.PaymentId;
+import br.com.delivery.domain.restaurant.MenuItemCategory;
+import br.com.delivery.domain.restaurant.MenuItemId;
+import br.com.delivery.domain.restaurant.RestaurantId;
+import br.com.delivery.domain.shared.Address;
+import br.com.delivery.domain.shared.Currency;
+import br.com.delivery.domain.shared.Money;
+import br.com.delivery.domain.shared.ZipCode;
+
+class JdbcOrderRepositoryTest {
+  private final Address address = new Address("street", "2", null, "city", "country", new ZipCode("36704-072"));
+  private JdbcOrderRepository repository;
+
+  @BeforeEach
+  void setup() {
+    JdbcDataSource dataSource = new JdbcDataSource();
+    dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+    repository = new JdbcOrderRepository(JdbcSchema.initialize(dataSource).dataSource());
+  }
+
+  @Test
+  void shouldRoundTripOrderWithItemsPaymentsAndTimestamps() {
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    order.addItem(item("Brownie", 2));
+    order.addItem(item("Cookie", 1));
+    order.changeDeliveryAddress(address, Money.ofMinorUnits(500, Currency.BRL));
+    PaymentId paymentId = PaymentId.generate();
+    order.registerPayment(paymentId);
+    order.markAsPaid();
+    repository.save(order);
+
+    Order found = repository.findById(order.getId()).orElseThrow();
+
+    assertEquals(OrderStatus.PAID, found.getStatus());
+    assertEquals(order.getCreatedAt(), found.getCreatedAt());
+    assertEquals(order.getPaidAt(), found.getPaidAt());
+    assertEquals(List.of(paymentId), found.getPayments());
+    assertEquals(address, found.getDeliveryAddress());
+    assertEquals(order.grandTotal(), found.grandTotal());
+    assertEquals(List.of("Brownie", "Cookie"),
+        found.getItems().stream().map(OrderItem::getMenuItemName).toList());
+    assertEquals(3, found.getItems().get(0).getMenuVersion());
+  }
+
+  @Test
+  void shouldRejectSaveWithStaleVersion() {
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    order.addItem(item("Brownie", 1));
+    repository.save(order, 0);
+
+    Order first = repository.findById(order.getId()).orElseThrow();
+    Order second = repository.findById(order.getId()).orElseThrow();
+    first.markAsCancelled();
+    repository.save(first, first.getVersion());
+    second.addItem(item("Cookie", 1));
+
+    assertEquals(2, first.getVersion());
+    assertThrows(ConcurrentOrderUpdateException.class, () -> repository.save(second, second.getVersion()));
+    Order found = repository.findById(order.getId()).orElseThrow();
+    assertEquals(OrderStatus.CANCELLED, found.getStatus());
+    assertEquals(1, found.getItems().size());
+    assertThrows(ConcurrentOrderUpdateException.class, () -> repository.save(order, 0));
+  }
+
+  @Test
+  void shouldAdvanceStoredVersionWhenStaleOrderIsSavedUnconditionally() {
+    RestaurantId restaurantId = RestaurantId.generate();
+    Order order = Order.create(restaurantId, AccountId.generate(), Currency.BRL);
+    repository.save(order);
+    Order stale = repository.findById(order.getId()).orElseThrow();
+
+    order.markAsCancelled();
+    repository.save(order);
+    repository.save(order);
+    repository.save(stale);
+
+    Order found = repository.findById(order.getId()).orElseThrow();
+    assertEquals(4, found.getVersion());
+    assertEquals(4, stale.getVersion());
+    assertEquals(OrderStatus.DRAFT, found.getStatus());
+    assertThrows(ConcurrentOrderUpdateException.class, () -> repository.save(order, order.getVersion()));
+  }
+
+  @Test
+  void shouldRejectSecondDraftForSameClientAndRestaurant() {
+    AccountId accountId = AccountId.generate();
+    RestaurantId restaurantId = RestaurantId.generate();
+    Order first = Order.create(restaurantId, accountId, Currency.BRL);
+    repository.save(first, 0);
+    Order second = Order.create(restaurantId, accountId, Currency.BRL);
+
+    assertThrows(ConcurrentOrderUpdateException.class, () -> repository.save(second, 0));
+
+    first.markAsCancelled();
+    repository.save(first, first.getVersion());
+    repository.save(second, 0);
+    assertEquals(second.getId(), repository.findDraftByClientAndRestaurant(accountId, restaurantId)
+        .orElseThrow().getId());
+  }
+
+  @Test
+  void shouldUpsertChangedItemsAndDeleteRemovedOnes() {
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    OrderItem brownie = item("Brownie", 1);
+    OrderItem cookie = item("Cookie", 1);
+    order.addItems(List.of(brownie, cookie));
+    repository.save(order);
+
+    order.addItem(item(brownie.getMenuItemId(), "Brownie", 2));
+    order.removeItem(cookie.getMenuItemId());
+    repository.save(order);
+
+    List<OrderItem> items = repository.findById(order.getId()).orElseThrow().getItems();
+    assertEquals(1, items.size());
+    assertEquals(brownie.getMenuItemId(), items.get(0).getMenuItemId());
+    assertEquals(3, items.get(0).getQuantity());
+
+    order.removeItem(brownie.getMenuItemId());
+    repository.save(order);
+
+    assertTrue(repository.findById(order.getId()).orElseThrow().getItems().isEmpty());
+  }
+
+  @Test
+  void shouldFindDraftByClientAndRestaurant() {
+    AccountId accountId = AccountId.generate();
+    RestaurantId restaurantId = RestaurantId.generate();
+    Order order = Order.create(restaurantId, accountId, Currency.BRL);
+    repository.save(order);
+
+    assertEquals(order.getId(),
+        repository.findDraftByClientAndRestaurant(accountId, restaurantId).orElseThrow().getId());
+    assertTrue(repository.findDraftByClientAndRestaurant(accountId, RestaurantId.generate()).isEmpty());
+
+    order.markAsCancelled();
+    repository.save(order);
+
+    assertTrue(repository.findDraftByClientAndRestaurant(accountId, restaurantId).isEmpty());
+  }
+
+  @Test
+  void shouldPageClientOrdersFromNewestToOldest() {
+    AccountId accountId = AccountId.generate();
+    LocalDateTime now = LocalDateTime.now();
+    Order oldest = restoreOrder(accountId, now.minusDays(2));
+    Order middle = restoreOrder(accountId, now.minusDays(1));
+    Order newest = restoreOrder(accountId, now);
+    repository.save(middle);
+    repository.save(newest);
+    repository.save(oldest);
+    repository.save(Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL));
+
+    OrderPage firstPage = repository.findPageByClientId(accountId, null, 2);
+
+    assertEquals(ids(newest, middle), ids(firstPage.orders()));
+    assertTrue(firstPage.hasNext());
+
+    OrderPage secondPage = repository.findPageByClientId(accountId, firstPage.nextCursor(), 2);
+
+    assertEquals(ids(oldest), ids(secondPage.orders()));
+    assertFalse(secondPage.hasNext());
+    assertEquals(ids(newest, middle, oldest), ids(repository.findAllByClientId(accountId)));
+  }
+
+  @Test
+  void shouldListAndCountRestaurantOrdersByStatus() {
+    RestaurantId restaurantId = RestaurantId.generate();
+    LocalDateTime now = LocalDateTime.now();
+    Order newest = restoreOrder(restaurantId, now, OrderStatus.PAID);
+    Order oldest = restoreOrder(restaurantId, now.minusMinutes(10), OrderStatus.PAID);
+    repository.save(newest);
+    repository.save(oldest);
+    repository.save(restoreOrder(restaurantId, now, OrderStatus.CONFIRMED));
+    repository.save(restoreOrder(RestaurantId.generate(), now, OrderStatus.PAID));
+
+    assertEquals(ids(oldest, newest), ids(repository.findAllByRestaurantAndStatus(restaurantId, OrderStatus.PAID)));
+    assertEquals(2, repository.countByRestaurantAndStatus(restaurantId, OrderStatus.PAID));
+    assertEquals(1, repository.countByRestaurantAndStatus(restaurantId, OrderStatus.CONFIRMED));
+    assertEquals(0, repository.countByRestaurantAndStatus(restaurantId, OrderStatus.DRAFT));
+  }
+
+  private static List<OrderId> ids(Order... orders) {
+    return ids(List.of(orders));
+  }
+
+  private static List<OrderId> ids(List<Order> orders) {
+    return orders.stream().map(Order::getId).toList();
+  }
+
+  private static OrderItem item(String name, int quantity) {
+    return item(MenuItemId.generate(), name, quantity);
+  }
+
+  private static OrderItem item(MenuItemId id, String name, int quantity) {
+    return new OrderItem(id, name, "Quente", MenuItemCategory.DESSERT, Money.ofMinorUnits(1890, Currency.BRL),
+        quantity, 3);
+  }
+
+  private Order restoreOrder(AccountId accountId, LocalDateTime createdAt) {
+    return Order.restore(OrderId.generate(), RestaurantId.generate(), accountId, Currency.BRL, createdAt,
+        OrderStatus.DRAFT, List.of(), List.of(), null, Money.zero(Currency.BRL), null, null, null, null);
+  }
+
+  private Order restoreOrder(RestaurantId restaurantId, LocalDateTime createdAt, OrderStatus status) {
+    return Order.restore(OrderId.generate(), restaurantId, AccountId.generate(), Currency.BRL, createdAt,
+        status, List.of(), List.of(), null, Money.zero(Currency.BRL), null, null, null, null);
+  }
+}
@@ -0,0 +1,106 @@
+package br.com.delivery.infrastructure.persistence.jdbc;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.restaurant.MenuItem;
+import br.com.delivery.domain.restaurant.MenuItemCategory;
+import br.com.delivery.domain.restaurant.OpeningHours;
+import br.com.delivery.domain.restaurant.Restaurant;
+import br.com.delivery.domain.restaurant.RestaurantId;
+import br.com.delivery.domain.restaurant.RestaurantStatus;
+import br.com.delivery.domain.shared.Address;
+import br.com.delivery.domain.shared.Currency;
+import br.com.delivery.domain.shared.Money;
+import br.com.delivery.domain.shared.ZipCode;
+
+class JdbcRestaurantRepositoryTest {
+  private final OpeningHours hours = new OpeningHours(LocalTime.of(8, 0), LocalTime.of(18, 0));
+  private final Address address = new Address("street", "2", "House", "city", "country", new ZipCode("36704-072"));
+  private JdbcRestaurantRepository repository;
+
+  @BeforeEach
+  void setup() {
+    JdbcDataSource dataSource = new JdbcDataSource();
+    dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+    repository = new JdbcRestaurantRepository(JdbcSchema.initialize(dataSource).dataSource());
+  }
+
+  @Test
+  void shouldRoundTripRestaurantWithMenu() {
+    Restaurant restaurant = Restaurant.create(AccountId.generate(), "Doce Ponto", hours, address);
+    restaurant.changeCurrency(Currency.BRL);
+    restaurant.addMenuItem("Brownie", "Quente", MenuItemCategory.DESSERT, Money.ofMinorUnits(1890, Currency.BRL));
+    restaurant.addMenuItem("Cookie", "Crocante", MenuItemCategory.DESSERT, Money.ofMinorUnits(990, Currency.BRL));
+    restaurant.getMenu().get(1).deactivate();
+    restaurant.openRestaurant(LocalTime.of(12, 0));
+    repository.save(restaurant);
+
+    Restaurant found = repository.findById(restaurant.getId()).orElseThrow();
+
+    assertEquals("Doce Ponto", found.getName());
+    assertEquals(hours, found.getOpeningHours());
+    assertEquals(address, found.getAddress());
+    assertEquals(Currency.BRL, found.getCurrency());
+    assertEquals(RestaurantStatus.OPEN, found.getStatus());
+    assertEquals(1, found.currentMenu().version());
+    assertEquals(List.of("Brownie", "Cookie"), found.getMenu().stream().map(MenuItem::getName).toList());
+    assertFalse(found.getMenu().get(1).isActive());
+    assertEquals(Money.ofMinorUnits(990, Currency.BRL), found.getMenu().get(1).currentPrice());
+    assertTrue(repository.existsById(restaurant.getId()));
+  }
+
+  @Test
+  void shouldDeleteRemovedMenuItemsOnSave() {
+    Restaurant restaurant = Restaurant.create(AccountId.generate(), "Doce Ponto", hours, address);
+    restaurant.addMenuItem("Brownie", "Quente", MenuItemCategory.DESSERT, Money.ofMinorUnits(1890, Currency.BRL));
+    restaurant.addMenuItem("Cookie", "Crocante", MenuItemCategory.DESSERT, Money.ofMinorUnits(990, Currency.BRL));
+    repository.save(restaurant);
+
+    restaurant.removeMenuItem(restaurant.getMenu().get(0).getId());
+    repository.save(restaurant);
+
+    assertEquals(List.of("Cookie"),
+        repository.findById(restaurant.getId()).orElseThrow().getMenu().stream().map(MenuItem::getName).toList());
+  }
+
+  @Test
+  void shouldFindAllRestaurantsOfOwner() {
+    AccountId ownerId = AccountId.generate();
+    Restaurant first = Restaurant.create(ownerId, "first", hours, address);
+    Restaurant second = Restaurant.create(ownerId, "second", hours, address);
+    repository.save(first);
+    repository.save(second);
+    repository.save(first);
+    repository.save(Restaurant.create(AccountId.generate(), "other", hours, address));
+
+    List<Restaurant> restaurants = repository.findAllByOwnerId(ownerId);
+
+    assertEquals(Set.of(first, second), Set.copyOf(restaurants));
+    assertEquals(2, restaurants.size());
+  }
+
+  @Test
+  void shouldFindAllByIdsIgnoringMissingOnes() {
+    Restaurant first = Restaurant.create(AccountId.generate(), "first", hours, address);
+    Restaurant second = Restaurant.create(AccountId.generate(), "second", hours, address);
+    repository.save(first);
+    repository.save(second);
+
+    List<Restaurant> restaurants = repository.findAllByIds(
+        List.of(second.getId(), RestaurantId.generate(), first.getId()));
+
+    assertEquals(List.of(second, first), restaurants);
+    assertTrue(repository.findAllByIds(List.of()).isEmpty());
+    assertFalse(repository.existsById(RestaurantId.generate()));
+  }
+}
@@ -0,0 +1,304 @@
+package br.com.delivery.infrastructure.persistence.memory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.exception.ConcurrentOrderUpdateException;
+import br.com.delivery.domain.order.Order;
+import br.com.delivery.domain.order.OrderCancelled;
+import br.com.delivery.domain.order.OrderEvent;
+import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.domain.order.OrderPage;
+import br.com.delivery.domain.order.OrderStatus;
+import br.com.delivery.domain.restaurant.RestaurantId;
+import br.com.delivery.domain.shared.Currency;
+import br.com.delivery.domain.shared.Money;
+
+class InMemoryOrderRepositoryTest {
+  private InMemoryOrderRepository repository;
+
+  @BeforeEach
+  void setup() {
+    repository = new InMemoryOrderRepository();
+  }
+
+  @Test
+  void shouldFindDraftByClientAndRestaurant() {
+    AccountId accountId = AccountId.generate();
+    RestaurantId restaurantId = RestaurantId.generate();
+    Order order = Order.create(restaurantId, accountId, Currency.BRL);
+    repository.save(order);
+
+    Order found = repository.findDraftByClientAndRestaurant(accountId, restaurantId).orElseThrow();
+
+    assertEquals(order.getId(), found.getId());
+  }
+
+  @Test
+  void shouldNotFindDraftForAnotherRestaurant() {
+    AccountId accountId = AccountId.generate();
+    repository.save(Order.create(RestaurantId.generate(), accountId, Currency.BRL));
+
+    assertTrue(repository.findDraftByClientAndRestaurant(accountId, RestaurantId.generate()).isEmpty());
+  }
+
+  @Test
+  void shouldRemoveDraftFromIndexWhenSavedWithAnotherStatus() {
+    AccountId accountId = AccountId.generate();
+    RestaurantId restaurantId = RestaurantId.generate();
+    Order order = Order.create(restaurantId, accountId, Currency.BRL);
+    repository.save(order);
+
+    order.markAsCancelled();
+    repository.save(order);
+
+    assertTrue(repository.findDraftByClientAndRestaurant(accountId, restaurantId).isEmpty());
+    assertTrue(repository.findById(order.getId()).isPresent());
+  }
+
+  @Test
+  void shouldNotExposeChangesMadeBeforeSave() {
+    AccountId accountId = AccountId.generate();
+    RestaurantId restaurantId = RestaurantId.generate();
+    Order order = Order.create(restaurantId, accountId, Currency.BRL);
+    repository.save(order);
+
+    order.markAsCancelled();
+    repository.findById(order.getId()).orElseThrow().markAsCancelled();
+
+    Order stored = repository.findDraftByClientAndRestaurant(accountId, restaurantId).orElseThrow();
+    assertEquals(OrderStatus.DRAFT, stored.getStatus());
+  }
+
+  @Test
+  void shouldIncrementVersionOnConditionalSave() {
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    repository.save(order, 0);
+    assertEquals(1, order.getVersion());
+
+    Order loaded = repository.findById(order.getId()).orElseThrow();
+    loaded.markAsCancelled();
+    repository.save(loaded, loaded.getVersion());
+
+    assertEquals(2, loaded.getVersion());
+    assertEquals(2, repository.findById(order.getId()).orElseThrow().getVersion());
+  }
+
+  @Test
+  void shouldRejectSaveWithStaleVersion() {
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    repository.save(order, 0);
+
+    Order first = repository.findById(order.getId()).orElseThrow();
+    Order second = repository.findById(order.getId()).orElseThrow();
+    first.markAsCancelled();
+    repository.save(first, first.getVersion());
+
+    assertThrows(ConcurrentOrderUpdateException.class, () -> repository.save(second, second.getVersion()));
+    assertEquals(OrderStatus.CANCELLED, repository.findById(order.getId()).orElseThrow().getStatus());
+  }
+
+  @Test
+  void shouldPublishEventsOnlyForSuccessfulSaves() {
+    List<OrderEvent> published = new ArrayList<>();
+    InMemoryOrderRepository publishing = new InMemoryOrderRepository(published::addAll);
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    publishing.save(order, 0);
+    published.clear();
+
+    Order first = publishing.findById(order.getId()).orElseThrow();
+    Order second = publishing.findById(order.getId()).orElseThrow();
+    first.markAsCancelled();
+    second.markAsCancelled();
+    publishing.save(first, first.getVersion());
+
+    assertThrows(ConcurrentOrderUpdateException.class, () -> publishing.save(second, second.getVersion()));
+    assertEquals(1, published.size());
+    assertInstanceOf(OrderCancelled.class, published.get(0));
+    assertEquals(order.getId(), published.get(0).orderId());
+  }
+
+  @Test
+  void shouldRejectSecondDraftForSameClientAndRestaurant() {
+    AccountId accountId = AccountId.generate();
+    RestaurantId restaurantId = RestaurantId.generate();
+    Order first = Order.create(restaurantId, accountId, Currency.BRL);
+    repository.save(first, 0);
+
+    Order second = Order.create(restaurantId, accountId, Currency.BRL);
+
+    assertThrows(ConcurrentOrderUpdateException.class, () -> repository.save(second, 0));
+    assertEquals(first.getId(), repository.findDraftByClientAndRestaurant(accountId, restaurantId)
+        .orElseThrow().getId());
+  }
+
+  @Test
+  void shouldKeepNewestVersionWhenRestoringOutOfOrder() {
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    repository.save(order, 0);
+    Order draft = repository.findById(order.getId()).orElseThrow();
+    order.markAsCancelled();
+    repository.save(order, 1);
+
+    InMemoryOrderRepository restored = new InMemoryOrderRepository();
+    restored.restore(order);
+    restored.restore(draft);
+
+    Order loaded = restored.findById(order.getId()).orElseThrow();
+    assertEquals(2, loaded.getVersion());
+    assertEquals(OrderStatus.CANCELLED, loaded.getStatus());
+    assertEquals(0, restored.countByRestaurantAndStatus(order.getRestaurantId(), OrderStatus.DRAFT));
+  }
+
+  @Test
+  void shouldKeepNewDraftWhenOldOrderIsSavedAfterIt() {
+    AccountId accountId = AccountId.generate();
+    RestaurantId restaurantId = RestaurantId.generate();
+    Order oldOrder = Order.create(restaurantId, accountId, Currency.BRL);
+    repository.save(oldOrder);
+    oldOrder.markAsCancelled();
+
+    Order newOrder = Order.create(restaurantId, accountId, Currency.BRL);
+    repository.save(newOrder);
+    repository.save(oldOrder);
+
+    Order found = repository.findDraftByClientAndRestaurant(accountId, restaurantId).orElseThrow();
+
+    assertEquals(newOrder.getId(), found.getId());
+  }
+
+  @Test
+  void shouldPageClientOrdersFromNewestToOldest() {
+    AccountId accountId = AccountId.generate();
+    LocalDateTime now = LocalDateTime.now();
+    Order oldest = restoreOrder(accountId, now.minusDays(2));
+    Order middle = restoreOrder(accountId, now.minusDays(1));
+    Order newest = restoreOrder(accountId, now);
+    repository.save(middle);
+    repository.save(newest);
+    repository.save(oldest);
+    repository.save(Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL));
+
+    OrderPage firstPage = repository.findPageByClientId(accountId, null, 2);
+
+    assertEquals(ids(newest, middle), ids(firstPage.orders()));
+    assertTrue(firstPage.hasNext());
+
+    OrderPage secondPage = repository.findPageByClientId(accountId, firstPage.nextCursor(), 2);
+
+    assertEquals(ids(oldest), ids(secondPage.orders()));
+    assertFalse(secondPage.hasNext());
+  }
+
+  @Test
+  void shouldNotDuplicateClientOrderWhenSavedTwice() {
+    AccountId accountId = AccountId.generate();
+    Order order = Order.create(RestaurantId.generate(), accountId, Currency.BRL);
+    repository.save(order);
+    repository.save(order);
+
+    assertEquals(1, repository.findAllByClientId(accountId).size());
+    assertEquals(1, repository.findPageByClientId(accountId, null, 10).orders().size());
+  }
+
+  @Test
+  void shouldReturnEmptyPageWhenClientHasNoOrders() {
+    OrderPage page = repository.findPageByClientId(AccountId.generate(), null, 10);
+
+    assertTrue(page.orders().isEmpty());
+    assertFalse(page.hasNext());
+  }
+
+  @Test
+  void shouldMoveOrderBetweenRestaurantStatusIndexesOnSave() {
+    RestaurantId restaurantId = RestaurantId.generate();
+    Order order = Order.create(restaurantId, AccountId.generate(), Currency.BRL);
+    repository.save(order);
+
+    assertEquals(ids(order), ids(repository.findAllByRestaurantAndStatus(restaurantId, OrderStatus.DRAFT)));
+
+    order.markAsCancelled();
+    repository.save(order);
+
+    assertTrue(repository.findAllByRestaurantAndStatus(restaurantId, OrderStatus.DRAFT).isEmpty());
+    assertEquals(0, repository.countByRestaurantAndStatus(restaurantId, OrderStatus.DRAFT));
+    assertEquals(ids(order), ids(repository.findAllByRestaurantAndStatus(restaurantId, OrderStatus.CANCELLED)));
+    assertEquals(1, repository.countByRestaurantAndStatus(restaurantId, OrderStatus.CANCELLED));
+  }
+
+  @Test
+  void shouldAdvanceStoredVersionWhenStaleOrderIsSavedUnconditionally() {
+    RestaurantId restaurantId = RestaurantId.generate();
+    Order order = Order.create(restaurantId, AccountId.generate(), Currency.BRL);
+    repository.save(order);
+    Order stale = repository.findById(order.getId()).orElseThrow();
+
+    order.markAsCancelled();
+    repository.save(order);
+    repository.save(order);
+    repository.save(stale);
+
+    assertEquals(4, repository.findById(order.getId()).orElseThrow().getVersion());
+    assertEquals(OrderStatus.DRAFT, repository.findById(order.getId()).orElseThrow().getStatus());
+    assertEquals(1, repository.countByRestaurantAndStatus(restaurantId, OrderStatus.DRAFT));
+    assertEquals(0, repository.countByRestaurantAndStatus(restaurantId, OrderStatus.CANCELLED));
+  }
+
+  @Test
+  void findAllShouldReturnCopiesOfStoredOrders() {
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    repository.save(order);
+
+    repository.findAll().iterator().next().markAsCancelled();
+
+    assertEquals(OrderStatus.DRAFT, repository.findById(order.getId()).orElseThrow().getStatus());
+  }
+
+  @Test
+  void shouldListRestaurantOrdersByStatusFromOldestToNewest() {
+    RestaurantId restaurantId = RestaurantId.generate();
+    LocalDateTime now = LocalDateTime.now();
+    Order newest = restoreOrder(restaurantId, now, OrderStatus.PAID);
+    Order oldest = restoreOrder(restaurantId, now.minusMinutes(10), OrderStatus.PAID);
+    repository.save(newest);
+    repository.save(oldest);
+    repository.save(restoreOrder(restaurantId, now, OrderStatus.CONFIRMED));
+    repository.save(restoreOrder(RestaurantId.generate(), now, OrderStatus.PAID));
+
+    assertEquals(ids(oldest, newest), ids(repository.findAllByRestaurantAndStatus(restaurantId, OrderStatus.PAID)));
+    assertEquals(1, repository.countByRestaurantAndStatus(restaurantId, OrderStatus.CONFIRMED));
+  }
+
+  @Test
+  void shouldReturnNoOrdersForUnknownRestaurant() {
+    RestaurantId restaurantId = RestaurantId.generate();
+
+    assertTrue(repository.findAllByRestaurantAndStatus(restaurantId, OrderStatus.PAID).isEmpty());
+    assertEquals(0, repository.countByRestaurantAndStatus(restaurantId, OrderStatus.PAID));
+  }
+
+  private Order restoreOrder(AccountId accountId, LocalDateTime createdAt) {
+    return Order.restore(OrderId.generate(), RestaurantId.generate(), accountId, Currency.BRL, createdAt,
+        OrderStatus.DRAFT, List.of(), List.of(), null, Money.zero(Currency.BRL), null, null, null, null);
+  }
+
+  private Order restoreOrder(RestaurantId restaurantId, LocalDateTime createdAt, OrderStatus status) {
+    return Order.restore(OrderId.generate(), restaurantId, AccountId.generate(), Currency.BRL, createdAt,
+        status, List.of(), List.of(), null, Money.zero(Currency.BRL), null, null, null, null);
+  }
+
+  private static List<OrderId> ids(Order... orders) {
+    return ids(List.of(orders));
+  }
+
+  private static List<OrderId> ids(List<Order> orders) {
+    return orders.stream().map(Order::getId).toList();
+  }
+}
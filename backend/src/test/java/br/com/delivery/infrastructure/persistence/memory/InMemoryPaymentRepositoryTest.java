@@ -0,0 +1,70 @@
+package br.com.delivery.infrastructure.persistence.memory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.domain.payment.FakeApprovedPaymentMethod;
+import br.com.delivery.domain.payment.FakeRejectedPaymentMethod;
+import br.com.delivery.domain.payment.Payment;
+import br.com.delivery.domain.payment.PaymentId;
+import br.com.delivery.domain.payment.PaymentStatus;
+import br.com.delivery.domain.shared.Currency;
+import br.com.delivery.domain.shared.Money;
+
+class InMemoryPaymentRepositoryTest {
+  private final InMemoryPaymentRepository repository = new InMemoryPaymentRepository();
+
+  @Test
+  void shouldFindPaymentsOfAnOrder() {
+    OrderId orderId = OrderId.generate();
+    Payment first = payment(orderId);
+    Payment second = payment(orderId);
+    repository.save(first);
+    repository.save(second);
+    repository.save(payment(OrderId.generate()));
+
+    assertEquals(Set.of(first.getId(), second.getId()), ids(repository.findAllByOrderId(orderId)));
+    assertTrue(repository.findAllByOrderId(OrderId.generate()).isEmpty());
+  }
+
+  @Test
+  void shouldMovePaymentBetweenStatusIndexesOnSave() {
+    Payment approved = payment(OrderId.generate());
+    Payment pending = payment(OrderId.generate());
+    repository.save(approved);
+    repository.save(pending);
+
+    approved.process();
+    repository.save(approved);
+
+    assertEquals(Set.of(pending.getId()), ids(repository.findAllByStatus(PaymentStatus.PENDING)));
+    assertEquals(Set.of(approved.getId()), ids(repository.findAllByStatus(PaymentStatus.APPROVED)));
+    assertEquals(1, repository.countByStatus(PaymentStatus.PENDING));
+  }
+
+  @Test
+  void shouldNotExposeChangesMadeBeforeSave() {
+    Payment payment = Payment.create(OrderId.generate(), new FakeRejectedPaymentMethod(), Money.of(10.0, Currency.BRL));
+    repository.save(payment);
+
+    payment.process();
+
+    assertEquals(PaymentStatus.PENDING, repository.findById(payment.getId()).orElseThrow().getStatus());
+    assertEquals(1, repository.countByStatus(PaymentStatus.PENDING));
+    assertTrue(repository.findById(PaymentId.generate()).isEmpty());
+  }
+
+  private static Payment payment(OrderId orderId) {
+    return Payment.create(orderId, new FakeApprovedPaymentMethod(), Money.of(10.0, Currency.BRL));
+  }
+
+  private static Set<PaymentId> ids(List<Payment> payments) {
+    return payments.stream().map(Payment::getId).collect(Collectors.toSet());
+  }
+}
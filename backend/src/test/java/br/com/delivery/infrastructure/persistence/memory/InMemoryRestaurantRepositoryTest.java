@@ -0,0 +1,62 @@
+package br.com.delivery.infrastructure.persistence.memory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.restaurant.OpeningHours;
+import br.com.delivery.domain.restaurant.Restaurant;
+import br.com.delivery.domain.restaurant.RestaurantId;
+import br.com.delivery.domain.shared.Address;
+import br.com.delivery.domain.shared.ZipCode;
+
+class InMemoryRestaurantRepositoryTest {
+  private final OpeningHours hours = new OpeningHours(LocalTime.of(8, 0), LocalTime.of(18, 0));
+  private final Address address = new Address("street", "2", "House", "city", "country", new ZipCode("36704-072"));
+  private InMemoryRestaurantRepository repository;
+
+  @BeforeEach
+  void setup() {
+    repository = new InMemoryRestaurantRepository();
+  }
+
+  @Test
+  void shouldFindAllRestaurantsOfOwner() {
+    AccountId ownerId = AccountId.generate();
+    Restaurant first = Restaurant.create(ownerId, "first", hours, address);
+    Restaurant second = Restaurant.create(ownerId, "second", hours, address);
+    repository.save(first);
+    repository.save(second);
+    repository.save(first);
+    repository.save(Restaurant.create(AccountId.generate(), "other", hours, address));
+
+    List<Restaurant> restaurants = repository.findAllByOwnerId(ownerId);
+
+    assertEquals(Set.of(first, second), Set.copyOf(restaurants));
+    assertEquals(2, restaurants.size());
+  }
+
+  @Test
+  void shouldReturnEmptyListForOwnerWithoutRestaurants() {
+    assertTrue(repository.findAllByOwnerId(AccountId.generate()).isEmpty());
+  }
+
+  @Test
+  void shouldFindAllByIdsIgnoringMissingOnes() {
+    Restaurant first = Restaurant.create(AccountId.generate(), "first", hours, address);
+    Restaurant second = Restaurant.create(AccountId.generate(), "second", hours, address);
+    repository.save(first);
+    repository.save(second);
+
+    List<Restaurant> restaurants = repository.findAllByIds(
+        List.of(second.getId(), RestaurantId.generate(), first.getId()));
+
+    assertEquals(List.of(second, first), restaurants);
+  }
+}
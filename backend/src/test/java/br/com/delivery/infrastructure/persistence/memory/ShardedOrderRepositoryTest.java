@@ -0,0 +1,124 @@
+package br.com.delivery.infrastructure.persistence.memory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.exception.ConcurrentOrderUpdateException;
+import br.com.delivery.domain.order.Order;
+import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.domain.order.OrderPage;
+import br.com.delivery.domain.order.OrderStatus;
+import br.com.delivery.domain.restaurant.RestaurantId;
+import br.com.delivery.domain.shared.Currency;
+import br.com.delivery.domain.shared.Money;
+
+class ShardedOrderRepositoryTest {
+  private ShardedOrderRepository repository;
+
+  @BeforeEach
+  void setup() {
+    repository = new ShardedOrderRepository(4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    repository.close();
+  }
+
+  @Test
+  void shouldFindOrdersSavedInAnyShard() {
+    List<Order> orders = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+      repository.save(order, 0);
+      orders.add(order);
+    }
+
+    for (Order order : orders) {
+      assertEquals(1, repository.findById(order.getId()).orElseThrow().getVersion());
+      assertEquals(order.getId(), repository.findDraftByClientAndRestaurant(order.getAccountId(),
+          order.getRestaurantId()).orElseThrow().getId());
+    }
+    assertEquals(20, repository.findAll().size());
+    assertTrue(repository.findById(OrderId.generate()).isEmpty());
+  }
+
+  @Test
+  void shouldPageClientOrdersWithinTheirShard() {
+    AccountId accountId = AccountId.generate();
+    LocalDateTime now = LocalDateTime.now();
+    Order oldest = restoreOrder(accountId, RestaurantId.generate(), OrderStatus.PAID, now.minusDays(2));
+    Order newest = restoreOrder(accountId, RestaurantId.generate(), OrderStatus.PAID, now);
+    repository.save(oldest);
+    repository.save(newest);
+
+    OrderPage page = repository.findPageByClientId(accountId, null, 1);
+
+    assertEquals(List.of(newest.getId()), ids(page.orders()));
+    assertEquals(ids(List.of(newest, oldest)), ids(repository.findAllByClientId(accountId)));
+  }
+
+  @Test
+  void shouldMergeRestaurantOrdersAcrossShardsFromOldestToNewest() {
+    RestaurantId restaurantId = RestaurantId.generate();
+    LocalDateTime now = LocalDateTime.now();
+    List<Order> expected = new ArrayList<>();
+    for (int i = 10; i > 0; i--) {
+      Order order = restoreOrder(AccountId.generate(), restaurantId, OrderStatus.PAID, now.minusMinutes(i));
+      repository.save(order);
+      expected.add(order);
+    }
+    repository.save(restoreOrder(AccountId.generate(), restaurantId, OrderStatus.CANCELLED, now));
+
+    assertEquals(ids(expected), ids(repository.findAllByRestaurantAndStatus(restaurantId, OrderStatus.PAID)));
+    assertEquals(10, repository.countByRestaurantAndStatus(restaurantId, OrderStatus.PAID));
+    assertEquals(1, repository.countByRestaurantAndStatus(restaurantId, OrderStatus.CANCELLED));
+  }
+
+  @Test
+  void shouldPropagateVersionConflictFromWriter() {
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    repository.save(order, 0);
+
+    Order stale = repository.findById(order.getId()).orElseThrow();
+    order.markAsCancelled();
+    repository.save(order, order.getVersion());
+
+    assertThrows(ConcurrentOrderUpdateException.class, () -> repository.save(stale, stale.getVersion()));
+  }
+
+  @Test
+  void shouldAcceptConcurrentWritesFromManyThreads() {
+    RestaurantId restaurantId = RestaurantId.generate();
+    List<CompletableFuture<Void>> writers = new ArrayList<>();
+    for (int t = 0; t < 8; t++) {
+      writers.add(CompletableFuture.runAsync(() -> {
+        for (int i = 0; i < 50; i++) {
+          repository.save(Order.create(restaurantId, AccountId.generate(), Currency.BRL), 0);
+        }
+      }));
+    }
+
+    writers.forEach(CompletableFuture::join);
+    assertEquals(400, repository.countByRestaurantAndStatus(restaurantId, OrderStatus.DRAFT));
+  }
+
+  private static Order restoreOrder(AccountId accountId, RestaurantId restaurantId, OrderStatus status,
+      LocalDateTime createdAt) {
+    return Order.restore(OrderId.generate(), restaurantId, accountId, Currency.BRL, createdAt, status, List.of(),
+        List.of(), null, Money.zero(Currency.BRL), null, null, null, null);
+  }
+
+  private static List<OrderId> ids(List<Order> orders) {
+    return orders.stream().map(Order::getId).toList();
+  }
+}
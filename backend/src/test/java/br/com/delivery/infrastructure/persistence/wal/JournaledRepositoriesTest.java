@@ -0,0 +1,205 @@
+package br.com.delivery.infrastructure.persistence.wal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import br.com.delivery.domain.account.Account;
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.account.AccountRole;
+import br.com.delivery.domain.client.Client;
+import br.com.delivery.domain.order.Order;
+import br.com.delivery.domain.order.OrderItem;
+import br.com.delivery.domain.order.OrderStatus;
+import br.com.delivery.domain.payment.PaymentId;
+import br.com.delivery.domain.restaurant.MenuItem;
+import br.com.delivery.domain.restaurant.MenuItemCategory;
+import br.com.delivery.domain.restaurant.MenuItemId;
+import br.com.delivery.domain.restaurant.OpeningHours;
+import br.com.delivery.domain.restaurant.Restaurant;
+import br.com.delivery.domain.restaurant.RestaurantId;
+import br.com.delivery.domain.restaurantowner.RestaurantOwner;
+import br.com.delivery.domain.shared.Address;
+import br.com.delivery.domain.shared.Cnpj;
+import br.com.delivery.domain.shared.Cpf;
+import br.com.delivery.domain.shared.Currency;
+import br.com.delivery.domain.shared.Email;
+import br.com.delivery.domain.shared.Money;
+import br.com.delivery.domain.shared.ZipCode;
+import br.com.delivery.infrastructure.persistence.memory.InMemoryAccountRepository;
+import br.com.delivery.infrastructure.persistence.memory.InMemoryClientRepository;
+import br.com.delivery.infrastructure.persistence.memory.InMemoryOrderRepository;
+import br.com.delivery.infrastructure.persistence.memory.InMemoryRestaurantOwnerRepository;
+import br.com.delivery.infrastructure.persistence.memory.InMemoryRestaurantRepository;
+
+class JournaledRepositoriesTest {
+  private final Address address = new Address("street", "2", null, "city", "country", new ZipCode("36704-072"));
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void shouldRestoreLatestOrderStateAfterRestart() {
+    Order order = Order.create(RestaurantId.generate(),
+        AccountId.generate(), Currency.BRL);
+
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 4096)) {
+      JournaledOrderRepository repository = new JournaledOrderRepository(new InMemoryOrderRepository(), log);
+      order.addItem(new OrderItem(MenuItemId.generate(), "Brownie", "Quente",
+          MenuItemCategory.DESSERT, Money.of(BigDecimal.valueOf(18.90), Currency.BRL), 2, 3));
+      repository.save(order);
+      order.changeDeliveryAddress(address, Money.of(BigDecimal.valueOf(5), Currency.BRL));
+      order.registerPayment(PaymentId.generate());
+      order.markAsPaid();
+      repository.save(order);
+    }
+
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 4096)) {
+      JournaledOrderRepository repository = new JournaledOrderRepository(new InMemoryOrderRepository(), log);
+      log.recover(List.of(repository));
+      Order restored = repository.findById(order.getId()).orElseThrow();
+
+      assertEquals(OrderStatus.PAID, restored.getStatus());
+      assertEquals(order.getCreatedAt(), restored.getCreatedAt());
+      assertEquals(order.getPaidAt(), restored.getPaidAt());
+      assertEquals(order.getPayments(), restored.getPayments());
+      assertEquals(address, restored.getDeliveryAddress());
+      assertEquals(order.grandTotal(), restored.grandTotal());
+      assertEquals(3, restored.getItems().get(0).getMenuVersion());
+      assertEquals(2, restored.getItems().get(0).getQuantity());
+      assertTrue(repository.findDraftByClientAndRestaurant(order.getAccountId(), order.getRestaurantId()).isEmpty());
+    }
+  }
+
+  @Test
+  void shouldNotApplyOrderSaveWhenAppendFails() {
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    WriteAheadLog log = WriteAheadLog.open(directory, 4096);
+    JournaledOrderRepository repository = new JournaledOrderRepository(new InMemoryOrderRepository(), log);
+    repository.save(order, 0);
+    log.close();
+
+    Order changed = repository.findById(order.getId()).orElseThrow();
+    changed.markAsCancelled();
+
+    assertThrows(IllegalStateException.class, () -> repository.save(changed, changed.getVersion()));
+    Order stored = repository.findById(order.getId()).orElseThrow();
+    assertEquals(OrderStatus.DRAFT, stored.getStatus());
+    assertEquals(1, stored.getVersion());
+  }
+
+  @Test
+  void shouldRestoreOrdersFromSnapshotTakenDuringConcurrentSaves() throws Exception {
+    List<Order> orders = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      orders.add(Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL));
+    }
+
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 4096)) {
+      JournaledOrderRepository repository = new JournaledOrderRepository(new InMemoryOrderRepository(), log);
+      orders.forEach(repository::save);
+
+      ExecutorService executor = Executors.newFixedThreadPool(4);
+      for (Order order : orders) {
+        executor.submit(() -> {
+          order.addItem(new OrderItem(MenuItemId.generate(), "Brownie", "Quente", MenuItemCategory.DESSERT,
+              Money.of(BigDecimal.valueOf(10), Currency.BRL), 1));
+          repository.save(order);
+        });
+      }
+      log.checkpoint(List.of(repository));
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 4096)) {
+      JournaledOrderRepository repository = new JournaledOrderRepository(new InMemoryOrderRepository(), log);
+      log.recover(List.of(repository));
+
+      for (Order order : orders) {
+        assertEquals(1, repository.findById(order.getId()).orElseThrow().getItems().size());
+      }
+    }
+  }
+
+  @Test
+  void shouldRestoreAccountsClientsAndOwnersAfterRestart() {
+    Account account = Account.create("Cliente", new Email("cliente@delivery.com"),
+        Set.of(AccountRole.BASE_CLIENT));
+    account.deactivateAccount();
+    Client client = Client.create(account.getId());
+    client.updateAddress(address);
+    client.setCpf(new Cpf("751.960.116-17"));
+    RestaurantOwner owner = RestaurantOwner.restore(AccountId.generate(), new Cnpj("12345678000199"), "Doce Ponto");
+
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 4096)) {
+      new JournaledAccountRepository(new InMemoryAccountRepository(), log).save(account);
+      new JournaledClientRepository(new InMemoryClientRepository(), log).save(client);
+      new JournaledRestaurantOwnerRepository(new InMemoryRestaurantOwnerRepository(), log).save(owner);
+    }
+
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 4096)) {
+      JournaledAccountRepository accounts = new JournaledAccountRepository(new InMemoryAccountRepository(), log);
+      JournaledClientRepository clients = new JournaledClientRepository(new InMemoryClientRepository(), log);
+      JournaledRestaurantOwnerRepository owners = new JournaledRestaurantOwnerRepository(
+          new InMemoryRestaurantOwnerRepository(), log);
+      log.recover(List.of(accounts, clients, owners));
+
+      Account restoredAccount = accounts.findById(account.getId()).orElseThrow();
+      Client restoredClient = clients.findById(client.getId()).orElseThrow();
+      RestaurantOwner restoredOwner = owners.findById(owner.getId()).orElseThrow();
+
+      assertFalse(restoredAccount.isActive());
+      assertEquals(account.getEmail(), restoredAccount.getEmail());
+      assertEquals(account.getRoles(), restoredAccount.getRoles());
+      assertEquals(address, restoredClient.getAddress());
+      assertEquals(client.getCpf(), restoredClient.getCpf());
+      assertEquals(owner.getCnpj(), restoredOwner.getCnpj());
+      assertEquals("Doce Ponto", restoredOwner.getCorporateName());
+    }
+  }
+
+  @Test
+  void shouldRestoreRestaurantMenuAndPublishedVersionAfterRestart() {
+    Restaurant restaurant = Restaurant.create(AccountId.generate(), "Doce Ponto",
+        new OpeningHours(LocalTime.of(8, 0), LocalTime.of(18, 0)), address);
+    restaurant.changeCurrency(Currency.BRL);
+    restaurant.addMenuItem("Brownie", "Quente", MenuItemCategory.DESSERT,
+        Money.of(BigDecimal.valueOf(18.90), Currency.BRL));
+    restaurant.publishMenu();
+    restaurant.publishMenu();
+    MenuItem item = restaurant.getMenu().get(0);
+    item.deactivate();
+
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 4096)) {
+      new JournaledRestaurantRepository(new InMemoryRestaurantRepository(), log).save(restaurant);
+    }
+
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 4096)) {
+      JournaledRestaurantRepository repository = new JournaledRestaurantRepository(new InMemoryRestaurantRepository(),
+          log);
+      log.recover(List.of(repository));
+      Restaurant restored = repository.findById(restaurant.getId()).orElseThrow();
+
+      assertEquals(Currency.BRL, restored.getCurrency());
+      assertEquals(restaurant.getOpeningHours(), restored.getOpeningHours());
+      assertEquals(2, restored.currentMenu().version());
+      assertEquals(1, restored.getMenu().size());
+      assertEquals(item.getId(), restored.getMenu().get(0).getId());
+      assertFalse(restored.getMenu().get(0).isActive());
+      assertEquals(item.currentPrice(), restored.getMenu().get(0).currentPrice());
+      assertEquals(1, repository.findAllByOwnerId(restaurant.getOwnerId()).size());
+    }
+  }
+}
@@ -0,0 +1,241 @@
+package br.com.delivery.infrastructure.persistence.wal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WriteAheadLogTest {
+  @TempDir
+  Path directory;
+
+  @Test
+  void shouldReplayRecordsAfterReopening() {
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 4096)) {
+      log.append(WalRecordType.ORDER, bytes("first"));
+      log.append(WalRecordType.ACCOUNT, bytes("second"));
+    }
+
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 4096)) {
+      log.append(WalRecordType.ORDER, bytes("third"));
+
+      assertEquals(List.of("ORDER:first", "ACCOUNT:second", "ORDER:third"), replay(log));
+    }
+  }
+
+  @Test
+  void shouldRecoverEachRecordIntoSourceOfItsType() {
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 4096)) {
+      log.append(WalRecordType.ORDER, bytes("order"));
+      log.append(WalRecordType.CLIENT, bytes("client"));
+      log.append(WalRecordType.ACCOUNT, bytes("account"));
+
+      RecordingSource orders = new RecordingSource(WalRecordType.ORDER);
+      RecordingSource clients = new RecordingSource(WalRecordType.CLIENT);
+      log.recover(List.of(orders, clients));
+
+      assertEquals(List.of("order"), orders.payloads);
+      assertEquals(List.of("client"), clients.payloads);
+    }
+  }
+
+  @Test
+  void shouldRollToNewSegmentWhenCurrentIsFull() throws IOException {
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 64)) {
+      for (int i = 0; i < 10; i++) {
+        log.append(WalRecordType.ORDER, bytes("record-" + i));
+      }
+    }
+
+    try (Stream<Path> files = Files.list(directory)) {
+      assertTrue(files.count() > 1);
+    }
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 64)) {
+      List<String> records = replay(log);
+
+      assertEquals(10, records.size());
+      assertEquals("ORDER:record-9", records.get(9));
+    }
+  }
+
+  @Test
+  void shouldDiscardTornRecordAtTheTail() throws IOException {
+    Path segment;
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 4096)) {
+      log.append(WalRecordType.ORDER, bytes("kept"));
+      log.append(WalRecordType.ORDER, bytes("torn"));
+    }
+    try (Stream<Path> files = Files.list(directory)) {
+      segment = files.findFirst().orElseThrow();
+    }
+    try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+      file.seek(9 + 4 + 9 + 2);
+      file.write('X');
+    }
+
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 4096)) {
+      log.append(WalRecordType.ORDER, bytes("after"));
+
+      assertEquals(List.of("ORDER:kept", "ORDER:after"), replay(log));
+    }
+  }
+
+  @Test
+  void shouldKeepReplayingPastTornRecordOverwrittenByShorterOne() throws IOException {
+    Path segment;
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 64)) {
+      log.append(WalRecordType.ORDER, bytes("kept"));
+      log.append(WalRecordType.ORDER, bytes("torn-record-with-long-payload"));
+    }
+    try (Stream<Path> files = Files.list(directory)) {
+      segment = files.findFirst().orElseThrow();
+    }
+    try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+      file.seek(9 + 4 + 9 + 2);
+      file.write('X');
+    }
+
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 64)) {
+      log.append(WalRecordType.ORDER, bytes("x"));
+      log.append(WalRecordType.ORDER, bytes("next-segment-record-payload-bytes"));
+    }
+
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 64)) {
+      assertEquals(List.of("ORDER:kept", "ORDER:x", "ORDER:next-segment-record-payload-bytes"), replay(log));
+    }
+  }
+
+  @Test
+  void shouldMakeConcurrentAppendsDurable() throws Exception {
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 4096)) {
+      ExecutorService executor = Executors.newFixedThreadPool(8);
+      for (int i = 0; i < 200; i++) {
+        String value = "record-" + i;
+        executor.submit(() -> log.append(WalRecordType.ORDER, bytes(value)));
+      }
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 4096)) {
+      assertEquals(200, replay(log).size());
+    }
+  }
+
+  @Test
+  void shouldRejectRecordLargerThanSegment() {
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 64)) {
+      assertThrows(IllegalArgumentException.class, () -> log.append(WalRecordType.ORDER, new byte[64]));
+    }
+  }
+
+  @Test
+  void shouldRejectAppendAfterClose() {
+    WriteAheadLog log = WriteAheadLog.open(directory, 4096);
+    log.close();
+
+    assertThrows(IllegalStateException.class, () -> log.append(WalRecordType.ORDER, bytes("late")));
+  }
+
+  @Test
+  void shouldReplaySnapshotFollowedByNewerRecords() throws IOException {
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 4096)) {
+      log.append(WalRecordType.ORDER, bytes("old"));
+      log.checkpoint(List.of(writer -> writer.write(WalRecordType.ORDER, () -> bytes("snapshot"))));
+      log.append(WalRecordType.ORDER, bytes("new"));
+    }
+
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 4096)) {
+      assertEquals(List.of("ORDER:snapshot", "ORDER:new"), replay(log));
+    }
+  }
+
+  @Test
+  void shouldDeleteSegmentsAndSnapshotsCoveredByCheckpoint() throws IOException {
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 4096)) {
+      log.append(WalRecordType.ORDER, bytes("first"));
+      log.checkpoint(List.of());
+      log.append(WalRecordType.ORDER, bytes("second"));
+      long firstSegment = log.checkpoint(List.of(writer -> writer.write(WalRecordType.ORDER, () -> bytes("image"))))
+          .getAsLong();
+
+      try (Stream<Path> files = Files.list(directory)) {
+        assertEquals(List.of(
+            String.format("snapshot-%020d.bin", firstSegment),
+            String.format("wal-%020d.log", firstSegment)),
+            files.map(path -> path.getFileName().toString()).sorted().toList());
+      }
+      assertEquals(List.of("ORDER:image"), replay(log));
+    }
+  }
+
+  @Test
+  void shouldSkipCheckpointWithoutNewRecords() {
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 4096)) {
+      log.append(WalRecordType.ORDER, bytes("first"));
+
+      assertTrue(log.checkpoint(List.of()).isPresent());
+      assertTrue(log.checkpoint(List.of()).isEmpty());
+    }
+  }
+
+  @Test
+  void shouldRejectCorruptedSnapshot() throws IOException {
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 4096)) {
+      log.checkpoint(List.of(writer -> writer.write(WalRecordType.ORDER, () -> bytes("snapshot"))));
+    }
+    Path snapshot;
+    try (Stream<Path> files = Files.list(directory)) {
+      snapshot = files.filter(path -> path.getFileName().toString().startsWith("snapshot-")).findFirst().orElseThrow();
+    }
+    try (RandomAccessFile file = new RandomAccessFile(snapshot.toFile(), "rw")) {
+      file.seek(20);
+      file.write('X');
+    }
+
+    try (WriteAheadLog log = WriteAheadLog.open(directory, 4096)) {
+      assertThrows(IllegalStateException.class, () -> replay(log));
+    }
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static List<String> replay(WriteAheadLog log) {
+    List<String> records = new ArrayList<>();
+    log.replay(record -> records.add(record.type() + ":" + new String(record.payload(), StandardCharsets.UTF_8)));
+    return records;
+  }
+
+  private static final class RecordingSource implements WalRecoverable {
+    private final WalRecordType type;
+    private final List<String> payloads = new ArrayList<>();
+
+    private RecordingSource(WalRecordType type) {
+      this.type = type;
+    }
+
+    @Override
+    public WalRecordType recordType() {
+      return type;
+    }
+
+    @Override
+    public void recover(byte[] payload) {
+      payloads.add(new String(payload, StandardCharsets.UTF_8));
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package br.com.delivery.infrastructure.scheduling;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class HashedTimingWheelTest {
+  @Test
+  void shouldRunTasksNoEarlierThanTheirDelay() throws InterruptedException {
+    List<Long> lateness = new CopyOnWriteArrayList<>();
+    CountDownLatch done = new CountDownLatch(3);
+
+    try (HashedTimingWheel wheel = new HashedTimingWheel(Duration.ofMillis(10), 8)) {
+      for (long delay : new long[] { 20, 60, 150 }) {
+        long scheduledAt = System.nanoTime();
+        wheel.schedule(() -> {
+          lateness.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - scheduledAt) - delay);
+          done.countDown();
+        }, Duration.ofMillis(delay));
+      }
+
+      assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+
+    assertTrue(lateness.stream().allMatch(late -> late >= 0));
+  }
+
+  @Test
+  void shouldKeepTasksForLaterRoundsInTheirBucket() throws InterruptedException {
+    List<String> executed = new CopyOnWriteArrayList<>();
+    CountDownLatch done = new CountDownLatch(2);
+
+    try (HashedTimingWheel wheel = new HashedTimingWheel(Duration.ofMillis(5), 4)) {
+      wheel.schedule(() -> {
+        executed.add("depois");
+        done.countDown();
+      }, Duration.ofMillis(100));
+      wheel.schedule(() -> {
+        executed.add("antes");
+        done.countDown();
+      }, Duration.ofMillis(10));
+
+      assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+
+    assertEquals(List.of("antes", "depois"), executed);
+  }
+
+  @Test
+  void shouldHandleManyOutstandingTasks() throws InterruptedException {
+    int tasks = 100_000;
+    CountDownLatch done = new CountDownLatch(tasks);
+
+    try (HashedTimingWheel wheel = new HashedTimingWheel(Duration.ofMillis(1), 64)) {
+      for (int i = 0; i < tasks; i++) {
+        wheel.schedule(done::countDown, Duration.ofMillis(i % 200));
+      }
+
+      assertTrue(done.await(10, TimeUnit.SECONDS));
+      assertEquals(0, wheel.pendingTasks());
+    }
+  }
+
+  @Test
+  void shouldSurviveFailingTask() throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(1);
+
+    try (HashedTimingWheel wheel = new HashedTimingWheel(Duration.ofMillis(5), 8)) {
+      wheel.schedule(() -> {
+        throw new IllegalStateException("falha");
+      }, Duration.ZERO);
+      wheel.schedule(done::countDown, Duration.ofMillis(20));
+
+      assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+  }
+}
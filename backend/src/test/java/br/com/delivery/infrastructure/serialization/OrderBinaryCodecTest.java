@@ -0,0 +1,135 @@
+package br.com.delivery.infrastructure.serialization;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.order.Order;
+import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.domain.order.OrderItem;
+import br.com.delivery.domain.order.OrderStatus;
+import br.com.delivery.domain.payment.PaymentId;
+import br.com.delivery.domain.restaurant.MenuItemCategory;
+import br.com.delivery.domain.restaurant.MenuItemId;
+import br.com.delivery.domain.restaurant.RestaurantId;
+import br.com.delivery.domain.shared.Address;
+import br.com.delivery.domain.shared.Currency;
+import br.com.delivery.domain.shared.Money;
+import br.com.delivery.domain.shared.ZipCode;
+
+class OrderBinaryCodecTest {
+  private final Address address = new Address("street", "2", null, "city", "country", new ZipCode("36704-072"));
+  private final LocalDateTime createdAt = LocalDateTime.of(2024, 3, 10, 12, 30, 15, 123_456_789);
+
+  @Test
+  void shouldRoundTripDraftOrder() {
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    order.addItem(item("Brownie", 2, 3));
+    order.addItem(item("Cookie", 1, 0));
+
+    assertSameOrder(order, OrderBinaryCodec.decode(OrderBinaryCodec.encode(order)));
+  }
+
+  @Test
+  void shouldRoundTripRestoredOrderWithTimestampsAndPayments() {
+    Order order = Order.restore(OrderId.generate(), RestaurantId.generate(), AccountId.generate(), Currency.BRL,
+        createdAt, OrderStatus.CANCELLED, List.of(item("Brownie", 2, 7)),
+        List.of(PaymentId.generate(), PaymentId.generate()), address, Money.ofMinorUnits(500, Currency.BRL),
+        createdAt.plusMinutes(1), createdAt.plusMinutes(2), createdAt.plusMinutes(3), null, 7);
+
+    Order decoded = OrderBinaryCodec.decode(OrderBinaryCodec.encode(order));
+
+    assertSameOrder(order, decoded);
+    assertEquals(123_456_789, decoded.getCreatedAt().getNano());
+    assertTrue(decoded.getDeliveredAt().isEmpty());
+    assertEquals(7, decoded.getVersion());
+  }
+
+  @Test
+  void shouldDecodeUnversionedFormatWithVersionZero() {
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    order.addItem(item("Brownie", 2, 3));
+    byte[] bytes = OrderBinaryCodec.encode(order);
+    byte[] unversioned = Arrays.copyOf(bytes, bytes.length - 1);
+    unversioned[0] = 1;
+
+    Order decoded = OrderBinaryCodec.decode(unversioned);
+
+    assertSameOrder(order, decoded);
+    assertEquals(0, decoded.getVersion());
+  }
+
+  @Test
+  void shouldShareStringDictionaryAcrossOrdersInSameFrame() {
+    Order first = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    Order second = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    first.addItem(item("Brownie de Chocolate", 1, 1));
+    second.addItem(item("Brownie de Chocolate", 3, 1));
+
+    byte[] frame = OrderBinaryCodec.encodeAll(List.of(first, second));
+    List<Order> decoded = OrderBinaryCodec.decodeAll(frame);
+
+    assertTrue(frame.length < OrderBinaryCodec.encode(first).length + OrderBinaryCodec.encode(second).length - 1);
+    assertSameOrder(first, decoded.get(0));
+    assertSameOrder(second, decoded.get(1));
+  }
+
+  @Test
+  void shouldRejectUnsupportedVersion() {
+    byte[] bytes = OrderBinaryCodec.encode(Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL));
+    bytes[0] = 99;
+
+    assertThrows(IllegalStateException.class, () -> OrderBinaryCodec.decode(bytes));
+  }
+
+  @Test
+  void shouldRejectTruncatedPayload() {
+    Order order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    order.addItem(item("Brownie", 1, 1));
+    byte[] bytes = OrderBinaryCodec.encode(order);
+
+    assertThrows(IllegalStateException.class,
+        () -> OrderBinaryCodec.decode(Arrays.copyOf(bytes, bytes.length - 5)));
+  }
+
+  private static OrderItem item(String name, int quantity, long menuVersion) {
+    return new OrderItem(MenuItemId.generate(), name, "Descrição de " + name, MenuItemCategory.DESSERT,
+        Money.ofMinorUnits(1890, Currency.BRL), quantity, menuVersion);
+  }
+
+  private static void assertSameOrder(Order expected, Order actual) {
+    assertEquals(expected.getId(), actual.getId());
+    assertEquals(expected.getRestaurantId(), actual.getRestaurantId());
+    assertEquals(expected.getAccountId(), actual.getAccountId());
+    assertEquals(expected.getCurrency(), actual.getCurrency());
+    assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+    assertEquals(expected.getStatus(), actual.getStatus());
+    assertEquals(expected.getVersion(), actual.getVersion());
+    assertEquals(expected.getPayments(), actual.getPayments());
+    assertEquals(expected.getDeliveryAddress(), actual.getDeliveryAddress());
+    assertEquals(expected.getDeliveryFee(), actual.getDeliveryFee());
+    assertEquals(expected.getPaidAt(), actual.getPaidAt());
+    assertEquals(expected.getConfirmedAt(), actual.getConfirmedAt());
+    assertEquals(expected.getCancelledAt(), actual.getCancelledAt());
+    assertEquals(expected.getDeliveredAt(), actual.getDeliveredAt());
+    assertEquals(expected.total(), actual.total());
+    assertEquals(expected.grandTotal(), actual.grandTotal());
+    assertEquals(expected.getItems().size(), actual.getItems().size());
+    for (int i = 0; i < expected.getItems().size(); i++) {
+      OrderItem expectedItem = expected.getItems().get(i);
+      OrderItem actualItem = actual.getItems().get(i);
+      assertEquals(expectedItem.getMenuItemId(), actualItem.getMenuItemId());
+      assertEquals(expectedItem.getMenuItemName(), actualItem.getMenuItemName());
+      assertEquals(expectedItem.getMenuItemDescription(), actualItem.getMenuItemDescription());
+      assertEquals(expectedItem.getMenuItemCategory(), actualItem.getMenuItemCategory());
+      assertEquals(expectedItem.getUnitPrice(), actualItem.getUnitPrice());
+      assertEquals(expectedItem.getQuantity(), actualItem.getQuantity());
+      assertEquals(expectedItem.getMenuVersion(), actualItem.getMenuVersion());
+    }
+  }
+}
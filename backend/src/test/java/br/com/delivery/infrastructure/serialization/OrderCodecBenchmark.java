@@ -0,0 +1,121 @@
+package br.com.delivery.infrastructure.serialization;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import br.com.delivery.domain.account.AccountId;
+import br.com.delivery.domain.order.Order;
+import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.domain.order.OrderItem;
+import br.com.delivery.domain.order.OrderStatus;
+import br.com.delivery.domain.payment.PaymentId;
+import br.com.delivery.domain.restaurant.MenuItemCategory;
+import br.com.delivery.domain.restaurant.MenuItemId;
+import br.com.delivery.domain.restaurant.RestaurantId;
+import br.com.delivery.domain.shared.Address;
+import br.com.delivery.domain.shared.Currency;
+import br.com.delivery.domain.shared.Money;
+import br.com.delivery.domain.shared.ZipCode;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderCodecBenchmark {
+  @Param({ "5", "50" })
+  private int lines;
+
+  private final ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+  private Order order;
+  private byte[] binary;
+  private byte[] json;
+
+  @Setup
+  public void setup() throws Exception {
+    order = Order.create(RestaurantId.generate(), AccountId.generate(), Currency.BRL);
+    for (int i = 0; i < lines; i++) {
+      order.addItem(new OrderItem(MenuItemId.generate(), "Brownie de Chocolate " + (i % 5),
+          "Brownie com calda quente", MenuItemCategory.DESSERT, Money.ofMinorUnits(1890, Currency.BRL), i + 1, 1));
+    }
+    order.changeDeliveryAddress(new Address("Rua das Flores", "100", "Loja 1", "Belo Horizonte", "Brasil",
+        new ZipCode("30110-000")), Money.ofMinorUnits(500, Currency.BRL));
+    order.registerPayment(PaymentId.generate());
+
+    binary = OrderBinaryCodec.encode(order);
+    json = mapper.writeValueAsBytes(OrderDocument.of(order));
+  }
+
+  @Benchmark
+  public byte[] binaryEncode() {
+    return OrderBinaryCodec.encode(order);
+  }
+
+  @Benchmark
+  public Order binaryDecode() {
+    return OrderBinaryCodec.decode(binary);
+  }
+
+  @Benchmark
+  public byte[] jacksonEncode() throws Exception {
+    return mapper.writeValueAsBytes(OrderDocument.of(order));
+  }
+
+  @Benchmark
+  public Order jacksonDecode() throws Exception {
+    return mapper.readValue(json, OrderDocument.class).toOrder();
+  }
+
+  public record OrderDocument(UUID id, UUID restaurantId, UUID accountId, Currency currency,
+      LocalDateTime createdAt, OrderStatus status, List<ItemDocument> items, List<UUID> payments, Address address,
+      BigDecimal deliveryFee, LocalDateTime paidAt, LocalDateTime confirmedAt, LocalDateTime cancelledAt,
+      LocalDateTime deliveredAt) {
+    static OrderDocument of(Order order) {
+      return new OrderDocument(order.getId().value(), order.getRestaurantId().value(), order.getAccountId().value(),
+          order.getCurrency(), order.getCreatedAt(), order.getStatus(),
+          order.getItems().stream().map(ItemDocument::of).toList(),
+          order.getPayments().stream().map(PaymentId::value).toList(), order.getDeliveryAddress(),
+          order.getDeliveryFee().amount(), order.getPaidAt().orElse(null), order.getConfirmedAt().orElse(null),
+          order.getCancelledAt().orElse(null), order.getDeliveredAt().orElse(null));
+    }
+
+    Order toOrder() {
+      return Order.restore(new OrderId(id), new RestaurantId(restaurantId), new AccountId(accountId), currency,
+          createdAt, status, items.stream().map(item -> item.toItem(currency)).toList(),
+          payments.stream().map(PaymentId::new).toList(), address, Money.of(deliveryFee, currency), paidAt,
+          confirmedAt, cancelledAt, deliveredAt);
+    }
+  }
+
+  public record ItemDocument(UUID menuItemId, String name, String description, MenuItemCategory category,
+      BigDecimal unitPrice, int quantity, long menuVersion) {
+    static ItemDocument of(OrderItem item) {
+      return new ItemDocument(item.getMenuItemId().value(), item.getMenuItemName(), item.getMenuItemDescription(),
+          item.getMenuItemCategory(), item.getUnitPrice().amount(), item.getQuantity(), item.getMenuVersion());
+    }
+
+    OrderItem toItem(Currency currency) {
+      return new OrderItem(new MenuItemId(menuItemId), name, description, category, Money.of(unitPrice, currency),
+          quantity, menuVersion);
+    }
+  }
+}
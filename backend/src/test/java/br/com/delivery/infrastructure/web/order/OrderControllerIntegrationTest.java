@@ -1,24 +1,42 @@
 package br.com.delivery.infrastructure.web.order;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.hamcrest.Matchers.containsString;
 
+import java.time.Duration;
+import java.util.UUID;
+
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import br.com.delivery.domain.order.Order;
+import br.com.delivery.domain.order.OrderId;
+import br.com.delivery.domain.order.OrderStatus;
+import br.com.delivery.domain.payment.FakeApprovedPaymentMethod;
+import br.com.delivery.domain.payment.IPaymentMethod;
+import br.com.delivery.domain.repositories.IOrderRepository;
+import br.com.delivery.domain.shared.Address;
+import br.com.delivery.domain.shared.Currency;
+import br.com.delivery.domain.shared.Money;
+import br.com.delivery.domain.shared.ZipCode;
+
 @SpringBootTest
 @AutoConfigureMockMvc
 @TestPropertySource(properties = "app.seed.enabled=true")
@@ -35,6 +53,17 @@ class OrderControllerIntegrationTest {
   @Autowired
   private ObjectMapper objectMapper;
 
+  @Autowired
+  private IOrderRepository orderRepository;
+
+  @TestConfiguration
+  static class PaymentMethods {
+    @Bean
+    IPaymentMethod pix() {
+      return new FakeApprovedPaymentMethod();
+    }
+  }
+
   @Test
   void shouldCreateAndCancelOrderThroughHttpFlow() throws Exception {
     String orderId = createOrderAndReturnId(1);
@@ -68,6 +97,128 @@ class OrderControllerIntegrationTest {
         .andExpect(jsonPath("$.items.length()").value(0));
   }
 
+  @Test
+  void shouldReplayResponseForRepeatedIdempotencyKey() throws Exception {
+    String orderId = addItemWithIdempotencyKey("tentativa-1");
+
+    assertEquals(orderId, addItemWithIdempotencyKey("tentativa-1"));
+
+    mockMvc.perform(patch("/orders/{orderId}/items/{menuItemId}/decrease", orderId, MENU_ITEM_ID)
+        .queryParam("quantity", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items.length()").value(0));
+  }
+
+  @Test
+  void shouldRejectIdempotencyKeyReusedWithDifferentBody() throws Exception {
+    addItemWithIdempotencyKey("tentativa-1");
+
+    mockMvc.perform(post("/orders/items")
+        .header("Idempotency-Key", "tentativa-1")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(addItemPayload(ACCOUNT_ID, 5)))
+        .andExpect(status().isUnprocessableEntity());
+  }
+
+  @Test
+  void shouldScopeIdempotencyKeyByAccount() throws Exception {
+    addItemWithIdempotencyKey("tentativa-1");
+
+    mockMvc.perform(post("/orders/items")
+        .header("Idempotency-Key", "tentativa-1")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(addItemPayload(NON_EXISTENT_ORDER_ID, 2)))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  void shouldAddItemsInBatchThroughHttpFlow() throws Exception {
+    String payload = String.format("""
+        {
+          "accountId": "%s",
+          "restaurantId": "%s",
+          "items": [
+            { "menuItemId": "%s", "quantity": 2 },
+            { "menuItemId": "%s", "quantity": 1 }
+          ]
+        }
+        """, ACCOUNT_ID, RESTAURANT_ID, MENU_ITEM_ID, MENU_ITEM_ID);
+
+    mockMvc.perform(post("/orders/items:batch")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(payload))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.orderId").isNotEmpty())
+        .andExpect(jsonPath("$.total").value(56.70))
+        .andExpect(jsonPath("$.items.length()").value(1))
+        .andExpect(jsonPath("$.items[0].menuItemId").value(MENU_ITEM_ID))
+        .andExpect(jsonPath("$.items[0].quantity").value(3));
+  }
+
+  @Test
+  void shouldExposeExecutorMetricsThroughActuator() throws Exception {
+    createOrderAndReturnId(1);
+
+    mockMvc.perform(get("/actuator/orderexecutor").queryParam("limit", "5"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.completedCommands").isNumber());
+  }
+
+  @Test
+  void shouldAcceptPaymentAndMarkOrderAsPaid() throws Exception {
+    String orderId = createOrderAndReturnId(1);
+    OrderId id = new OrderId(UUID.fromString(orderId));
+    Order order = orderRepository.findById(id).orElseThrow();
+    order.changeDeliveryAddress(new Address("rua", "123", "casa", "cidade", "país", new ZipCode("36703-072")),
+        Money.of(5.0, Currency.BRL));
+    orderRepository.save(order, order.getVersion());
+
+    String paymentId = payOrder(orderId, "pix", "pagamento-1");
+    assertEquals(paymentId, payOrder(orderId, "pix", "pagamento-1"));
+
+    long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    while (orderRepository.findById(id).orElseThrow().getStatus() != OrderStatus.PAID
+        && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+    assertEquals(OrderStatus.PAID, orderRepository.findById(id).orElseThrow().getStatus());
+    assertEquals(1, orderRepository.findById(id).orElseThrow().getPayments().size());
+  }
+
+  @Test
+  void shouldRejectPaymentForUnsupportedMethodOrUnpayableOrder() throws Exception {
+    String orderId = createOrderAndReturnId(1);
+
+    mockMvc.perform(post("/orders/{orderId}/payments", orderId)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("{ \"paymentMethod\": \"boleto\" }"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message", containsString("Meio de pagamento não suportado")));
+
+    mockMvc.perform(post("/orders/{orderId}/payments", orderId)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("{ \"paymentMethod\": \"pix\" }"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message", containsString("endereço de entrega")));
+  }
+
+  @Test
+  void shouldReturnBadRequestWhenBatchHasNoItems() throws Exception {
+    String payload = String.format("""
+        {
+          "accountId": "%s",
+          "restaurantId": "%s",
+          "items": []
+        }
+        """, ACCOUNT_ID, RESTAURANT_ID);
+
+    mockMvc.perform(post("/orders/items:batch")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(payload))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.status").value(400));
+  }
+
   @Test
   void shouldReturnBadRequestWhenOrderIdIsInvalidOnCancel() throws Exception {
     mockMvc.perform(delete("/orders/{orderId}", "invalid-uuid"))
@@ -145,4 +296,38 @@ class OrderControllerIntegrationTest {
     JsonNode responseBody = objectMapper.readTree(createOrderResult.getResponse().getContentAsString());
     return responseBody.get("orderId").asText();
   }
+
+  private String payOrder(String orderId, String paymentMethod, String idempotencyKey) throws Exception {
+    MvcResult result = mockMvc.perform(post("/orders/{orderId}/payments", orderId)
+        .header("Idempotency-Key", idempotencyKey)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(String.format("{ \"paymentMethod\": \"%s\" }", paymentMethod)))
+        .andExpect(status().isAccepted())
+        .andExpect(jsonPath("$.orderId").value(orderId))
+        .andReturn();
+
+    return objectMapper.readTree(result.getResponse().getContentAsString()).get("paymentId").asText();
+  }
+
+  private String addItemWithIdempotencyKey(String idempotencyKey) throws Exception {
+    MvcResult result = mockMvc.perform(post("/orders/items")
+        .header("Idempotency-Key", idempotencyKey)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(addItemPayload(ACCOUNT_ID, 2)))
+        .andExpect(status().isCreated())
+        .andReturn();
+
+    return objectMapper.readTree(result.getResponse().getContentAsString()).get("orderId").asText();
+  }
+
+  private static String addItemPayload(String accountId, int quantity) {
+    return String.format("""
+        {
+          "accountId": "%s",
+          "restaurantId": "%s",
+          "menuItemId": "%s",
+          "quantity": %d
+        }
+        """, accountId, RESTAURANT_ID, MENU_ITEM_ID, quantity);
+  }
 }